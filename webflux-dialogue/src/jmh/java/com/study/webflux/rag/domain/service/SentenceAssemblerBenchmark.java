@@ -0,0 +1,58 @@
+package com.study.webflux.rag.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import reactor.core.publisher.Flux;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SentenceAssemblerBenchmark {
+
+	private static final String[] TOKENS = {
+		"안녕", "하세요", " 오늘", " 회의", "는", " 오후", " 3", "시", "에", " 진행", "됩니다", ".",
+		" 자료", "를", " 미리", " 확인", "해", " 주세요", "!", " 질문", "이", " 있", "나요", "?",
+		" The", " release", " is", " scheduled", " for", " Friday", "."
+	};
+
+	@Param({"100", "1000", "10000"})
+	private int tokenCount;
+
+	private SentenceAssembler assembler;
+	private List<String> tokens;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		assembler = new SentenceAssembler();
+		SplittableRandom random = new SplittableRandom(42L);
+		tokens = new ArrayList<>(tokenCount);
+		for (int i = 0; i < tokenCount; i++) {
+			tokens.add(TOKENS[random.nextInt(TOKENS.length)]);
+		}
+	}
+
+	@Benchmark
+	public void assemble(Blackhole blackhole) {
+		assembler.assemble(Flux.fromIterable(tokens)).subscribe(blackhole::consume);
+	}
+}
@@ -0,0 +1,58 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamChunkParsingBenchmark {
+
+	@Param({"content", "role", "done"})
+	private String chunkType;
+
+	private SseTokenParser parser;
+	private byte[] frame;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		parser = new SseTokenParser(new JsonFactory(), SseTokenParser.OPENAI_DELTA_CONTENT);
+		String chunk = switch (chunkType) {
+			case "role" -> "data: {\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,"
+				+ "\"model\":\"gpt-4.1-nano\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"},"
+				+ "\"logprobs\":null,\"finish_reason\":null}]}";
+			case "done" -> "data: [DONE]";
+			default -> "data: {\"id\":\"chatcmpl-1\",\"object\":\"chat.completion.chunk\",\"created\":1700000000,"
+				+ "\"model\":\"gpt-4.1-nano\",\"system_fingerprint\":\"fp_1\",\"choices\":[{\"index\":0,"
+				+ "\"delta\":{\"content\":\" 회의는\"},\"logprobs\":null,\"finish_reason\":null}]}";
+		};
+		frame = (chunk + "\n\n").getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public void parseFrame(Blackhole blackhole) {
+		DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(frame);
+		blackhole.consume(parser.parse(buffer));
+	}
+}
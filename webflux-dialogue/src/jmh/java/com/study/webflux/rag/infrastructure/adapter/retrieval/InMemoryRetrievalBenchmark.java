@@ -0,0 +1,83 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryRetrievalBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+
+	@Param({"10000", "100000"})
+	private int corpusSize;
+
+	private InMemoryRetrievalAdapter adapter;
+	private String[] queries;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SyntheticCorpus corpus = new SyntheticCorpus(42L);
+		List<ConversationTurn> turns = new ArrayList<>(corpusSize);
+		Instant now = Instant.now();
+		for (int i = 0; i < corpusSize; i++) {
+			turns.add(ConversationTurn.withId(String.valueOf(i), corpus.turn(i), null, now));
+		}
+		adapter = new InMemoryRetrievalAdapter(new FixedConversationRepository(turns));
+		queries = new String[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			queries[i] = corpus.query();
+		}
+	}
+
+	@Benchmark
+	public RetrievalContext retrieve() {
+		String query = queries[cursor++ & (QUERY_COUNT - 1)];
+		return adapter.retrieve(query, 3).block();
+	}
+
+	private record FixedConversationRepository(List<ConversationTurn> turns) implements ConversationRepository {
+
+		@Override
+		public Mono<ConversationTurn> save(ConversationTurn turn) {
+			return Mono.just(turn);
+		}
+
+		@Override
+		public Flux<ConversationTurn> findRecent(int limit) {
+			return Flux.fromIterable(turns).take(limit);
+		}
+
+		@Override
+		public Flux<ConversationTurn> findAll() {
+			return Flux.fromIterable(turns);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.Bm25Scorer;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.InvertedIndex;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.ShardedInvertedIndex;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx24g"})
+public class InvertedIndexBenchmark {
+
+	private static final int QUERY_COUNT = 1024;
+
+	@Param({"10000", "100000", "1000000", "10000000"})
+	private int corpusSize;
+
+	@Param({"1", "4"})
+	private int shards;
+
+	private Scheduler scheduler;
+	private ShardedInvertedIndex index;
+	private String[] queries;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Bm25Scorer scorer = Bm25Scorer.defaults();
+		List<InvertedIndex> partitions = new ArrayList<>(shards);
+		for (int i = 0; i < shards; i++) {
+			partitions.add(new InvertedIndex(scorer));
+		}
+		scheduler = Schedulers.newParallel("retrieval-benchmark", shards, true);
+		index = new ShardedInvertedIndex(scorer, partitions, scheduler);
+
+		SyntheticCorpus corpus = new SyntheticCorpus(42L);
+		for (int i = 0; i < corpusSize; i++) {
+			index.upsert(String.valueOf(i), corpus.turn(i));
+		}
+		queries = new String[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			queries[i] = corpus.query();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Benchmark
+	public List<RetrievalDocument> search() {
+		String query = queries[cursor++ & (QUERY_COUNT - 1)];
+		return index.search(query, 3).block();
+	}
+}
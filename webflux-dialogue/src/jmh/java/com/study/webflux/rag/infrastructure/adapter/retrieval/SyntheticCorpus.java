@@ -0,0 +1,39 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.util.SplittableRandom;
+
+final class SyntheticCorpus {
+
+	private static final String[] NOUNS = {
+		"회의", "일정", "점심", "메뉴", "프로젝트", "보고서", "예산", "출장", "휴가", "고객", "계약", "발표",
+		"자료", "팀장", "마감", "검토", "배포", "서버", "장애", "로그", "테스트", "리뷰", "디자인", "기획",
+		"meeting", "roadmap", "budget", "release", "deploy", "incident", "review", "design", "client", "invoice"
+	};
+	private static final String[] PARTICLES = {"", "는", "을", "를", "에서", "의", "도", "으로", "이", "가"};
+	private static final String[] ENDINGS = {"했습니다", "합니다", "해요", "할까요", "했어요", "입니다"};
+
+	private final SplittableRandom random;
+
+	SyntheticCorpus(long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+	String turn(long id) {
+		StringBuilder builder = new StringBuilder(64);
+		int words = 4 + random.nextInt(8);
+		for (int i = 0; i < words; i++) {
+			builder.append(noun()).append(PARTICLES[random.nextInt(PARTICLES.length)]).append(' ');
+		}
+		builder.append(ENDINGS[random.nextInt(ENDINGS.length)]).append(' ').append(id);
+		return builder.toString();
+	}
+
+	String query() {
+		return noun() + PARTICLES[random.nextInt(PARTICLES.length)] + " " + noun() + " " + noun();
+	}
+
+	private String noun() {
+		double skewed = Math.pow(random.nextDouble(), 3);
+		return NOUNS[(int)(skewed * NOUNS.length)];
+	}
+}
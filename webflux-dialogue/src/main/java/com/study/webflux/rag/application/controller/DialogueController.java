@@ -4,8 +4,6 @@ import com.study.webflux.rag.application.dto.RagDialogueRequest;
 import com.study.webflux.rag.domain.port.in.DialoguePipelineUseCase;
 import jakarta.validation.Valid;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferFactory;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,16 +30,12 @@ public class DialogueController {
 
 	@PostMapping(path = "/audio/wav", produces = "audio/wav")
 	public Flux<DataBuffer> ragDialogueAudioWav(@Valid @RequestBody RagDialogueRequest request) {
-		DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
-		return dialoguePipelineUseCase.executeAudioStreaming(request.text())
-			.map(bufferFactory::wrap);
+		return dialoguePipelineUseCase.executeAudioBufferStreaming(request.text());
 	}
 
 	@PostMapping(path = "/audio/mp3", produces = "audio/mpeg")
 	public Flux<DataBuffer> ragDialogueAudioMp3(@Valid @RequestBody RagDialogueRequest request) {
-		DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
-		return dialoguePipelineUseCase.executeAudioStreaming(request.text())
-			.map(bufferFactory::wrap);
+		return dialoguePipelineUseCase.executeAudioBufferStreaming(request.text());
 	}
 
 	@PostMapping(path = "/audio", produces = "audio/wav")
@@ -1,27 +1,57 @@
 package com.study.webflux.rag.application.monitoring;
 
 import java.time.Clock;
+import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DialoguePipelineMonitor {
 
+	private static final Logger log = LoggerFactory.getLogger(DialoguePipelineMonitor.class);
+
 	private final PipelineMetricsReporter reporter;
+	private final List<UpstreamMetricsSource> upstreamMetrics;
 	private final Clock clock;
 
 	@Autowired
+	public DialoguePipelineMonitor(
+		List<PipelineMetricsReporter> reporters,
+		ObjectProvider<UpstreamMetricsSource> upstreamMetrics) {
+		this(composite(List.copyOf(reporters)), upstreamMetrics.orderedStream().toList(), Clock.systemUTC());
+	}
+
 	public DialoguePipelineMonitor(PipelineMetricsReporter reporter) {
-		this(reporter, Clock.systemUTC());
+		this(reporter, List.of(), Clock.systemUTC());
 	}
 
-	DialoguePipelineMonitor(PipelineMetricsReporter reporter, Clock clock) {
+	DialoguePipelineMonitor(
+		PipelineMetricsReporter reporter,
+		List<UpstreamMetricsSource> upstreamMetrics,
+		Clock clock) {
 		this.reporter = reporter;
+		this.upstreamMetrics = List.copyOf(upstreamMetrics);
 		this.clock = clock;
 	}
 
 	public DialoguePipelineTracker create(String inputText) {
-		return new DialoguePipelineTracker(inputText, reporter, clock);
+		return new DialoguePipelineTracker(inputText, reporter, clock, upstreamMetrics);
+	}
+
+	private static PipelineMetricsReporter composite(List<PipelineMetricsReporter> reporters) {
+		return summary -> {
+			for (PipelineMetricsReporter reporter : reporters) {
+				try {
+					reporter.report(summary);
+				}
+				catch (RuntimeException e) {
+					log.warn("Pipeline metrics reporter {} failed", reporter.getClass().getSimpleName(), e);
+				}
+			}
+		};
 	}
 }
@@ -22,6 +22,7 @@ public class DialoguePipelineTracker {
 	private final String pipelineId;
 	private final PipelineMetricsReporter reporter;
 	private final Clock clock;
+	private final List<UpstreamMetricsSource> upstreamMetrics;
 	private final Instant startedAt;
 	private final Map<DialoguePipelineStage, StageMetric> stageMetrics = new EnumMap<>(DialoguePipelineStage.class);
 	private final Map<String, Object> attributes = new ConcurrentHashMap<>();
@@ -32,9 +33,18 @@ public class DialoguePipelineTracker {
 	private volatile Instant finishedAt;
 
 	public DialoguePipelineTracker(String inputText, PipelineMetricsReporter reporter, Clock clock) {
+		this(inputText, reporter, clock, List.of());
+	}
+
+	public DialoguePipelineTracker(
+		String inputText,
+		PipelineMetricsReporter reporter,
+		Clock clock,
+		List<UpstreamMetricsSource> upstreamMetrics) {
 		this.pipelineId = UUID.randomUUID().toString();
 		this.reporter = Objects.requireNonNull(reporter, "reporter must not be null");
 		this.clock = Objects.requireNonNull(clock, "clock must not be null");
+		this.upstreamMetrics = List.copyOf(upstreamMetrics);
 		this.startedAt = clock.instant();
 		recordPipelineAttribute("input.length", inputText == null ? 0 : inputText.length());
 		recordPipelineAttribute("input.preview", preview(inputText));
@@ -45,6 +55,7 @@ public class DialoguePipelineTracker {
 		return Mono.defer(() -> {
 			StageMetric metric = stageMetric(stage);
 			metric.start(clock.instant());
+			recordUpstreamMetrics(stage, metric);
 			Mono<T> publisher = Objects.requireNonNull(supplier.get(), "supplier returned null");
 			return publisher
 				.doOnSuccess(value -> metric.complete(clock.instant()))
@@ -58,6 +69,7 @@ public class DialoguePipelineTracker {
 		return Flux.defer(() -> {
 			StageMetric metric = stageMetric(stage);
 			metric.start(clock.instant());
+			recordUpstreamMetrics(stage, metric);
 			Flux<T> publisher = Objects.requireNonNull(supplier.get(), "supplier returned null");
 			return publisher
 				.doOnComplete(() -> metric.complete(clock.instant()))
@@ -109,6 +121,14 @@ public class DialoguePipelineTracker {
 		return stageMetrics.computeIfAbsent(stage, StageMetric::new);
 	}
 
+	private void recordUpstreamMetrics(DialoguePipelineStage stage, StageMetric metric) {
+		for (UpstreamMetricsSource source : upstreamMetrics) {
+			if (source.stage() == stage) {
+				source.metrics().forEach(metric::putAttribute);
+			}
+		}
+	}
+
 	private void finish(PipelineStatus status, Throwable error) {
 		if (finished.compareAndSet(false, true)) {
 			if (error != null) {
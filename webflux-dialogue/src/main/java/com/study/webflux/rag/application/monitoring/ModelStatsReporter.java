@@ -0,0 +1,55 @@
+package com.study.webflux.rag.application.monitoring;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class ModelStatsReporter implements PipelineMetricsReporter {
+
+	private static final double SMOOTHING = 0.2;
+
+	private final Map<String, ModelStats> stats = new ConcurrentHashMap<>();
+
+	@Override
+	public void report(DialoguePipelineTracker.PipelineSummary summary) {
+		summary.stages().stream()
+			.filter(stage -> stage.stage() == DialoguePipelineStage.LLM_COMPLETION)
+			.filter(stage -> stage.status() == StageStatus.COMPLETED)
+			.findFirst()
+			.ifPresent(this::record);
+	}
+
+	public Optional<ModelStats> stats(String model) {
+		return Optional.ofNullable(stats.get(model));
+	}
+
+	public Map<String, ModelStats> snapshot() {
+		return Map.copyOf(stats);
+	}
+
+	private void record(DialoguePipelineTracker.StageSnapshot stage) {
+		Map<String, Object> attributes = stage.attributes();
+		if (!(attributes.get("model") instanceof String model)
+			|| !(attributes.get("ttftMillis") instanceof Number ttft)) {
+			return;
+		}
+		long tokens = attributes.get("tokenCount") instanceof Number count ? count.longValue() : 0L;
+		double tokensPerSecond = stage.durationMillis() > 0 ? tokens * 1000.0 / stage.durationMillis() : 0.0;
+		ModelStats sample = new ModelStats(1, ttft.doubleValue(), tokensPerSecond);
+		stats.merge(model, sample, ModelStats::blend);
+	}
+
+	public record ModelStats(long samples, double ttftMillis, double tokensPerSecond) {
+
+		ModelStats blend(ModelStats sample) {
+			return new ModelStats(
+				samples + 1,
+				ttftMillis + SMOOTHING * (sample.ttftMillis - ttftMillis),
+				tokensPerSecond + SMOOTHING * (sample.tokensPerSecond - tokensPerSecond)
+			);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.study.webflux.rag.application.monitoring;
+
+import java.util.Map;
+
+public interface UpstreamMetricsSource {
+	DialoguePipelineStage stage();
+
+	Map<String, Object> metrics();
+}
@@ -0,0 +1,216 @@
+package com.study.webflux.rag.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+final class AudioFrameCoalescer<T> {
+
+	private final int targetBytes;
+	private final Duration maxLatency;
+	private final ToIntFunction<T> sizeOf;
+	private final Function<List<T>, T> join;
+
+	AudioFrameCoalescer(int targetBytes, Duration maxLatency, ToIntFunction<T> sizeOf, Function<List<T>, T> join) {
+		this.targetBytes = targetBytes;
+		this.maxLatency = maxLatency;
+		this.sizeOf = sizeOf;
+		this.join = join;
+	}
+
+	static AudioFrameCoalescer<byte[]> forBytes(int targetBytes, Duration maxLatency) {
+		return new AudioFrameCoalescer<>(targetBytes, maxLatency, chunk -> chunk.length, chunks -> {
+			int total = chunks.stream().mapToInt(chunk -> chunk.length).sum();
+			byte[] frame = new byte[total];
+			int offset = 0;
+			for (byte[] chunk : chunks) {
+				System.arraycopy(chunk, 0, frame, offset, chunk.length);
+				offset += chunk.length;
+			}
+			return frame;
+		});
+	}
+
+	static AudioFrameCoalescer<DataBuffer> forBuffers(int targetBytes, Duration maxLatency) {
+		return new AudioFrameCoalescer<>(targetBytes, maxLatency, DataBuffer::readableByteCount,
+			chunks -> chunks.get(0).factory().join(chunks));
+	}
+
+	Flux<T> coalesce(Flux<T> source, Consumer<FrameStats> onComplete) {
+		if (targetBytes <= 0) {
+			return source;
+		}
+		return Flux.create(sink -> {
+			Framing framing = new Framing(sink, onComplete);
+			sink.onDispose(framing::release);
+			source.subscribe(framing);
+			sink.onRequest(framing::onRequest);
+		});
+	}
+
+	record FrameStats(
+		long chunks,
+		long frames,
+		long bytes,
+		int minFrameBytes,
+		int maxFrameBytes,
+		long latencyFlushes
+	) {
+		long averageFrameBytes() {
+			return frames == 0 ? 0 : bytes / frames;
+		}
+	}
+
+	private final class Framing extends BaseSubscriber<T> {
+
+		private final FluxSink<T> sink;
+		private final Consumer<FrameStats> onComplete;
+		private final List<T> pending = new ArrayList<>();
+		private int pendingBytes;
+		private boolean first = true;
+		private boolean flushDue;
+		private boolean timedFlush;
+		private boolean awaitingChunk;
+		private boolean upstreamDone;
+		private boolean completed;
+		private Disposable flushTimer;
+		private long chunks;
+		private long frames;
+		private long bytes;
+		private int minFrameBytes = Integer.MAX_VALUE;
+		private int maxFrameBytes;
+		private long latencyFlushes;
+
+		private Framing(FluxSink<T> sink, Consumer<FrameStats> onComplete) {
+			this.sink = sink;
+			this.onComplete = onComplete;
+		}
+
+		@Override
+		public Context currentContext() {
+			return Context.of(sink.contextView());
+		}
+
+		@Override
+		protected synchronized void hookOnSubscribe(Subscription subscription) {
+			drain();
+		}
+
+		@Override
+		protected synchronized void hookOnNext(T chunk) {
+			awaitingChunk = false;
+			chunks++;
+			pending.add(chunk);
+			pendingBytes += sizeOf.applyAsInt(chunk);
+			if (first || pendingBytes >= targetBytes) {
+				first = false;
+				cancelTimer();
+				flushDue = true;
+			}
+			else if (pending.size() == 1) {
+				flushTimer = Schedulers.parallel().schedule(this::flushOnTimer, maxLatency.toNanos(),
+					TimeUnit.NANOSECONDS);
+			}
+			drain();
+		}
+
+		@Override
+		protected synchronized void hookOnComplete() {
+			upstreamDone = true;
+			cancelTimer();
+			flushDue = !pending.isEmpty();
+			drain();
+		}
+
+		@Override
+		protected void hookOnError(Throwable error) {
+			discardPending();
+			sink.error(error);
+		}
+
+		private synchronized void onRequest(long demand) {
+			drain();
+		}
+
+		private synchronized void flushOnTimer() {
+			flushTimer = null;
+			if (!pending.isEmpty() && !flushDue) {
+				flushDue = true;
+				timedFlush = true;
+				drain();
+			}
+		}
+
+		private void drain() {
+			if (flushDue && sink.requestedFromDownstream() > 0) {
+				flushDue = false;
+				if (timedFlush) {
+					timedFlush = false;
+					latencyFlushes++;
+				}
+				emit();
+			}
+			if (upstreamDone) {
+				if (!flushDue && !completed) {
+					completed = true;
+					onComplete.accept(new FrameStats(chunks, frames, bytes, frames == 0 ? 0 : minFrameBytes,
+						maxFrameBytes, latencyFlushes));
+					sink.complete();
+				}
+				return;
+			}
+			if (!flushDue && !awaitingChunk && upstream() != null && sink.requestedFromDownstream() > 0) {
+				awaitingChunk = true;
+				request(1);
+			}
+		}
+
+		private void emit() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			T frame = pending.size() == 1 ? pending.get(0) : join.apply(new ArrayList<>(pending));
+			frames++;
+			bytes += pendingBytes;
+			minFrameBytes = Math.min(minFrameBytes, pendingBytes);
+			maxFrameBytes = Math.max(maxFrameBytes, pendingBytes);
+			pending.clear();
+			pendingBytes = 0;
+			sink.next(frame);
+		}
+
+		private void cancelTimer() {
+			if (flushTimer != null) {
+				flushTimer.dispose();
+				flushTimer = null;
+			}
+		}
+
+		private void release() {
+			cancel();
+			discardPending();
+		}
+
+		private synchronized void discardPending() {
+			cancelTimer();
+			Operators.onDiscardMultiple(pending, currentContext());
+			pending.clear();
+			pendingBytes = 0;
+		}
+	}
+}
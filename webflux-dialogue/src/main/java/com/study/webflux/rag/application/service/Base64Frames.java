@@ -0,0 +1,50 @@
+package com.study.webflux.rag.application.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+final class Base64Frames {
+
+	private static final Base64.Encoder ENCODER = Base64.getEncoder();
+
+	private Base64Frames() {
+	}
+
+	static String encode(DataBuffer frame) {
+		StringBuilder encoded = new StringBuilder((frame.readableByteCount() + 2) / 3 * 4);
+		byte[] carry = new byte[3];
+		int carried = 0;
+		try (DataBuffer.ByteBufferIterator segments = frame.readableByteBuffers()) {
+			while (segments.hasNext()) {
+				ByteBuffer segment = segments.next();
+				while (carried > 0 && carried < 3 && segment.hasRemaining()) {
+					carry[carried++] = segment.get();
+				}
+				if (carried == 3) {
+					append(encoded, ENCODER.encode(ByteBuffer.wrap(carry)));
+					carried = 0;
+				}
+				int whole = segment.remaining() - segment.remaining() % 3;
+				if (whole > 0) {
+					append(encoded, ENCODER.encode(segment.slice(segment.position(), whole)));
+					segment.position(segment.position() + whole);
+				}
+				while (segment.hasRemaining()) {
+					carry[carried++] = segment.get();
+				}
+			}
+		}
+		if (carried > 0) {
+			append(encoded, ENCODER.encode(ByteBuffer.wrap(carry, 0, carried)));
+		}
+		return encoded.toString();
+	}
+
+	private static void append(StringBuilder encoded, ByteBuffer chunk) {
+		encoded.append(new String(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining(),
+			StandardCharsets.US_ASCII));
+	}
+}
@@ -1,12 +1,14 @@
 package com.study.webflux.rag.application.service;
 
-import java.util.ArrayList;
-import java.util.Base64;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 
 import com.study.webflux.rag.application.monitoring.DialoguePipelineMonitor;
@@ -15,30 +17,41 @@ import com.study.webflux.rag.application.monitoring.DialoguePipelineTracker;
 import com.study.webflux.rag.domain.model.conversation.ConversationContext;
 import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
 import com.study.webflux.rag.domain.model.llm.CompletionRequest;
-import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.model.llm.PromptWindow;
 import com.study.webflux.rag.domain.model.rag.RetrievalContext;
 import com.study.webflux.rag.domain.port.in.DialoguePipelineUseCase;
 import com.study.webflux.rag.domain.port.out.ConversationRepository;
 import com.study.webflux.rag.domain.port.out.LlmPort;
 import com.study.webflux.rag.domain.port.out.RetrievalPort;
 import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.domain.service.ContextWindowManager;
 import com.study.webflux.rag.domain.service.SentenceAssembler;
+import com.study.webflux.rag.domain.service.TtsRequestPlanner;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
 
 @Service
 public class DialoguePipelineService implements DialoguePipelineUseCase {
 
 	private static final Logger log = LoggerFactory.getLogger(DialoguePipelineService.class);
+	private static final int TTS_PREFETCH = 32;
 
 	private final LlmPort llmPort;
 	private final TtsPort ttsPort;
 	private final RetrievalPort retrievalPort;
 	private final ConversationRepository conversationRepository;
 	private final SentenceAssembler sentenceAssembler;
+	private final TtsRequestPlanner ttsRequestPlanner;
+	private final ContextWindowManager contextWindowManager;
+	private final ModelRouter modelRouter;
 	private final DialoguePipelineMonitor pipelineMonitor;
+	private final DialoguePipelineSettings settings;
+	private final TtsLookahead ttsLookahead;
+	private final AudioFrameCoalescer<byte[]> byteFramer;
+	private final AudioFrameCoalescer<DataBuffer> bufferFramer;
 
 	public DialoguePipelineService(
 		LlmPort llmPort,
@@ -46,23 +59,59 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 		RetrievalPort retrievalPort,
 		ConversationRepository conversationRepository,
 		SentenceAssembler sentenceAssembler,
-		DialoguePipelineMonitor pipelineMonitor) {
+		TtsRequestPlanner ttsRequestPlanner,
+		ContextWindowManager contextWindowManager,
+		ModelRouter modelRouter,
+		DialoguePipelineMonitor pipelineMonitor,
+		DialoguePipelineSettings settings) {
 		this.llmPort = llmPort;
 		this.ttsPort = ttsPort;
 		this.retrievalPort = retrievalPort;
 		this.conversationRepository = conversationRepository;
 		this.sentenceAssembler = sentenceAssembler;
+		this.ttsRequestPlanner = ttsRequestPlanner;
+		this.contextWindowManager = contextWindowManager;
+		this.modelRouter = modelRouter;
 		this.pipelineMonitor = pipelineMonitor;
+		this.settings = settings;
+		this.ttsLookahead = new TtsLookahead(
+			settings.ttsMinLookahead(),
+			settings.ttsMaxLookahead(),
+			settings.ttsLookaheadTarget()
+		);
+		this.byteFramer = AudioFrameCoalescer.forBytes(settings.audioFrameBytes(), settings.audioFrameMaxLatency());
+		this.bufferFramer = AudioFrameCoalescer.forBuffers(settings.audioFrameBytes(),
+			settings.audioFrameMaxLatency());
 	}
 
 	@Override
 	public Flux<String> executeStreaming(String text) {
-		return executeAudioStreaming(text)
-			.map(bytes -> Base64.getEncoder().encodeToString(bytes));
+		return executeAudioBufferStreaming(text)
+			.map(frame -> {
+				try {
+					return Base64Frames.encode(frame);
+				}
+				finally {
+					DataBufferUtils.release(frame);
+				}
+			});
 	}
 
 	@Override
 	public Flux<byte[]> executeAudioStreaming(String text) {
+		return executePipeline(text, ttsPort::streamSynthesize, byteFramer);
+	}
+
+	@Override
+	public Flux<DataBuffer> executeAudioBufferStreaming(String text) {
+		return executePipeline(text, ttsPort::streamSynthesizeBuffers, bufferFramer)
+			.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	private <T> Flux<T> executePipeline(
+		String text,
+		Function<String, Flux<T>> synthesizer,
+		AudioFrameCoalescer<T> framer) {
 		DialoguePipelineTracker tracker = pipelineMonitor.create(text);
 
 		Mono<Void> ttsWarmup = tracker.traceMono(
@@ -78,12 +127,12 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 		Mono<ConversationTurn> queryTurn = tracker.traceMono(DialoguePipelineStage.QUERY_PERSISTENCE, () -> saveQuery(text));
 
 		Mono<RetrievalContext> retrievalContext = queryTurn
-			.flatMap(turn -> tracker.traceMono(DialoguePipelineStage.RETRIEVAL, () -> retrievalPort.retrieve(text, 3)))
-			.doOnNext(context -> tracker.recordStageAttribute(
-				DialoguePipelineStage.RETRIEVAL,
-				"documentCount",
-				context.documentCount()
-			));
+			.flatMap(turn -> tracker.traceMono(DialoguePipelineStage.RETRIEVAL, () -> retrieveWithinBudget(tracker, text)))
+			.doOnNext(context -> {
+				tracker.recordStageAttribute(DialoguePipelineStage.RETRIEVAL, "documentCount", context.documentCount());
+				context.diagnostics().forEach((key, value) ->
+					tracker.recordStageAttribute(DialoguePipelineStage.RETRIEVAL, key, value));
+			});
 
 		Flux<String> llmTokens = Mono.zip(retrievalContext, loadConversationHistory(), queryTurn)
 			.flatMapMany(tuple -> {
@@ -93,11 +142,15 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 
 				return tracker.traceMono(
 					DialoguePipelineStage.PROMPT_BUILDING,
-					() -> Mono.fromCallable(() -> buildMessages(context, conversationContext, currentTurn.query()))
-				).flatMapMany(messages -> {
-					CompletionRequest request = CompletionRequest.withMessages(messages, "gpt-4o-mini", true);
+					() -> Mono.fromCallable(() -> buildPromptWindow(context, conversationContext, currentTurn.query()))
+				).flatMapMany(window -> {
+					recordPromptWindow(tracker, window);
+					ModelRoute route = modelRouter.route(currentTurn.query(), context);
+					CompletionRequest request = CompletionRequest.withMessages(window.messages(), route.model(), true);
 					tracker.recordStageAttribute(DialoguePipelineStage.LLM_COMPLETION, "model", request.model());
-					return tracker.traceFlux(DialoguePipelineStage.LLM_COMPLETION, () -> llmPort.streamCompletion(request));
+					tracker.recordStageAttribute(DialoguePipelineStage.LLM_COMPLETION, "modelTier", route.tier().name());
+					tracker.recordStageAttribute(DialoguePipelineStage.LLM_COMPLETION, "routeReason", route.reason());
+					return tracker.traceFlux(DialoguePipelineStage.LLM_COMPLETION, () -> streamWithTtft(tracker, request));
 				});
 			})
 			.subscribeOn(Schedulers.boundedElastic())
@@ -113,7 +166,7 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 			})
 			.share();
 
-		Flux<byte[]> audioFlux = sentences.publish(sharedSentences -> {
+		Flux<T> audioFlux = sentences.publish(sharedSentences -> {
 			Flux<String> cachedSentences = sharedSentences.cache();
 
 			cachedSentences.collectList()
@@ -125,25 +178,37 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 				})
 				.subscribe();
 
-			Mono<String> firstSentenceMono = cachedSentences.take(1).singleOrEmpty().cache();
-			Flux<String> remainingSentences = cachedSentences.skip(1);
+			Flux<String> ttsRequests = ttsRequestPlanner
+				.plan(cachedSentences, stats -> recordPlanStats(tracker, stats))
+				.cache();
+			SynthesisTimeline timeline = new SynthesisTimeline();
+
+			Mono<String> firstRequestMono = ttsRequests.take(1).singleOrEmpty().cache();
+			Flux<String> remainingRequests = ttsRequests.skip(1);
 
-			Flux<byte[]> firstSentenceAudio = firstSentenceMono
-				.flatMapMany(sentence ->
-					ttsWarmup.thenMany(ttsPort.streamSynthesize(sentence))
+			Flux<T> firstRequestAudio = firstRequestMono
+				.flatMapMany(request ->
+					ttsWarmup.thenMany(synthesize(tracker, synthesizer, request, timeline, 0))
 				)
 				.publishOn(Schedulers.boundedElastic());
 
-			Flux<byte[]> remainingAudio = remainingSentences
-				.publishOn(Schedulers.boundedElastic())
-				.concatMap(sentence -> ttsWarmup.thenMany(ttsPort.streamSynthesize(sentence)));
+			Flux<T> remainingAudio = Flux.defer(() -> {
+				int lookahead = ttsLookahead.current();
+				tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "lookahead", lookahead);
+				return remainingRequests
+					.index()
+					.publishOn(Schedulers.boundedElastic())
+					.flatMapSequential(request -> ttsWarmup.thenMany(
+						synthesize(tracker, synthesizer, request.getT2(), timeline, request.getT1() + 1)), lookahead, TTS_PREFETCH);
+			});
 
-			return Flux.mergeSequential(firstSentenceAudio, remainingAudio);
+			return Flux.mergeSequential(firstRequestAudio, remainingAudio)
+				.doOnComplete(() -> recordRequestGaps(tracker, timeline.gaps()));
 		});
 
-		Flux<byte[]> audioStream = tracker.traceFlux(
+		Flux<T> audioStream = tracker.traceFlux(
 				DialoguePipelineStage.TTS_SYNTHESIS,
-				() -> audioFlux
+				() -> framer.coalesce(audioFlux, stats -> recordFrameStats(tracker, stats))
 			)
 			.doOnNext(chunk -> {
 				tracker.incrementStageCounter(DialoguePipelineStage.TTS_SYNTHESIS, "audioChunks", 1);
@@ -153,11 +218,89 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 		return tracker.attachLifecycle(audioStream);
 	}
 
+	private void recordPlanStats(DialoguePipelineTracker tracker, TtsRequestPlanner.PlanStats stats) {
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "ttsRequests", stats.requests());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "mergedSentences", stats.mergedSentences());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "splitSentences", stats.splitSentences());
+	}
+
+	private void recordRequestGaps(DialoguePipelineTracker tracker, SynthesisTimeline.Gaps gaps) {
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "requestGapMillisTotal", gaps.totalMillis());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "requestGapMillisMax", gaps.maxMillis());
+	}
+
+	private void recordFrameStats(DialoguePipelineTracker tracker, AudioFrameCoalescer.FrameStats stats) {
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "sourceChunks", stats.chunks());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "frameCount", stats.frames());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "frameBytesAvg", stats.averageFrameBytes());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "frameBytesMin", stats.minFrameBytes());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "frameBytesMax", stats.maxFrameBytes());
+		tracker.recordStageAttribute(DialoguePipelineStage.TTS_SYNTHESIS, "latencyFlushes", stats.latencyFlushes());
+	}
+
 	private Mono<ConversationTurn> saveQuery(String text) {
 		ConversationTurn turn = ConversationTurn.create(text);
 		return conversationRepository.save(turn);
 	}
 
+	private <T> Flux<T> synthesize(
+		DialoguePipelineTracker tracker,
+		Function<String, Flux<T>> synthesizer,
+		String request,
+		SynthesisTimeline timeline,
+		long index) {
+		return Flux.defer(() -> {
+			long startedAt = System.nanoTime();
+			AtomicBoolean first = new AtomicBoolean();
+			AtomicBoolean cached = new AtomicBoolean();
+			return timeline.track(index, synthesizer.apply(request))
+				.doOnNext(chunk -> {
+					if (!first.compareAndSet(false, true)) {
+						return;
+					}
+					if (cached.get()) {
+						tracker.incrementStageCounter(DialoguePipelineStage.TTS_SYNTHESIS, "cacheHits", 1);
+					}
+					else {
+						ttsLookahead.record((System.nanoTime() - startedAt) / 1_000_000);
+					}
+				})
+				.contextWrite(Context.of(TtsPort.CACHE_HIT_LISTENER, (Runnable)() -> cached.set(true)));
+		});
+	}
+
+	private Flux<String> streamWithTtft(DialoguePipelineTracker tracker, CompletionRequest request) {
+		long startedAt = System.nanoTime();
+		AtomicBoolean first = new AtomicBoolean();
+		return llmPort.streamCompletion(request)
+			.doOnNext(token -> {
+				if (first.compareAndSet(false, true)) {
+					long ttftMillis = (System.nanoTime() - startedAt) / 1_000_000;
+					tracker.recordStageAttribute(DialoguePipelineStage.LLM_COMPLETION, "ttftMillis", ttftMillis);
+				}
+			});
+	}
+
+	private Mono<RetrievalContext> retrieveWithinBudget(DialoguePipelineTracker tracker, String text) {
+		if (!settings.hasRetrievalBudget()) {
+			return retrievalPort.retrieve(text, 3);
+		}
+		Duration budget = settings.retrievalBudget();
+		tracker.recordStageAttribute(DialoguePipelineStage.RETRIEVAL, "budgetMillis", budget.toMillis());
+		Mono<RetrievalContext> retrieval = retrievalPort.retrieve(text, 3).cache();
+		retrieval.subscribe(
+			context -> {},
+			error -> log.debug("Pipeline {} background retrieval failed", tracker.pipelineId(), error)
+		);
+		return retrieval.timeout(budget, Mono.fromSupplier(() -> {
+			log.warn("Pipeline {} retrieval exceeded {}ms budget, continuing without context",
+				tracker.pipelineId(), budget.toMillis());
+			tracker.recordStageAttribute(DialoguePipelineStage.RETRIEVAL, "budgetExceeded", true);
+			tracker.recordPipelineAttribute("degraded", "retrieval");
+			return RetrievalContext.empty(text);
+		}));
+	}
+
 	private Mono<ConversationContext> loadConversationHistory() {
 		return conversationRepository.findRecent(10)
 			.collectList()
@@ -165,32 +308,29 @@ public class DialoguePipelineService implements DialoguePipelineUseCase {
 			.defaultIfEmpty(ConversationContext.empty());
 	}
 
-	private List<Message> buildMessages(RetrievalContext context, ConversationContext conversationContext, String currentQuery) {
-		List<Message> messages = new ArrayList<>();
-
-		String systemPrompt = buildSystemPrompt(context);
-		messages.add(Message.system(systemPrompt));
-
-		conversationContext.turns().stream()
-			.filter(turn -> turn.response() != null)
-			.forEach(turn -> {
-				messages.add(Message.user(turn.query()));
-				messages.add(Message.assistant(turn.response()));
-			});
-
-		messages.add(Message.user(currentQuery));
+	private PromptWindow buildPromptWindow(RetrievalContext context, ConversationContext conversationContext, String currentQuery) {
+		List<String> documents = context.documents().stream()
+			.map(doc -> doc.content())
+			.toList();
+		return contextWindowManager.fit(this::buildSystemPrompt, documents, conversationContext.turns(), currentQuery);
+	}
 
-		return messages;
+	private void recordPromptWindow(DialoguePipelineTracker tracker, PromptWindow window) {
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "promptTokens", window.promptTokens());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "tokenBudget", window.tokenBudget());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "documentsIncluded", window.documentsIncluded());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "documentsDropped", window.documentsDropped());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "historyTurnsIncluded", window.historyTurnsIncluded());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "historyTurnsDropped", window.historyTurnsDropped());
+		tracker.recordStageAttribute(DialoguePipelineStage.PROMPT_BUILDING, "truncated", window.truncated());
 	}
 
-	private String buildSystemPrompt(RetrievalContext context) {
-		if (context.isEmpty()) {
+	private String buildSystemPrompt(List<String> documents) {
+		if (documents.isEmpty()) {
 			return "자연스럽게 대화하세요. 과도한 존댓말이나 '도와드리겠습니다' 같은 틀에 박힌 표현은 피하세요.";
 		}
 
-		String contextText = context.documents().stream()
-			.map(doc -> doc.content())
-			.collect(Collectors.joining("\n"));
+		String contextText = String.join("\n", documents);
 
 		return String.format(
 			"다음 정보를 참고해서 답변하세요:\n\n%s\n\n자연스럽게 대화하세요. 필요한 정보만 간결하게 답변하고, 불필요한 인사말이나 '도와드리겠습니다' 같은 표현은 생략하세요.",
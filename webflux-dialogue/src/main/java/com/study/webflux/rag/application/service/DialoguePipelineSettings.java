@@ -0,0 +1,28 @@
+package com.study.webflux.rag.application.service;
+
+import java.time.Duration;
+
+public record DialoguePipelineSettings(
+	Duration retrievalBudget,
+	int ttsMinLookahead,
+	int ttsMaxLookahead,
+	Duration ttsLookaheadTarget,
+	int audioFrameBytes,
+	Duration audioFrameMaxLatency
+) {
+	public DialoguePipelineSettings {
+		if (retrievalBudget == null) {
+			retrievalBudget = Duration.ZERO;
+		}
+		if (ttsLookaheadTarget == null) {
+			ttsLookaheadTarget = Duration.ofMillis(400);
+		}
+		if (audioFrameMaxLatency == null) {
+			audioFrameMaxLatency = Duration.ofMillis(40);
+		}
+	}
+
+	public boolean hasRetrievalBudget() {
+		return !retrievalBudget.isZero() && !retrievalBudget.isNegative();
+	}
+}
@@ -0,0 +1,8 @@
+package com.study.webflux.rag.application.service;
+
+public record ModelRoute(
+	String model,
+	ModelRouter.Tier tier,
+	String reason
+) {
+}
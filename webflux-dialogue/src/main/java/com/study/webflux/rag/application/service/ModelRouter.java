@@ -0,0 +1,153 @@
+package com.study.webflux.rag.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.study.webflux.rag.application.monitoring.ModelStatsReporter;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+public class ModelRouter {
+
+	private final ModelStatsReporter modelStats;
+	private final String fastModel;
+	private final String defaultModel;
+	private final String strongModel;
+	private final int simpleQueryChars;
+	private final int complexQueryChars;
+	private final double maxTtftMillis;
+	private final double minTokensPerSecond;
+	private final long minSamples;
+	private final long probeEvery;
+	private final double minTopScoreShare;
+	private final AtomicLong downgrades = new AtomicLong();
+
+	public ModelRouter(
+		ModelStatsReporter modelStats,
+		String fastModel,
+		String defaultModel,
+		String strongModel,
+		int simpleQueryChars,
+		int complexQueryChars,
+		Duration maxTtft,
+		double minTokensPerSecond,
+		long minSamples,
+		long probeEvery,
+		double minTopScoreShare) {
+		this.modelStats = modelStats;
+		this.fastModel = fastModel;
+		this.defaultModel = defaultModel;
+		this.strongModel = strongModel;
+		this.simpleQueryChars = simpleQueryChars;
+		this.complexQueryChars = complexQueryChars;
+		this.maxTtftMillis = maxTtft.toMillis();
+		this.minTokensPerSecond = minTokensPerSecond;
+		this.minSamples = minSamples;
+		this.probeEvery = probeEvery;
+		this.minTopScoreShare = minTopScoreShare;
+	}
+
+	public static ModelRouter fixed(String model) {
+		return new ModelRouter(null, model, model, model, 0, Integer.MAX_VALUE, Duration.ZERO, 0, Long.MAX_VALUE, 0, 0);
+	}
+
+	public ModelRoute route(String query, RetrievalContext context) {
+		String normalized = query == null ? "" : query.strip();
+		boolean grounded = context.documents().stream().anyMatch(document -> document.score().isRelevant());
+		Tier tier;
+		String reason;
+		if (isComplex(normalized)) {
+			tier = Tier.STRONG;
+			reason = "complex-query";
+		}
+		else if (normalized.length() <= simpleQueryChars && !grounded) {
+			tier = Tier.FAST;
+			reason = "short-ungrounded-query";
+		}
+		else if (grounded && isDiffuse(context)) {
+			tier = Tier.STRONG;
+			reason = "diffuse-grounding";
+		}
+		else {
+			tier = Tier.DEFAULT;
+			reason = grounded ? "grounded-query" : "default";
+		}
+
+		while (tier != Tier.FAST) {
+			String slowness = slowness(model(tier));
+			if (slowness == null) {
+				break;
+			}
+			if (probeEvery > 0 && downgrades.incrementAndGet() % probeEvery == 0) {
+				reason = reason + "," + slowness + "-probe";
+				break;
+			}
+			tier = tier == Tier.STRONG ? Tier.DEFAULT : Tier.FAST;
+			reason = reason + "," + slowness + "-downgrade";
+		}
+		return new ModelRoute(model(tier), tier, reason);
+	}
+
+	private boolean isDiffuse(RetrievalContext context) {
+		if (minTopScoreShare <= 0 || context.documentCount() < 3) {
+			return false;
+		}
+		double total = 0;
+		double top = 0;
+		for (RetrievalDocument document : context.documents()) {
+			double score = document.score().value();
+			total += score;
+			top = Math.max(top, score);
+		}
+		return total > 0 && top / total < minTopScoreShare;
+	}
+
+	private boolean isComplex(String query) {
+		if (query.length() >= complexQueryChars) {
+			return true;
+		}
+		int questions = 0;
+		for (int i = 0; i < query.length(); i++) {
+			char c = query.charAt(i);
+			if (c == '?' || c == '？') {
+				questions++;
+			}
+			if (c == '\n' || questions >= 2) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String slowness(String model) {
+		if (modelStats == null) {
+			return null;
+		}
+		return modelStats.stats(model)
+			.filter(stats -> stats.samples() >= minSamples)
+			.map(stats -> {
+				if (stats.ttftMillis() > maxTtftMillis) {
+					return "ttft";
+				}
+				if (stats.tokensPerSecond() > 0 && stats.tokensPerSecond() < minTokensPerSecond) {
+					return "throughput";
+				}
+				return null;
+			})
+			.orElse(null);
+	}
+
+	private String model(Tier tier) {
+		return switch (tier) {
+			case FAST -> fastModel;
+			case DEFAULT -> defaultModel;
+			case STRONG -> strongModel;
+		};
+	}
+
+	public enum Tier {
+		FAST,
+		DEFAULT,
+		STRONG
+	}
+}
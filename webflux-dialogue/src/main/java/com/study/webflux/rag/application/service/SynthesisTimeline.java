@@ -0,0 +1,53 @@
+package com.study.webflux.rag.application.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import reactor.core.publisher.Flux;
+
+final class SynthesisTimeline {
+
+	private final Map<Long, Span> spans = new ConcurrentSkipListMap<>();
+
+	<T> Flux<T> track(long index, Flux<T> audio) {
+		return Flux.defer(() -> {
+			Span span = new Span();
+			spans.put(index, span);
+			return audio.doOnNext(chunk -> span.mark(System.nanoTime()));
+		});
+	}
+
+	Gaps gaps() {
+		long totalNanos = 0;
+		long maxNanos = 0;
+		Span previous = null;
+		for (Span span : spans.values()) {
+			if (span.firstAt < 0) {
+				continue;
+			}
+			if (previous != null) {
+				long gap = Math.max(0, span.firstAt - previous.lastAt);
+				totalNanos += gap;
+				maxNanos = Math.max(maxNanos, gap);
+			}
+			previous = span;
+		}
+		return new Gaps(spans.size(), totalNanos / 1_000_000, maxNanos / 1_000_000);
+	}
+
+	record Gaps(int requests, long totalMillis, long maxMillis) {
+	}
+
+	private static final class Span {
+
+		private volatile long firstAt = -1;
+		private volatile long lastAt = -1;
+
+		private void mark(long now) {
+			if (firstAt < 0) {
+				firstAt = now;
+			}
+			lastAt = now;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.study.webflux.rag.application.service;
+
+import java.time.Duration;
+
+final class TtsLookahead {
+
+	private static final double SMOOTHING = 0.2;
+
+	private final int minLookahead;
+	private final int maxLookahead;
+	private final double targetMillis;
+	private double latencyMillis = -1;
+
+	TtsLookahead(int minLookahead, int maxLookahead, Duration target) {
+		this.minLookahead = Math.max(1, minLookahead);
+		this.maxLookahead = Math.max(this.minLookahead, maxLookahead);
+		this.targetMillis = Math.max(1, target.toMillis());
+	}
+
+	synchronized int current() {
+		if (latencyMillis < 0) {
+			return minLookahead;
+		}
+		int lookahead = (int)Math.ceil(latencyMillis / targetMillis);
+		return Math.max(minLookahead, Math.min(maxLookahead, lookahead));
+	}
+
+	synchronized void record(long firstChunkMillis) {
+		latencyMillis = latencyMillis < 0
+			? firstChunkMillis
+			: latencyMillis + SMOOTHING * (firstChunkMillis - latencyMillis);
+	}
+}
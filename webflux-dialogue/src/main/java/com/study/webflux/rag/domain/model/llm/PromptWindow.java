@@ -0,0 +1,15 @@
+package com.study.webflux.rag.domain.model.llm;
+
+import java.util.List;
+
+public record PromptWindow(
+	List<Message> messages,
+	int promptTokens,
+	int tokenBudget,
+	int documentsIncluded,
+	int documentsDropped,
+	int historyTurnsIncluded,
+	int historyTurnsDropped,
+	boolean truncated
+) {
+}
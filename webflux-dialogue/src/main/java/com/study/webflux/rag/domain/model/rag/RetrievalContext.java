@@ -1,10 +1,12 @@
 package com.study.webflux.rag.domain.model.rag;
 
 import java.util.List;
+import java.util.Map;
 
 public record RetrievalContext(
 	String query,
-	List<RetrievalDocument> documents
+	List<RetrievalDocument> documents,
+	Map<String, Object> diagnostics
 ) {
 	public RetrievalContext {
 		if (query == null || query.isBlank()) {
@@ -13,6 +15,13 @@ public record RetrievalContext(
 		if (documents == null) {
 			documents = List.of();
 		}
+		if (diagnostics == null) {
+			diagnostics = Map.of();
+		}
+	}
+
+	public RetrievalContext(String query, List<RetrievalDocument> documents) {
+		this(query, documents, Map.of());
 	}
 
 	public boolean isEmpty() {
@@ -23,6 +32,10 @@ public record RetrievalContext(
 		return documents.size();
 	}
 
+	public RetrievalContext withDiagnostics(Map<String, Object> diagnostics) {
+		return new RetrievalContext(query, documents, diagnostics);
+	}
+
 	public static RetrievalContext empty(String query) {
 		return new RetrievalContext(query, List.of());
 	}
@@ -19,11 +19,11 @@ public record RetrievalDocument(
 		}
 	}
 
-	public static RetrievalDocument of(String content, int score) {
+	public static RetrievalDocument of(String content, double score) {
 		return new RetrievalDocument(content, SimilarityScore.of(score), Map.of());
 	}
 
-	public static RetrievalDocument withMetadata(String content, int score, Map<String, Object> metadata) {
+	public static RetrievalDocument withMetadata(String content, double score, Map<String, Object> metadata) {
 		return new RetrievalDocument(content, SimilarityScore.of(score), metadata);
 	}
 }
@@ -1,13 +1,16 @@
 package com.study.webflux.rag.domain.model.rag;
 
-public record SimilarityScore(int value) {
+public record SimilarityScore(double value) {
 	public SimilarityScore {
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException("Similarity score cannot be NaN");
+		}
 		if (value < 0) {
 			throw new IllegalArgumentException("Similarity score cannot be negative");
 		}
 	}
 
-	public static SimilarityScore of(int value) {
+	public static SimilarityScore of(double value) {
 		return new SimilarityScore(value);
 	}
 
@@ -1,9 +1,13 @@
 package com.study.webflux.rag.domain.port.in;
 
+import org.springframework.core.io.buffer.DataBuffer;
+
 import reactor.core.publisher.Flux;
 
 public interface DialoguePipelineUseCase {
 	Flux<String> executeStreaming(String text);
 
 	Flux<byte[]> executeAudioStreaming(String text);
+
+	Flux<DataBuffer> executeAudioBufferStreaming(String text);
 }
@@ -0,0 +1,9 @@
+package com.study.webflux.rag.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+public interface EmbeddingPort {
+	Mono<float[]> embed(String text);
+
+	int dimensions();
+}
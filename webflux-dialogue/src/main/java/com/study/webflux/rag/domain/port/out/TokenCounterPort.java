@@ -0,0 +1,7 @@
+package com.study.webflux.rag.domain.port.out;
+
+public interface TokenCounterPort {
+	int count(String text);
+
+	String truncate(String text, int maxTokens);
+}
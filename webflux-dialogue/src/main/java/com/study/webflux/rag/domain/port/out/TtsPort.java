@@ -1,13 +1,22 @@
 package com.study.webflux.rag.domain.port.out;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface TtsPort {
+	String CACHE_HIT_LISTENER = TtsPort.class.getName() + ".cacheHitListener";
+
 	Flux<byte[]> streamSynthesize(String text);
 
 	Mono<byte[]> synthesize(String text);
 
+	default Flux<DataBuffer> streamSynthesizeBuffers(String text) {
+		return streamSynthesize(text).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
 	default Mono<Void> prepare() {
 		return Mono.empty();
 	}
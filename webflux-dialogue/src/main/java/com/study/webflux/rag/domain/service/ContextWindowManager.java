@@ -0,0 +1,105 @@
+package com.study.webflux.rag.domain.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.model.llm.PromptWindow;
+import com.study.webflux.rag.domain.port.out.TokenCounterPort;
+
+public class ContextWindowManager {
+
+	private final TokenCounterPort tokenCounter;
+	private final int tokenBudget;
+	private final int messageOverhead;
+	private final int minDocumentTokens;
+
+	public ContextWindowManager(TokenCounterPort tokenCounter, int tokenBudget, int messageOverhead, int minDocumentTokens) {
+		this.tokenCounter = tokenCounter;
+		this.tokenBudget = tokenBudget;
+		this.messageOverhead = messageOverhead;
+		this.minDocumentTokens = minDocumentTokens;
+	}
+
+	public PromptWindow fit(
+		Function<List<String>, String> systemPrompt,
+		List<String> documents,
+		List<ConversationTurn> history,
+		String query) {
+		boolean truncated = false;
+		String emptySystemPrompt = systemPrompt.apply(documents.isEmpty() ? List.of() : List.of(""));
+		int remaining = tokenBudget - tokenCounter.count(emptySystemPrompt) - messageOverhead;
+
+		String fittedQuery = query;
+		int queryTokens = tokenCounter.count(query) + messageOverhead;
+		if (queryTokens > remaining) {
+			fittedQuery = tokenCounter.truncate(query, Math.max(1, remaining - messageOverhead));
+			queryTokens = tokenCounter.count(fittedQuery) + messageOverhead;
+			truncated = true;
+		}
+		remaining -= queryTokens;
+
+		List<String> fittedDocuments = new ArrayList<>();
+		for (String document : documents) {
+			int documentTokens = tokenCounter.count(document) + 1;
+			if (documentTokens <= remaining) {
+				fittedDocuments.add(document);
+				remaining -= documentTokens;
+				continue;
+			}
+			if (remaining - 1 >= minDocumentTokens) {
+				String head = tokenCounter.truncate(document, remaining - 1);
+				if (!head.isBlank()) {
+					fittedDocuments.add(head);
+					remaining -= tokenCounter.count(head) + 1;
+				}
+			}
+			truncated = true;
+			break;
+		}
+
+		List<ConversationTurn> fittedHistory = new ArrayList<>();
+		List<ConversationTurn> answered = history.stream().filter(turn -> turn.response() != null).toList();
+		for (int i = answered.size() - 1; i >= 0; i--) {
+			ConversationTurn turn = answered.get(i);
+			int turnTokens = tokenCounter.count(turn.query()) + tokenCounter.count(turn.response()) + 2 * messageOverhead;
+			if (turnTokens > remaining) {
+				truncated = true;
+				break;
+			}
+			fittedHistory.add(turn);
+			remaining -= turnTokens;
+		}
+		Collections.reverse(fittedHistory);
+
+		List<Message> messages = new ArrayList<>();
+		messages.add(Message.system(systemPrompt.apply(fittedDocuments)));
+		fittedHistory.forEach(turn -> {
+			messages.add(Message.user(turn.query()));
+			messages.add(Message.assistant(turn.response()));
+		});
+		messages.add(Message.user(fittedQuery));
+
+		return new PromptWindow(
+			messages,
+			count(messages),
+			tokenBudget,
+			fittedDocuments.size(),
+			documents.size() - fittedDocuments.size(),
+			fittedHistory.size(),
+			answered.size() - fittedHistory.size(),
+			truncated
+		);
+	}
+
+	private int count(List<Message> messages) {
+		int total = 0;
+		for (Message message : messages) {
+			total += tokenCounter.count(message.content()) + messageOverhead;
+		}
+		return total;
+	}
+}
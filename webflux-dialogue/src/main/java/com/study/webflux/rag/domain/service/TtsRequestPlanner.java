@@ -0,0 +1,141 @@
+package com.study.webflux.rag.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import reactor.core.publisher.Flux;
+
+public class TtsRequestPlanner {
+
+	private static final String CLAUSE_DELIMITERS = ",;:，、";
+
+	private final int minRequestChars;
+	private final int maxRequestChars;
+
+	public TtsRequestPlanner(int minRequestChars, int maxRequestChars) {
+		if (maxRequestChars < 1) {
+			throw new IllegalArgumentException("maxRequestChars must be positive");
+		}
+		this.minRequestChars = Math.max(0, Math.min(minRequestChars, maxRequestChars));
+		this.maxRequestChars = maxRequestChars;
+	}
+
+	public static TtsRequestPlanner disabled() {
+		return new TtsRequestPlanner(0, Integer.MAX_VALUE);
+	}
+
+	public Flux<String> plan(Flux<String> sentences, Consumer<PlanStats> onComplete) {
+		return Flux.defer(() -> {
+			Planning planning = new Planning();
+			return sentences
+				.concatMapIterable(planning::accept)
+				.concatWith(Flux.defer(() -> {
+					List<String> remaining = planning.flush();
+					onComplete.accept(planning.stats());
+					return Flux.fromIterable(remaining);
+				}));
+		});
+	}
+
+	List<String> split(String sentence) {
+		List<String> pieces = new ArrayList<>();
+		String remaining = sentence.trim();
+		while (remaining.length() > maxRequestChars) {
+			int cut = clauseBoundary(remaining);
+			String piece = remaining.substring(0, cut).trim();
+			if (!piece.isEmpty()) {
+				pieces.add(piece);
+			}
+			remaining = remaining.substring(cut).trim();
+		}
+		if (!remaining.isEmpty()) {
+			pieces.add(remaining);
+		}
+		return pieces;
+	}
+
+	private int clauseBoundary(String text) {
+		int floor = maxRequestChars / 3;
+		for (int i = maxRequestChars - 1; i >= floor; i--) {
+			if (CLAUSE_DELIMITERS.indexOf(text.charAt(i)) >= 0 && Character.isWhitespace(text.charAt(i + 1))) {
+				return i + 1;
+			}
+		}
+		for (int i = maxRequestChars; i > floor; i--) {
+			if (Character.isWhitespace(text.charAt(i))) {
+				return i;
+			}
+		}
+		return maxRequestChars;
+	}
+
+	public record PlanStats(
+		long sentences,
+		long requests,
+		long mergedSentences,
+		long splitSentences
+	) {
+	}
+
+	private final class Planning {
+
+		private final StringBuilder pending = new StringBuilder();
+		private boolean firstEmitted;
+		private long sentences;
+		private long requests;
+		private long mergedSentences;
+		private long splitSentences;
+
+		private List<String> accept(String sentence) {
+			sentences++;
+			List<String> pieces = split(sentence);
+			if (pieces.size() > 1) {
+				splitSentences++;
+			}
+			List<String> ready = new ArrayList<>();
+			for (String piece : pieces) {
+				if (!firstEmitted) {
+					firstEmitted = true;
+					emit(ready, piece);
+					continue;
+				}
+				if (!pending.isEmpty() && pending.length() + 1 + piece.length() > maxRequestChars) {
+					emit(ready, drain());
+				}
+				if (!pending.isEmpty()) {
+					pending.append(' ');
+					mergedSentences++;
+				}
+				pending.append(piece);
+				if (pending.length() >= minRequestChars) {
+					emit(ready, drain());
+				}
+			}
+			return ready;
+		}
+
+		private List<String> flush() {
+			List<String> ready = new ArrayList<>();
+			if (!pending.isEmpty()) {
+				emit(ready, drain());
+			}
+			return ready;
+		}
+
+		private PlanStats stats() {
+			return new PlanStats(sentences, requests, mergedSentences, splitSentences);
+		}
+
+		private void emit(List<String> ready, String request) {
+			requests++;
+			ready.add(request);
+		}
+
+		private String drain() {
+			String request = pending.toString();
+			pending.setLength(0);
+			return request;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.study.webflux.rag.infrastructure.adapter.embedding;
+
+import com.study.webflux.rag.domain.port.out.EmbeddingPort;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.Analyzer;
+
+import reactor.core.publisher.Mono;
+
+public class HashingEmbeddingAdapter implements EmbeddingPort {
+
+	private final Analyzer analyzer;
+	private final int dimensions;
+
+	public HashingEmbeddingAdapter(Analyzer analyzer, int dimensions) {
+		if (dimensions <= 0) {
+			throw new IllegalArgumentException("dimensions must be positive");
+		}
+		this.analyzer = analyzer;
+		this.dimensions = dimensions;
+	}
+
+	@Override
+	public Mono<float[]> embed(String text) {
+		return Mono.fromSupplier(() -> vectorize(text));
+	}
+
+	@Override
+	public int dimensions() {
+		return dimensions;
+	}
+
+	float[] vectorize(String text) {
+		float[] vector = new float[dimensions];
+		for (String token : analyzer.analyze(text)) {
+			int hash = mix(token.hashCode());
+			int bucket = Math.floorMod(hash, dimensions);
+			vector[bucket] += (mix(hash) & 1) == 0 ? 1f : -1f;
+		}
+		double norm = 0;
+		for (float value : vector) {
+			norm += value * value;
+		}
+		if (norm > 0) {
+			float scale = (float)(1 / Math.sqrt(norm));
+			for (int i = 0; i < dimensions; i++) {
+				vector[i] *= scale;
+			}
+		}
+		return vector;
+	}
+
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+}
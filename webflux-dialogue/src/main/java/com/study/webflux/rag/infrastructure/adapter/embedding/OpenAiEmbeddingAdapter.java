@@ -0,0 +1,46 @@
+package com.study.webflux.rag.infrastructure.adapter.embedding;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.study.webflux.rag.domain.port.out.EmbeddingPort;
+import com.study.webflux.rag.infrastructure.adapter.embedding.dto.OpenAiEmbeddingRequest;
+import com.study.webflux.rag.infrastructure.adapter.embedding.dto.OpenAiEmbeddingResponse;
+import com.study.webflux.rag.infrastructure.adapter.llm.OpenAiConfig;
+
+import reactor.core.publisher.Mono;
+
+public class OpenAiEmbeddingAdapter implements EmbeddingPort {
+
+	private final WebClient webClient;
+	private final String model;
+	private final int dimensions;
+
+	public OpenAiEmbeddingAdapter(WebClient.Builder webClientBuilder, OpenAiConfig config, String model, int dimensions) {
+		this.model = model;
+		this.dimensions = dimensions;
+		this.webClient = webClientBuilder
+			.baseUrl(config.baseUrl())
+			.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + config.apiKey())
+			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.build();
+	}
+
+	@Override
+	public Mono<float[]> embed(String text) {
+		return webClient.post()
+			.uri("/embeddings")
+			.bodyValue(new OpenAiEmbeddingRequest(model, text, dimensions))
+			.retrieve()
+			.bodyToMono(OpenAiEmbeddingResponse.class)
+			.flatMap(response -> response.data() == null || response.data().isEmpty()
+				? Mono.error(new IllegalStateException("Embedding response contained no vectors"))
+				: Mono.just(response.data().get(0).embedding()));
+	}
+
+	@Override
+	public int dimensions() {
+		return dimensions;
+	}
+}
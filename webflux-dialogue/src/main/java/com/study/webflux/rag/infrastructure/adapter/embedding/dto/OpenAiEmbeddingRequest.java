@@ -0,0 +1,8 @@
+package com.study.webflux.rag.infrastructure.adapter.embedding.dto;
+
+public record OpenAiEmbeddingRequest(
+	String model,
+	String input,
+	int dimensions
+) {
+}
@@ -0,0 +1,13 @@
+package com.study.webflux.rag.infrastructure.adapter.embedding.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OpenAiEmbeddingResponse(List<OpenAiEmbedding> data) {
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public record OpenAiEmbedding(float[] embedding) {
+	}
+}
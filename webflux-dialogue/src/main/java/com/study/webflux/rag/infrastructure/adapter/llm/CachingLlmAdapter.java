@@ -0,0 +1,114 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CachingLlmAdapter implements LlmPort {
+
+	private final LlmPort delegate;
+	private final LocalCache<String, CachedCompletion> localCache;
+	private final RedisCacheTier<CachedCompletion> redisCache;
+	private final boolean replayPacing;
+	private final double replayPacingScale;
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public CachingLlmAdapter(
+		LlmPort delegate,
+		LocalCache<String, CachedCompletion> localCache,
+		RedisCacheTier<CachedCompletion> redisCache,
+		boolean replayPacing,
+		double replayPacingScale) {
+		this.delegate = delegate;
+		this.localCache = localCache;
+		this.redisCache = redisCache;
+		this.replayPacing = replayPacing;
+		this.replayPacingScale = replayPacingScale;
+	}
+
+	@Override
+	public Flux<String> streamCompletion(CompletionRequest request) {
+		String key = CompletionRequestKey.of(request);
+		CachedCompletion cached = localCache.get(key);
+		if (cached != null) {
+			localHits.increment();
+			return replay(cached);
+		}
+
+		Flux<String> fromDelegate = Flux.defer(() -> record(key, request));
+		if (redisCache == null) {
+			return fromDelegate;
+		}
+		return redisCache.get(key)
+			.flatMapMany(entry -> {
+				redisHits.increment();
+				localCache.put(key, entry);
+				return replay(entry);
+			})
+			.switchIfEmpty(fromDelegate);
+	}
+
+	@Override
+	public Mono<String> complete(CompletionRequest request) {
+		return streamCompletion(request)
+			.collect(StringBuilder::new, StringBuilder::append)
+			.map(StringBuilder::toString);
+	}
+
+	public long localHits() {
+		return localHits.sum();
+	}
+
+	public long redisHits() {
+		return redisHits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	private Flux<String> record(String key, CompletionRequest request) {
+		misses.increment();
+		List<String> tokens = new ArrayList<>();
+		long startedAt = System.nanoTime();
+		return delegate.streamCompletion(request)
+			.doOnNext(tokens::add)
+			.doOnComplete(() -> {
+				if (tokens.isEmpty()) {
+					return;
+				}
+				long intervalMicros = (System.nanoTime() - startedAt) / 1_000 / tokens.size();
+				CachedCompletion entry = new CachedCompletion(List.copyOf(tokens), intervalMicros);
+				localCache.put(key, entry);
+				if (redisCache != null) {
+					redisCache.put(key, entry).subscribe();
+				}
+			});
+	}
+
+	private Flux<String> replay(CachedCompletion entry) {
+		List<String> tokens = entry.tokens();
+		long intervalMicros = (long)(entry.tokenIntervalMicros() * replayPacingScale);
+		if (!replayPacing || intervalMicros <= 0 || tokens.size() < 2) {
+			return Flux.fromIterable(tokens);
+		}
+		return Flux.concat(
+			Flux.just(tokens.get(0)),
+			Flux.fromIterable(tokens.subList(1, tokens.size())).delayElements(Duration.ofNanos(intervalMicros * 1_000))
+		);
+	}
+
+	public record CachedCompletion(List<String> tokens, long tokenIntervalMicros) {
+	}
+}
@@ -0,0 +1,50 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.resilience.CircuitBreaker;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CircuitBreakingLlmAdapter implements LlmPort {
+
+	private final LlmPort delegate;
+	private final CircuitBreaker breaker;
+	private final LlmPort fallback;
+	private final String fallbackModel;
+
+	public CircuitBreakingLlmAdapter(LlmPort delegate, CircuitBreaker breaker, LlmPort fallback, String fallbackModel) {
+		this.delegate = delegate;
+		this.breaker = breaker;
+		this.fallback = fallback;
+		this.fallbackModel = fallbackModel;
+	}
+
+	@Override
+	public Flux<String> streamCompletion(CompletionRequest request) {
+		return breaker.execute(
+			() -> delegate.streamCompletion(request),
+			() -> fallback.streamCompletion(fallbackRequest(request))
+		);
+	}
+
+	@Override
+	public Mono<String> complete(CompletionRequest request) {
+		return breaker.execute(
+			() -> delegate.complete(request).flux(),
+			() -> fallback.complete(fallbackRequest(request)).flux()
+		).singleOrEmpty();
+	}
+
+	public CircuitBreaker breaker() {
+		return breaker;
+	}
+
+	private CompletionRequest fallbackRequest(CompletionRequest request) {
+		if (fallbackModel == null || fallbackModel.isBlank()) {
+			return request;
+		}
+		return new CompletionRequest(request.messages(), fallbackModel, request.stream(), request.additionalParams());
+	}
+}
@@ -0,0 +1,22 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.util.Map;
+
+public record ClaudeConfig(
+	String apiKey,
+	String baseUrl,
+	String model,
+	int maxTokens,
+	String apiVersion,
+	Map<String, String> modelAliases
+) {
+	public String resolveModel(String requested) {
+		if (requested == null || requested.isBlank()) {
+			return model;
+		}
+		if (requested.startsWith("claude-")) {
+			return requested;
+		}
+		return modelAliases.getOrDefault(requested, model);
+	}
+}
@@ -1,20 +1,53 @@
 package com.study.webflux.rag.infrastructure.adapter.llm;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.webflux.rag.domain.model.llm.CompletionRequest;
 import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.adapter.llm.dto.ClaudeRequest;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class ClaudeLlmAdapter implements LlmPort {
 
+	private final WebClient webClient;
+	private final JsonFactory jsonFactory;
+	private final ClaudeConfig config;
+
+	public ClaudeLlmAdapter(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, ClaudeConfig config) {
+		this.jsonFactory = objectMapper.getFactory();
+		this.config = config;
+		this.webClient = webClientBuilder
+			.baseUrl(config.baseUrl())
+			.defaultHeader("x-api-key", config.apiKey())
+			.defaultHeader("anthropic-version", config.apiVersion())
+			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.build();
+	}
+
 	@Override
 	public Flux<String> streamCompletion(CompletionRequest request) {
-		return Flux.error(new UnsupportedOperationException("Claude LLM adapter not yet implemented"));
+		ClaudeRequest claudeRequest = ClaudeRequest.from(request, config.resolveModel(request.model()), config.maxTokens());
+
+		Flux<DataBuffer> body = webClient.post()
+			.uri("/v1/messages")
+			.accept(MediaType.TEXT_EVENT_STREAM)
+			.bodyValue(claudeRequest)
+			.retrieve()
+			.bodyToFlux(DataBuffer.class);
+		return SseTokenParser.parse(body, jsonFactory, SseTokenParser.CLAUDE_TEXT_DELTA);
 	}
 
 	@Override
 	public Mono<String> complete(CompletionRequest request) {
-		return Mono.error(new UnsupportedOperationException("Claude LLM adapter not yet implemented"));
+		return streamCompletion(request)
+			.collect(StringBuilder::new, StringBuilder::append)
+			.map(StringBuilder::toString);
 	}
 }
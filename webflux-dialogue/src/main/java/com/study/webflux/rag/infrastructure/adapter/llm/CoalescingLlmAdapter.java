@@ -0,0 +1,101 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+public class CoalescingLlmAdapter implements LlmPort {
+
+	private final LlmPort delegate;
+	private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder upstreamRequests = new LongAdder();
+	private final LongAdder coalescedRequests = new LongAdder();
+
+	public CoalescingLlmAdapter(LlmPort delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Flux<String> streamCompletion(CompletionRequest request) {
+		return Flux.deferContextual(context -> {
+			String key = CompletionRequestKey.of(request);
+			InFlight existing = inFlight.get(key);
+			if (existing != null) {
+				return existing.join();
+			}
+			InFlight created = new InFlight(key, request, context);
+			InFlight raced = inFlight.putIfAbsent(key, created);
+			return raced != null ? raced.join() : created.join();
+		});
+	}
+
+	@Override
+	public Mono<String> complete(CompletionRequest request) {
+		return streamCompletion(request)
+			.collect(StringBuilder::new, StringBuilder::append)
+			.map(StringBuilder::toString);
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	public long upstreamRequests() {
+		return upstreamRequests.sum();
+	}
+
+	public long coalescedRequests() {
+		return coalescedRequests.sum();
+	}
+
+	private final class InFlight {
+		private final String key;
+		private final CompletionRequest request;
+		private final ConnectableFlux<String> tokens;
+		private Disposable connection;
+		private int subscribers;
+		private boolean abandoned;
+
+		private InFlight(String key, CompletionRequest request, ContextView context) {
+			this.key = key;
+			this.request = request;
+			this.tokens = Flux.defer(() -> delegate.streamCompletion(request))
+				.doOnTerminate(() -> inFlight.remove(key, this))
+				.contextWrite(context)
+				.replay();
+		}
+
+		private synchronized Flux<String> join() {
+			if (abandoned) {
+				return streamCompletion(request);
+			}
+			subscribers++;
+			if (connection == null) {
+				upstreamRequests.increment();
+				connection = tokens.connect();
+			}
+			else {
+				coalescedRequests.increment();
+			}
+			return tokens.doFinally(signal -> leave());
+		}
+
+		private synchronized void leave() {
+			if (--subscribers > 0 || abandoned) {
+				return;
+			}
+			abandoned = true;
+			inFlight.remove(key, this);
+			connection.dispose();
+		}
+	}
+}
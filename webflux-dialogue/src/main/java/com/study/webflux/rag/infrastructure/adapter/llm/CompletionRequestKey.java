@@ -0,0 +1,47 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.Message;
+
+final class CompletionRequestKey {
+
+	private CompletionRequestKey() {
+	}
+
+	static String of(CompletionRequest request) {
+		MessageDigest digest = sha256();
+		update(digest, request.model());
+		for (Message message : request.messages()) {
+			update(digest, message.role().getValue());
+			update(digest, message.content());
+		}
+		for (Map.Entry<String, Object> param : new TreeMap<>(request.additionalParams()).entrySet()) {
+			update(digest, param.getKey());
+			update(digest, String.valueOf(param.getValue()));
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		int length = bytes.length;
+		digest.update(new byte[] {(byte)(length >>> 24), (byte)(length >>> 16), (byte)(length >>> 8), (byte)length});
+		digest.update(bytes);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
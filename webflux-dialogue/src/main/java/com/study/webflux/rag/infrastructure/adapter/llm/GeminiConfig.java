@@ -0,0 +1,20 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.util.Map;
+
+public record GeminiConfig(
+	String apiKey,
+	String baseUrl,
+	String model,
+	Map<String, String> modelAliases
+) {
+	public String resolveModel(String requested) {
+		if (requested == null || requested.isBlank()) {
+			return model;
+		}
+		if (requested.startsWith("gemini-")) {
+			return requested;
+		}
+		return modelAliases.getOrDefault(requested, model);
+	}
+}
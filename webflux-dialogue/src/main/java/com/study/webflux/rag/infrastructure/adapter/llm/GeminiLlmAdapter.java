@@ -1,20 +1,53 @@
 package com.study.webflux.rag.infrastructure.adapter.llm;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.webflux.rag.domain.model.llm.CompletionRequest;
 import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.adapter.llm.dto.GeminiRequest;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class GeminiLlmAdapter implements LlmPort {
 
+	private final WebClient webClient;
+	private final JsonFactory jsonFactory;
+	private final GeminiConfig config;
+
+	public GeminiLlmAdapter(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, GeminiConfig config) {
+		this.jsonFactory = objectMapper.getFactory();
+		this.config = config;
+		this.webClient = webClientBuilder
+			.baseUrl(config.baseUrl())
+			.defaultHeader("x-goog-api-key", config.apiKey())
+			.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.build();
+	}
+
 	@Override
 	public Flux<String> streamCompletion(CompletionRequest request) {
-		return Flux.error(new UnsupportedOperationException("Gemini LLM adapter not yet implemented"));
+		GeminiRequest geminiRequest = GeminiRequest.from(request);
+
+		Flux<DataBuffer> body = webClient.post()
+			.uri("/v1beta/models/{model}:streamGenerateContent?alt=sse",
+				config.resolveModel(request.model()))
+			.accept(MediaType.TEXT_EVENT_STREAM)
+			.bodyValue(geminiRequest)
+			.retrieve()
+			.bodyToFlux(DataBuffer.class);
+		return SseTokenParser.parse(body, jsonFactory, SseTokenParser.GEMINI_PART_TEXT);
 	}
 
 	@Override
 	public Mono<String> complete(CompletionRequest request) {
-		return Mono.error(new UnsupportedOperationException("Gemini LLM adapter not yet implemented"));
+		return streamCompletion(request)
+			.collect(StringBuilder::new, StringBuilder::append)
+			.map(StringBuilder::toString);
 	}
 }
@@ -0,0 +1,110 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class HedgingLlmAdapter implements LlmPort {
+
+	private final LlmPort primary;
+	private final LlmPort secondary;
+	private final double percentile;
+	private final Duration initialDelay;
+	private final Duration minDelay;
+	private final Duration maxDelay;
+	private final int minSamples;
+	private final LatencyWindow primaryTtft;
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder secondaryWins = new LongAdder();
+
+	public HedgingLlmAdapter(
+		LlmPort primary,
+		LlmPort secondary,
+		double percentile,
+		Duration initialDelay,
+		Duration minDelay,
+		Duration maxDelay,
+		int sampleWindow,
+		int minSamples) {
+		this.primary = primary;
+		this.secondary = secondary;
+		this.percentile = percentile;
+		this.initialDelay = initialDelay;
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+		this.minSamples = minSamples;
+		this.primaryTtft = new LatencyWindow(sampleWindow);
+	}
+
+	@Override
+	public Flux<String> streamCompletion(CompletionRequest request) {
+		return Flux.defer(() -> {
+			Sinks.Empty<Void> primaryFailed = Sinks.empty();
+			AtomicBoolean secondaryEmitted = new AtomicBoolean();
+			Flux<String> first = timed(primary.streamCompletion(request))
+				.doOnError(error -> primaryFailed.tryEmitEmpty());
+			Flux<String> second = Mono.firstWithSignal(Mono.delay(hedgeDelay()).then(), primaryFailed.asMono())
+				.thenMany(Flux.defer(() -> {
+					hedges.increment();
+					return secondary.streamCompletion(request);
+				}))
+				.doOnNext(token -> {
+					if (secondaryEmitted.compareAndSet(false, true)) {
+						secondaryWins.increment();
+					}
+				});
+			return Flux.firstWithValue(first, second);
+		});
+	}
+
+	@Override
+	public Mono<String> complete(CompletionRequest request) {
+		return streamCompletion(request)
+			.collect(StringBuilder::new, StringBuilder::append)
+			.map(StringBuilder::toString);
+	}
+
+	public long hedges() {
+		return hedges.sum();
+	}
+
+	public long secondaryWins() {
+		return secondaryWins.sum();
+	}
+
+	Duration hedgeDelay() {
+		if (primaryTtft.size() < minSamples) {
+			return initialDelay;
+		}
+		Duration observed = Duration.ofNanos(primaryTtft.percentile(percentile));
+		if (observed.compareTo(minDelay) < 0) {
+			return minDelay;
+		}
+		return observed.compareTo(maxDelay) > 0 ? maxDelay : observed;
+	}
+
+	private Flux<String> timed(Flux<String> tokens) {
+		return Flux.defer(() -> {
+			long startedAt = System.nanoTime();
+			AtomicBoolean seen = new AtomicBoolean();
+			return tokens
+				.doOnNext(token -> {
+					if (seen.compareAndSet(false, true)) {
+						primaryTtft.record(System.nanoTime() - startedAt);
+					}
+				})
+				.doOnCancel(() -> {
+					if (seen.compareAndSet(false, true)) {
+						primaryTtft.record(System.nanoTime() - startedAt);
+					}
+				});
+		});
+	}
+}
@@ -0,0 +1,37 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.util.Arrays;
+
+final class LatencyWindow {
+
+	private final long[] samples;
+	private int next;
+	private int size;
+
+	LatencyWindow(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.samples = new long[capacity];
+	}
+
+	synchronized void record(long nanos) {
+		samples[next] = nanos;
+		next = (next + 1) % samples.length;
+		size = Math.min(size + 1, samples.length);
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	synchronized long percentile(double percentile) {
+		if (size == 0) {
+			return -1;
+		}
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(percentile * size) - 1;
+		return sorted[Math.max(0, Math.min(size - 1, index))];
+	}
+}
@@ -0,0 +1,33 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class LimitedLlmAdapter implements LlmPort {
+
+	private final LlmPort delegate;
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public LimitedLlmAdapter(LlmPort delegate, AdaptiveConcurrencyLimiter limiter) {
+		this.delegate = delegate;
+		this.limiter = limiter;
+	}
+
+	@Override
+	public Flux<String> streamCompletion(CompletionRequest request) {
+		return limiter.execute(() -> delegate.streamCompletion(request));
+	}
+
+	@Override
+	public Mono<String> complete(CompletionRequest request) {
+		return limiter.execute(() -> delegate.complete(request).flux()).next();
+	}
+
+	public AdaptiveConcurrencyLimiter limiter() {
+		return limiter;
+	}
+}
@@ -0,0 +1,195 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import reactor.core.publisher.Flux;
+
+final class SseTokenParser implements AutoCloseable {
+
+	private static final byte[] DATA_FIELD = {'d', 'a', 't', 'a', ':'};
+
+	private static final int LINE_START = 0;
+	private static final int FIELD_VALUE = 1;
+	private static final int PAYLOAD_START = 2;
+	private static final int PAYLOAD = 3;
+	private static final int SKIP_LINE = 4;
+
+	static final String[] OPENAI_DELTA_CONTENT = {"choices", "[]", "delta", "content"};
+	static final String[] CLAUDE_TEXT_DELTA = {"delta", "text"};
+	static final String[] GEMINI_PART_TEXT = {"candidates", "[]", "content", "parts", "[]", "text"};
+
+	private static final String ARRAY_ELEMENT = "[]";
+
+	private final JsonFactory jsonFactory;
+	private final String[] tokenPath;
+	private final List<String> tokens = new ArrayList<>();
+	private JsonParser parser;
+	private int state = LINE_START;
+	private int matched;
+
+	SseTokenParser(JsonFactory jsonFactory, String... tokenPath) {
+		this.jsonFactory = jsonFactory;
+		this.tokenPath = tokenPath;
+		this.parser = newParser();
+	}
+
+	static Flux<String> parse(Flux<DataBuffer> body, JsonFactory jsonFactory, String... tokenPath) {
+		return Flux.using(
+			() -> new SseTokenParser(jsonFactory, tokenPath),
+			parser -> body.concatMapIterable(parser::parse),
+			SseTokenParser::close
+		).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	List<String> parse(DataBuffer buffer) {
+		try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+			while (iterator.hasNext()) {
+				feed(iterator.next());
+			}
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+		return drainTokens();
+	}
+
+	List<String> parse(ByteBuffer buffer) {
+		feed(buffer);
+		return drainTokens();
+	}
+
+	@Override
+	public void close() {
+		try {
+			parser.close();
+		}
+		catch (IOException ignored) {
+		}
+	}
+
+	private void feed(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		int payloadStart = state == PAYLOAD ? buffer.position() : -1;
+		for (int i = buffer.position(); i < limit; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				if (payloadStart >= 0) {
+					feedPayload(buffer, payloadStart, i);
+					payloadStart = -1;
+				}
+				else if (state == LINE_START && matched == 0 && !parser.getParsingContext().inRoot()) {
+					reset();
+				}
+				state = LINE_START;
+				matched = 0;
+				continue;
+			}
+			switch (state) {
+				case LINE_START -> {
+					if (b != DATA_FIELD[matched]) {
+						state = SKIP_LINE;
+					}
+					else if (++matched == DATA_FIELD.length) {
+						state = FIELD_VALUE;
+					}
+				}
+				case FIELD_VALUE, PAYLOAD_START -> {
+					if (b == ' ' && state == FIELD_VALUE) {
+						state = PAYLOAD_START;
+					}
+					else if (b == '[') {
+						state = SKIP_LINE;
+					}
+					else {
+						state = PAYLOAD;
+						payloadStart = i;
+					}
+				}
+				default -> {
+				}
+			}
+		}
+		if (payloadStart >= 0) {
+			feedPayload(buffer, payloadStart, limit);
+		}
+	}
+
+	private void feedPayload(ByteBuffer buffer, int start, int end) {
+		int position = buffer.position();
+		int limit = buffer.limit();
+		buffer.limit(end).position(start);
+		try {
+			((ByteBufferFeeder)parser.getNonBlockingInputFeeder()).feedInput(buffer);
+			JsonToken token;
+			while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				if (token == JsonToken.VALUE_STRING && isToken(parser.getParsingContext())) {
+					String text = parser.getText();
+					if (!text.isEmpty()) {
+						tokens.add(text);
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			reset();
+			state = SKIP_LINE;
+		}
+		finally {
+			buffer.limit(limit).position(position);
+		}
+	}
+
+	private boolean isToken(JsonStreamContext context) {
+		for (int i = tokenPath.length - 1; i >= 0; i--) {
+			if (context == null) {
+				return false;
+			}
+			if (ARRAY_ELEMENT.equals(tokenPath[i])) {
+				if (!context.inArray()) {
+					return false;
+				}
+			}
+			else if (!context.inObject() || !tokenPath[i].equals(context.getCurrentName())) {
+				return false;
+			}
+			context = context.getParent();
+		}
+		return context != null && context.inRoot();
+	}
+
+	private List<String> drainTokens() {
+		if (tokens.isEmpty()) {
+			return List.of();
+		}
+		List<String> drained = List.copyOf(tokens);
+		tokens.clear();
+		return drained;
+	}
+
+	private void reset() {
+		close();
+		parser = newParser();
+	}
+
+	private JsonParser newParser() {
+		try {
+			return jsonFactory.createNonBlockingByteBufferParser();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.study.webflux.rag.infrastructure.adapter.llm.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.MessageRole;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClaudeRequest(
+	String model,
+	@JsonProperty("max_tokens") int maxTokens,
+	String system,
+	List<Map<String, String>> messages,
+	boolean stream
+) {
+	public static ClaudeRequest from(CompletionRequest request, String model, int maxTokens) {
+		String system = request.messages().stream()
+			.filter(msg -> msg.role() == MessageRole.SYSTEM)
+			.map(msg -> msg.content())
+			.collect(Collectors.joining("\n\n"));
+
+		List<Map<String, String>> messages = request.messages().stream()
+			.filter(msg -> msg.role() != MessageRole.SYSTEM)
+			.map(msg -> Map.of(
+				"role", msg.role().getValue(),
+				"content", msg.content()
+			))
+			.collect(Collectors.toList());
+
+		return new ClaudeRequest(model, maxTokens, system.isEmpty() ? null : system, messages, true);
+	}
+}
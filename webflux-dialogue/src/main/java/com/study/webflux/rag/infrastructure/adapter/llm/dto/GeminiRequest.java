@@ -0,0 +1,39 @@
+package com.study.webflux.rag.infrastructure.adapter.llm.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.MessageRole;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GeminiRequest(
+	Content systemInstruction,
+	List<Content> contents
+) {
+	public static GeminiRequest from(CompletionRequest request) {
+		String system = request.messages().stream()
+			.filter(msg -> msg.role() == MessageRole.SYSTEM)
+			.map(msg -> msg.content())
+			.collect(Collectors.joining("\n\n"));
+
+		List<Content> contents = request.messages().stream()
+			.filter(msg -> msg.role() != MessageRole.SYSTEM)
+			.map(msg -> new Content(
+				msg.role() == MessageRole.ASSISTANT ? "model" : "user",
+				List.of(new Part(msg.content()))
+			))
+			.collect(Collectors.toList());
+
+		Content systemInstruction = system.isEmpty() ? null : new Content(null, List.of(new Part(system)));
+		return new GeminiRequest(systemInstruction, contents);
+	}
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record Content(String role, List<Part> parts) {
+	}
+
+	public record Part(String text) {
+	}
+}
@@ -0,0 +1,7 @@
+package com.study.webflux.rag.infrastructure.adapter.persistence;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+
+public interface ConversationWriteListener {
+	void onSaved(ConversationTurn turn);
+}
@@ -0,0 +1,51 @@
+package com.study.webflux.rag.infrastructure.adapter.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ListeningConversationRepository implements ConversationRepository {
+
+	private static final Logger log = LoggerFactory.getLogger(ListeningConversationRepository.class);
+
+	private final ConversationRepository delegate;
+	private final ObjectProvider<ConversationWriteListener> listeners;
+
+	public ListeningConversationRepository(ConversationRepository delegate, ObjectProvider<ConversationWriteListener> listeners) {
+		this.delegate = delegate;
+		this.listeners = listeners;
+	}
+
+	@Override
+	public Mono<ConversationTurn> save(ConversationTurn turn) {
+		return delegate.save(turn)
+			.doOnNext(this::notifyListeners);
+	}
+
+	@Override
+	public Flux<ConversationTurn> findRecent(int limit) {
+		return delegate.findRecent(limit);
+	}
+
+	@Override
+	public Flux<ConversationTurn> findAll() {
+		return delegate.findAll();
+	}
+
+	public void notifyListeners(ConversationTurn turn) {
+		listeners.orderedStream().forEach(listener -> {
+			try {
+				listener.onSaved(turn);
+			}
+			catch (RuntimeException e) {
+				log.warn("Conversation write listener {} failed for turn {}", listener.getClass().getSimpleName(), turn.id(), e);
+			}
+		});
+	}
+}
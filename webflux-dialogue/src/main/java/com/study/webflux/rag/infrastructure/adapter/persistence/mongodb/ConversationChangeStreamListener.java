@@ -0,0 +1,60 @@
+package com.study.webflux.rag.infrastructure.adapter.persistence.mongodb;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ListeningConversationRepository;
+
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+public class ConversationChangeStreamListener implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(ConversationChangeStreamListener.class);
+
+	private final ReactiveMongoTemplate mongoTemplate;
+	private final ListeningConversationRepository repository;
+	private volatile Disposable subscription;
+
+	public ConversationChangeStreamListener(ReactiveMongoTemplate mongoTemplate, ListeningConversationRepository repository) {
+		this.mongoTemplate = mongoTemplate;
+		this.repository = repository;
+	}
+
+	@Override
+	public void start() {
+		ChangeStreamOptions options = ChangeStreamOptions.builder()
+			.returnFullDocumentOnUpdate()
+			.build();
+
+		subscription = mongoTemplate.changeStream("conversations", options, ConversationEntity.class)
+			.mapNotNull(ChangeStreamEvent::getBody)
+			.map(entity -> ConversationTurn.withId(entity.id(), entity.query(), entity.response(), entity.createdAt()))
+			.doOnError(error -> log.warn("Conversation change stream failed, resubscribing", error))
+			.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+			.subscribe(repository::notifyListeners);
+		log.info("Conversation change stream listener started");
+	}
+
+	@Override
+	public void stop() {
+		Disposable current = subscription;
+		if (current != null) {
+			current.dispose();
+			subscription = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		Disposable current = subscription;
+		return current != null && !current.isDisposed();
+	}
+}
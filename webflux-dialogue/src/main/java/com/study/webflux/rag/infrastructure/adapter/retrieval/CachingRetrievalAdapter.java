@@ -0,0 +1,193 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ConversationWriteListener;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
+
+import reactor.core.publisher.Mono;
+
+public class CachingRetrievalAdapter implements RetrievalPort, ConversationWriteListener {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\p{Punct}\\s]+$");
+	private static final long NO_UNAPPLIED_WRITE = Long.MIN_VALUE;
+	private static final long NEVER_CHECKED = Long.MIN_VALUE;
+
+	private final RetrievalPort delegate;
+	private final LocalCache<String, CachedRetrieval> localCache;
+	private final RedisCacheTier<CachedRetrieval> redisCache;
+	private final long maxStalenessNanos;
+	private final long generationRefreshNanos;
+	private final LongSupplier clock;
+	private final AtomicLong localGeneration = new AtomicLong();
+	private final AtomicLong sharedGeneration = new AtomicLong();
+	private final AtomicLong generationCheckedAt = new AtomicLong(NEVER_CHECKED);
+	private final AtomicLong unappliedWriteAt = new AtomicLong(NO_UNAPPLIED_WRITE);
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public CachingRetrievalAdapter(
+		RetrievalPort delegate,
+		LocalCache<String, CachedRetrieval> localCache,
+		RedisCacheTier<CachedRetrieval> redisCache,
+		Duration maxStaleness,
+		Duration generationRefresh) {
+		this(delegate, localCache, redisCache, maxStaleness, generationRefresh, System::nanoTime);
+	}
+
+	CachingRetrievalAdapter(
+		RetrievalPort delegate,
+		LocalCache<String, CachedRetrieval> localCache,
+		RedisCacheTier<CachedRetrieval> redisCache,
+		Duration maxStaleness,
+		Duration generationRefresh,
+		LongSupplier clock) {
+		this.delegate = delegate;
+		this.localCache = localCache;
+		this.redisCache = redisCache;
+		this.maxStalenessNanos = maxStaleness.toNanos();
+		this.generationRefreshNanos = generationRefresh.toNanos();
+		this.clock = clock;
+	}
+
+	@Override
+	public Mono<RetrievalContext> retrieve(String query, int topK) {
+		applyWritesOlderThanStaleness();
+		return refreshSharedGeneration().then(Mono.defer(() -> lookup(query, topK)));
+	}
+
+	private Mono<RetrievalContext> lookup(String query, int topK) {
+		String normalized = normalize(query);
+		long local = localGeneration.get();
+		long shared = sharedGeneration.get();
+		String localKey = local + ":" + shared + ":" + topK + ":" + normalized;
+		String sharedKey = shared + ":" + topK + ":" + normalized;
+
+		CachedRetrieval cached = localCache.get(localKey);
+		if (cached != null) {
+			localHits.increment();
+			return Mono.just(cached.toContext(query, diagnostics("local-hit", Map.of())));
+		}
+
+		Mono<RetrievalContext> fromDelegate = Mono.defer(() -> delegate.retrieve(query, topK))
+			.doOnNext(context -> {
+				misses.increment();
+				if (isComplete(context)) {
+					CachedRetrieval entry = CachedRetrieval.from(context);
+					localCache.put(localKey, entry);
+					if (redisCache != null) {
+						redisCache.put(sharedKey, entry).subscribe();
+					}
+				}
+			})
+			.map(context -> context.withDiagnostics(diagnostics("miss", context.diagnostics())));
+
+		if (redisCache == null) {
+			return fromDelegate;
+		}
+		return redisCache.get(sharedKey)
+			.map(entry -> {
+				redisHits.increment();
+				localCache.put(localKey, entry);
+				return entry.toContext(query, diagnostics("redis-hit", Map.of()));
+			})
+			.switchIfEmpty(fromDelegate);
+	}
+
+	@Override
+	public void onSaved(ConversationTurn turn) {
+		unappliedWriteAt.compareAndSet(NO_UNAPPLIED_WRITE, clock.getAsLong());
+		applyWritesOlderThanStaleness();
+	}
+
+	private Mono<Void> refreshSharedGeneration() {
+		if (redisCache == null) {
+			return Mono.empty();
+		}
+		long now = clock.getAsLong();
+		long checkedAt = generationCheckedAt.get();
+		if (checkedAt != NEVER_CHECKED && now - checkedAt < generationRefreshNanos) {
+			return Mono.empty();
+		}
+		if (!generationCheckedAt.compareAndSet(checkedAt, now)) {
+			return Mono.empty();
+		}
+		return redisCache.currentGeneration()
+			.doOnNext(generation -> sharedGeneration.accumulateAndGet(generation, Math::max))
+			.then();
+	}
+
+	private void applyWritesOlderThanStaleness() {
+		long writtenAt = unappliedWriteAt.get();
+		if (writtenAt == NO_UNAPPLIED_WRITE || clock.getAsLong() - writtenAt < maxStalenessNanos) {
+			return;
+		}
+		if (!unappliedWriteAt.compareAndSet(writtenAt, NO_UNAPPLIED_WRITE)) {
+			return;
+		}
+		localGeneration.incrementAndGet();
+		localCache.clear();
+		if (redisCache != null) {
+			redisCache.incrementGeneration()
+				.subscribe(generation -> sharedGeneration.accumulateAndGet(generation, Math::max));
+		}
+	}
+
+	static String normalize(String query) {
+		String collapsed = WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+		String stripped = TRAILING_PUNCTUATION.matcher(collapsed).replaceAll("");
+		return stripped.isEmpty() ? collapsed : stripped;
+	}
+
+	private Map<String, Object> diagnostics(String outcome, Map<String, Object> upstream) {
+		long hits = localHits.sum() + redisHits.sum();
+		long total = hits + misses.sum();
+		Map<String, Object> diagnostics = new LinkedHashMap<>(upstream);
+		diagnostics.put("cache", outcome);
+		diagnostics.put("cache.hitRatio", total == 0 ? 0.0 : (double)hits / total);
+		diagnostics.put("cache.localHits", localHits.sum());
+		diagnostics.put("cache.redisHits", redisHits.sum());
+		diagnostics.put("cache.misses", misses.sum());
+		return diagnostics;
+	}
+
+	private static boolean isComplete(RetrievalContext context) {
+		return context.diagnostics().entrySet().stream()
+			.noneMatch(entry -> entry.getKey().endsWith(".status")
+				&& ("timeout".equals(entry.getValue()) || "error".equals(entry.getValue())));
+	}
+
+	public record CachedRetrieval(List<CachedDocument> documents) {
+
+		static CachedRetrieval from(RetrievalContext context) {
+			return new CachedRetrieval(context.documents().stream()
+				.map(document -> new CachedDocument(document.content(), document.score().value()))
+				.toList());
+		}
+
+		RetrievalContext toContext(String query, Map<String, Object> diagnostics) {
+			List<RetrievalDocument> restored = documents.stream()
+				.map(document -> RetrievalDocument.of(document.content(), document.score()))
+				.toList();
+			return new RetrievalContext(query, restored, diagnostics);
+		}
+	}
+
+	public record CachedDocument(String content, double score) {
+	}
+}
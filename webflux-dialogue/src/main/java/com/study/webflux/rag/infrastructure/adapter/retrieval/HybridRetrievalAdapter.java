@@ -0,0 +1,142 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class HybridRetrievalAdapter implements RetrievalPort {
+
+	private static final Logger log = LoggerFactory.getLogger(HybridRetrievalAdapter.class);
+
+	private final Map<String, RetrievalPort> retrievers;
+	private final Duration deadline;
+	private final int rankConstant;
+	private final int candidatesPerRetriever;
+
+	public HybridRetrievalAdapter(
+		Map<String, RetrievalPort> retrievers,
+		Duration deadline,
+		int rankConstant,
+		int candidatesPerRetriever) {
+		if (retrievers.isEmpty()) {
+			throw new IllegalArgumentException("At least one retriever is required");
+		}
+		this.retrievers = new LinkedHashMap<>(retrievers);
+		this.deadline = deadline;
+		this.rankConstant = rankConstant;
+		this.candidatesPerRetriever = candidatesPerRetriever;
+	}
+
+	@Override
+	public Mono<RetrievalContext> retrieve(String query, int topK) {
+		int candidates = Math.max(topK, candidatesPerRetriever);
+		return Flux.fromIterable(retrievers.entrySet())
+			.flatMap(entry -> retrieveFrom(entry.getKey(), entry.getValue(), query, candidates))
+			.collectList()
+			.map(outcomes -> fuse(query, topK, outcomes));
+	}
+
+	private Mono<Outcome> retrieveFrom(String name, RetrievalPort retriever, String query, int candidates) {
+		return Mono.defer(() -> {
+			long startedAt = System.nanoTime();
+			return retriever.retrieve(query, candidates)
+				.subscribeOn(Schedulers.parallel())
+				.timeout(deadline)
+				.map(context -> new Outcome(name, context.documents(), "ok", elapsedMillis(startedAt)))
+				.defaultIfEmpty(new Outcome(name, List.of(), "empty", elapsedMillis(startedAt)))
+				.onErrorResume(error -> {
+					boolean timedOut = error instanceof TimeoutException;
+					if (!timedOut) {
+						log.warn("Retriever {} failed", name, error);
+					}
+					return Mono.just(new Outcome(name, List.of(), timedOut ? "timeout" : "error", elapsedMillis(startedAt)));
+				});
+		});
+	}
+
+	private RetrievalContext fuse(String query, int topK, List<Outcome> outcomes) {
+		Map<String, Fused> fused = new LinkedHashMap<>();
+		for (Outcome outcome : outcomes) {
+			List<RetrievalDocument> documents = outcome.documents();
+			for (int rank = 0; rank < documents.size(); rank++) {
+				RetrievalDocument document = documents.get(rank);
+				fused.computeIfAbsent(document.content(), Fused::new)
+					.add(outcome.name(), 1.0 / (rankConstant + rank + 1));
+			}
+		}
+
+		List<Fused> ranked = new ArrayList<>(fused.values());
+		ranked.sort(Comparator.comparingDouble(Fused::score).reversed());
+		List<RetrievalDocument> documents = new ArrayList<>(Math.min(topK, ranked.size()));
+		Map<String, Integer> contributions = new LinkedHashMap<>();
+		for (Fused candidate : ranked.subList(0, Math.min(topK, ranked.size()))) {
+			documents.add(RetrievalDocument.withMetadata(
+				candidate.content(),
+				candidate.score(),
+				Map.of("retrievers", List.copyOf(candidate.sources()))
+			));
+			candidate.sources().forEach(source -> contributions.merge(source, 1, Integer::sum));
+		}
+
+		Map<String, Object> diagnostics = new LinkedHashMap<>();
+		for (Outcome outcome : outcomes) {
+			diagnostics.put(outcome.name() + ".status", outcome.status());
+			diagnostics.put(outcome.name() + ".latencyMs", outcome.latencyMillis());
+			diagnostics.put(outcome.name() + ".candidates", outcome.documents().size());
+			diagnostics.put(outcome.name() + ".contribution", contributions.getOrDefault(outcome.name(), 0));
+		}
+		return RetrievalContext.of(query, documents).withDiagnostics(diagnostics);
+	}
+
+	private static long elapsedMillis(long startedAt) {
+		return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+	}
+
+	private record Outcome(String name, List<RetrievalDocument> documents, String status, long latencyMillis) {
+	}
+
+	private static final class Fused {
+		private final String content;
+		private final Set<String> sources = new LinkedHashSet<>();
+		private double score;
+
+		private Fused(String content) {
+			this.content = content;
+		}
+
+		private void add(String source, double contribution) {
+			if (sources.add(source)) {
+				score += contribution;
+			}
+		}
+
+		private String content() {
+			return content;
+		}
+
+		private Set<String> sources() {
+			return sources;
+		}
+
+		private double score() {
+			return score;
+		}
+	}
+}
@@ -6,8 +6,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
-
 import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
 import com.study.webflux.rag.domain.model.rag.RetrievalContext;
 import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
@@ -16,7 +14,6 @@ import com.study.webflux.rag.domain.port.out.RetrievalPort;
 
 import reactor.core.publisher.Mono;
 
-@Component
 public class InMemoryRetrievalAdapter implements RetrievalPort {
 
 	private final ConversationRepository conversationRepository;
@@ -36,7 +33,7 @@ public class InMemoryRetrievalAdapter implements RetrievalPort {
 						return RetrievalDocument.of(turn.query(), score);
 					})
 					.filter(doc -> doc.score().isRelevant())
-					.sorted((a, b) -> Integer.compare(b.score().value(), a.score().value()))
+					.sorted((a, b) -> Double.compare(b.score().value(), a.score().value()))
 					.limit(topK)
 					.collect(Collectors.toList());
 
@@ -0,0 +1,153 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ConversationWriteListener;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.RetrievalIndexStore;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.ShardedInvertedIndex;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class InvertedIndexRetrievalAdapter
+	implements RetrievalPort, ConversationWriteListener, SmartLifecycle, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(InvertedIndexRetrievalAdapter.class);
+
+	private final ShardedInvertedIndex index;
+	private final List<RetrievalIndexStore> stores;
+	private final Duration checkpointInterval;
+	private final Mono<ShardedInvertedIndex> ready;
+	private final AtomicBoolean bootstrapped = new AtomicBoolean(false);
+	private volatile Disposable bootstrap;
+	private volatile Disposable checkpoints;
+
+	public InvertedIndexRetrievalAdapter(ConversationRepository conversationRepository, ShardedInvertedIndex index) {
+		this(conversationRepository, index, List.of(), Duration.ZERO);
+	}
+
+	public InvertedIndexRetrievalAdapter(
+		ConversationRepository conversationRepository,
+		ShardedInvertedIndex index,
+		List<RetrievalIndexStore> stores,
+		Duration checkpointInterval) {
+		if (!stores.isEmpty() && stores.size() != index.shardCount()) {
+			throw new IllegalArgumentException("Expected one index store per shard");
+		}
+		this.index = index;
+		this.stores = List.copyOf(stores);
+		this.checkpointInterval = checkpointInterval;
+		this.ready = Mono.defer(() -> bootstrap(conversationRepository))
+			.doOnNext(built -> onBootstrapped())
+			.cache(
+				built -> Duration.ofMillis(Long.MAX_VALUE),
+				error -> Duration.ZERO,
+				() -> Duration.ZERO
+			);
+	}
+
+	@Override
+	public void start() {
+		bootstrap = ready.subscribe(built -> {}, error -> log.warn("Retrieval index bootstrap failed", error));
+	}
+
+	@Override
+	public void stop() {
+		Disposable current = bootstrap;
+		if (current != null) {
+			current.dispose();
+			bootstrap = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return bootstrap != null;
+	}
+
+	@Override
+	public Mono<RetrievalContext> retrieve(String query, int topK) {
+		return ready.flatMap(built -> built.search(query, topK))
+			.map(documents -> RetrievalContext.of(query, documents));
+	}
+
+	@Override
+	public void onSaved(ConversationTurn turn) {
+		String content = indexedContent(turn);
+		int shard = index.shardOf(turn.id());
+		index.upsert(shard, turn.id(), content);
+		if (!stores.isEmpty()) {
+			stores.get(shard).append(turn.id(), content);
+		}
+	}
+
+	@Override
+	public void close() {
+		Disposable current = checkpoints;
+		if (current != null) {
+			current.dispose();
+		}
+		if (bootstrapped.get()) {
+			checkpoint();
+		}
+		stores.forEach(RetrievalIndexStore::close);
+	}
+
+	private Mono<ShardedInvertedIndex> bootstrap(ConversationRepository conversationRepository) {
+		if (restored()) {
+			return Mono.just(index);
+		}
+		long startedAt = System.nanoTime();
+		return conversationRepository.findAll()
+			.doOnNext(turn -> index.addIfAbsent(turn.id(), indexedContent(turn)))
+			.then(Mono.fromCallable(() -> {
+				log.info(
+					"Retrieval index built: shards={} documents={} terms={} elapsed={}ms",
+					index.shardCount(),
+					index.documentCount(),
+					index.termCount(),
+					Duration.ofNanos(System.nanoTime() - startedAt).toMillis()
+				);
+				return index;
+			}));
+	}
+
+	private void onBootstrapped() {
+		if (stores.isEmpty() || !bootstrapped.compareAndSet(false, true)) {
+			return;
+		}
+		Flux<Long> ticks = restored()
+			? Flux.interval(checkpointInterval, Schedulers.boundedElastic())
+			: Flux.interval(Duration.ZERO, checkpointInterval, Schedulers.boundedElastic());
+		checkpoints = ticks.subscribe(tick -> checkpoint());
+	}
+
+	private boolean restored() {
+		return !stores.isEmpty() && stores.stream().allMatch(RetrievalIndexStore::restored);
+	}
+
+	private void checkpoint() {
+		for (int shard = 0; shard < stores.size(); shard++) {
+			stores.get(shard).checkpoint(index, shard);
+		}
+	}
+
+	private String indexedContent(ConversationTurn turn) {
+		if (turn.response() == null || turn.response().isBlank()) {
+			return turn.query();
+		}
+		return turn.query() + "\n" + turn.response();
+	}
+}
@@ -0,0 +1,121 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+import com.study.webflux.rag.domain.port.out.EmbeddingPort;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ConversationWriteListener;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.vector.VectorIndex;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class VectorRetrievalAdapter implements RetrievalPort, ConversationWriteListener, SmartLifecycle, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(VectorRetrievalAdapter.class);
+
+	private static final int BOOTSTRAP_CONCURRENCY = 4;
+
+	private final EmbeddingPort embeddingPort;
+	private final VectorIndex index;
+	private final Mono<VectorIndex> ready;
+	private final Sinks.Many<ConversationTurn> writes = Sinks.many().unicast().onBackpressureBuffer();
+	private final Disposable writer;
+	private volatile Disposable bootstrap;
+
+	public VectorRetrievalAdapter(
+		ConversationRepository conversationRepository,
+		EmbeddingPort embeddingPort,
+		VectorIndex index) {
+		this.embeddingPort = embeddingPort;
+		this.index = index;
+		this.ready = Mono.defer(() -> bootstrap(conversationRepository))
+			.cache(
+				built -> Duration.ofMillis(Long.MAX_VALUE),
+				error -> Duration.ZERO,
+				() -> Duration.ZERO
+			);
+		this.writer = writes.asFlux()
+			.concatMap(turn -> {
+				String content = indexedContent(turn);
+				return embeddingPort.embed(content)
+					.doOnNext(vector -> index.upsert(turn.id(), content, vector))
+					.onErrorResume(error -> {
+						log.warn("Failed to embed conversation turn {}", turn.id(), error);
+						return Mono.empty();
+					});
+			})
+			.subscribe();
+	}
+
+	@Override
+	public void start() {
+		bootstrap = ready.subscribe(built -> {}, error -> log.warn("Vector index bootstrap failed", error));
+	}
+
+	@Override
+	public void stop() {
+		Disposable current = bootstrap;
+		if (current != null) {
+			current.dispose();
+			bootstrap = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return bootstrap != null;
+	}
+
+	@Override
+	public Mono<RetrievalContext> retrieve(String query, int topK) {
+		return ready.zipWith(embeddingPort.embed(query))
+			.map(tuple -> RetrievalContext.of(query, tuple.getT1().search(tuple.getT2(), topK)));
+	}
+
+	@Override
+	public void onSaved(ConversationTurn turn) {
+		writes.emitNext(turn, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+	}
+
+	@Override
+	public void close() {
+		writes.tryEmitComplete();
+		writer.dispose();
+	}
+
+	private Mono<VectorIndex> bootstrap(ConversationRepository conversationRepository) {
+		long startedAt = System.nanoTime();
+		return conversationRepository.findAll()
+			.filter(turn -> turn.id() == null || !index.contains(turn.id()))
+			.flatMap(turn -> {
+				String content = indexedContent(turn);
+				return embeddingPort.embed(content)
+					.doOnNext(vector -> index.addIfAbsent(turn.id(), content, vector));
+			}, BOOTSTRAP_CONCURRENCY)
+			.then(Mono.fromCallable(() -> {
+				log.info(
+					"Vector index built: vectors={} offHeapBytes={} elapsed={}ms",
+					index.size(),
+					index.offHeapBytes(),
+					Duration.ofNanos(System.nanoTime() - startedAt).toMillis()
+				);
+				return index;
+			}));
+	}
+
+	private String indexedContent(ConversationTurn turn) {
+		if (turn.response() == null || turn.response().isBlank()) {
+			return turn.query();
+		}
+		return turn.query() + "\n" + turn.response();
+	}
+}
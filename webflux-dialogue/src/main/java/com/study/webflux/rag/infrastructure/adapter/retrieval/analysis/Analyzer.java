@@ -0,0 +1,9 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.List;
+
+public interface Analyzer {
+	List<String> analyze(String text);
+
+	String signature();
+}
@@ -0,0 +1,58 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class AnalyzerChain implements Analyzer {
+
+	private final List<TokenFilter> filters;
+	private final String signature;
+
+	public AnalyzerChain(List<TokenFilter> filters) {
+		this.filters = List.copyOf(filters);
+		this.signature = this.filters.stream()
+			.map(TokenFilter::name)
+			.collect(Collectors.joining("|", "letter-digit|", ""));
+	}
+
+	public static AnalyzerChain standard() {
+		return new AnalyzerChain(List.of(new LowerCaseFilter(), new KoreanSuffixFilter(), new CharNGramFilter(2, 2)));
+	}
+
+	@Override
+	public List<String> analyze(String text) {
+		if (text == null || text.isBlank()) {
+			return List.of();
+		}
+		List<String> tokens = new ArrayList<>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean inToken = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (inToken && start < 0) {
+				start = i;
+			}
+			else if (!inToken && start >= 0) {
+				emit(0, text.substring(start, i), tokens);
+				start = -1;
+			}
+		}
+		return tokens;
+	}
+
+	@Override
+	public String signature() {
+		return signature;
+	}
+
+	private void emit(int stage, String token, List<String> tokens) {
+		if (token.isEmpty()) {
+			return;
+		}
+		if (stage == filters.size()) {
+			tokens.add(token);
+			return;
+		}
+		filters.get(stage).apply(token, next -> emit(stage + 1, next, tokens));
+	}
+}
@@ -0,0 +1,36 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.function.Consumer;
+
+public class CharNGramFilter implements TokenFilter {
+
+	private final int minSize;
+	private final int maxSize;
+
+	public CharNGramFilter(int minSize, int maxSize) {
+		if (minSize < 1 || maxSize < minSize) {
+			throw new IllegalArgumentException("n-gram sizes must satisfy 1 <= minSize <= maxSize");
+		}
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public void apply(String token, Consumer<String> next) {
+		next.accept(token);
+		if (!Hangul.containsSyllable(token)) {
+			return;
+		}
+		int length = token.length();
+		for (int size = minSize; size <= maxSize && size < length; size++) {
+			for (int start = 0; start + size <= length; start++) {
+				next.accept(token.substring(start, start + size));
+			}
+		}
+	}
+
+	@Override
+	public String name() {
+		return "char-ngram(" + minSize + "," + maxSize + ")";
+	}
+}
@@ -0,0 +1,27 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+final class Hangul {
+
+	private static final char FIRST_SYLLABLE = '가';
+	private static final char LAST_SYLLABLE = '힣';
+
+	private Hangul() {
+	}
+
+	static boolean isSyllable(char c) {
+		return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
+	}
+
+	static boolean endsWithSyllable(String token) {
+		return !token.isEmpty() && isSyllable(token.charAt(token.length() - 1));
+	}
+
+	static boolean containsSyllable(String token) {
+		for (int i = 0; i < token.length(); i++) {
+			if (isSyllable(token.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,42 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class KoreanSuffixFilter implements TokenFilter {
+
+	private static final List<String> SUFFIXES = List.of(
+		"했습니다", "했었어요", "하겠습니다", "입니다", "습니다", "합니다", "했어요", "이에요", "인가요",
+		"으로부터", "에서부터", "에게서", "한테서", "으로서", "으로써", "이라고", "이라는", "에서는", "에서도",
+		"에게는", "까지는", "부터는", "으로는", "해요", "예요", "했다", "한다", "하는", "해서", "나요", "까요",
+		"네요", "어요", "아요", "에서", "에게", "한테", "께서", "까지", "부터", "으로", "로서", "로써", "처럼",
+		"보다", "이나", "라고", "라는", "하고", "이랑", "은", "는", "이", "가", "을", "를", "에", "의", "와",
+		"과", "도", "로", "만", "랑", "요", "다"
+	).stream()
+		.sorted(Comparator.comparingInt(String::length).reversed())
+		.toList();
+
+	@Override
+	public void apply(String token, Consumer<String> next) {
+		next.accept(strip(token));
+	}
+
+	@Override
+	public String name() {
+		return "korean-suffix";
+	}
+
+	String strip(String token) {
+		if (!Hangul.endsWithSyllable(token)) {
+			return token;
+		}
+		for (String suffix : SUFFIXES) {
+			int minimumStem = suffix.length() == 1 ? 2 : 1;
+			if (token.length() - suffix.length() >= minimumStem && token.endsWith(suffix)) {
+				return token.substring(0, token.length() - suffix.length());
+			}
+		}
+		return token;
+	}
+}
@@ -0,0 +1,17 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+public class LowerCaseFilter implements TokenFilter {
+
+	@Override
+	public void apply(String token, Consumer<String> next) {
+		next.accept(token.toLowerCase(Locale.ROOT));
+	}
+
+	@Override
+	public String name() {
+		return "lowercase";
+	}
+}
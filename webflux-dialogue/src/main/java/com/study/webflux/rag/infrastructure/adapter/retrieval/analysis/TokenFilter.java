@@ -0,0 +1,9 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import java.util.function.Consumer;
+
+public interface TokenFilter {
+	void apply(String token, Consumer<String> next);
+
+	String name();
+}
@@ -0,0 +1,31 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+public final class Bm25Scorer {
+
+	private final float k1;
+	private final float b;
+
+	public Bm25Scorer(float k1, float b) {
+		if (k1 < 0) {
+			throw new IllegalArgumentException("k1 must not be negative");
+		}
+		if (b < 0 || b > 1) {
+			throw new IllegalArgumentException("b must be between 0 and 1");
+		}
+		this.k1 = k1;
+		this.b = b;
+	}
+
+	public static Bm25Scorer defaults() {
+		return new Bm25Scorer(1.2f, 0.75f);
+	}
+
+	float idf(int documentCount, int documentFrequency) {
+		return (float)Math.log(1.0 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+	}
+
+	float score(float idf, int termFrequency, int documentLength, float averageDocumentLength) {
+		float lengthNorm = k1 * (1 - b + b * documentLength / averageDocumentLength);
+		return idf * (termFrequency * (k1 + 1)) / (termFrequency + lengthNorm);
+	}
+}
@@ -0,0 +1,79 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class DocumentTable {
+
+	static final int DELETED = -1;
+
+	private static final int PAGE_SHIFT = 14;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final AtomicReferenceArray<Page> pages = new AtomicReferenceArray<>((Integer.MAX_VALUE >>> PAGE_SHIFT) + 1);
+	private final AtomicInteger nextDocId;
+
+	DocumentTable(int firstDocId) {
+		this.nextDocId = new AtomicInteger(firstDocId);
+	}
+
+	int allocate(String key, int length, int[] termIds) {
+		int docId = nextDocId.getAndIncrement();
+		Page page = page(docId);
+		page.keys.set(docId & PAGE_MASK, key);
+		page.termIds.set(docId & PAGE_MASK, termIds);
+		page.lengths.set(docId & PAGE_MASK, length);
+		return docId;
+	}
+
+	void publish(int docId, String content) {
+		pages.get(docId >>> PAGE_SHIFT).contents.set(docId & PAGE_MASK, content);
+	}
+
+	String content(int docId) {
+		Page page = pages.get(docId >>> PAGE_SHIFT);
+		return page == null ? null : page.contents.get(docId & PAGE_MASK);
+	}
+
+	String key(int docId) {
+		Page page = pages.get(docId >>> PAGE_SHIFT);
+		return page == null ? null : page.keys.get(docId & PAGE_MASK);
+	}
+
+	int[] termIds(int docId) {
+		Page page = pages.get(docId >>> PAGE_SHIFT);
+		return page == null ? null : page.termIds.get(docId & PAGE_MASK);
+	}
+
+	int length(int docId) {
+		Page page = pages.get(docId >>> PAGE_SHIFT);
+		return page == null ? DELETED : page.lengths.get(docId & PAGE_MASK);
+	}
+
+	int delete(int docId) {
+		return pages.get(docId >>> PAGE_SHIFT).lengths.getAndSet(docId & PAGE_MASK, DELETED);
+	}
+
+	int allocatedCount() {
+		return nextDocId.get();
+	}
+
+	private Page page(int docId) {
+		int index = docId >>> PAGE_SHIFT;
+		Page page = pages.get(index);
+		if (page == null) {
+			pages.compareAndSet(index, null, new Page());
+			page = pages.get(index);
+		}
+		return page;
+	}
+
+	private static final class Page {
+		private final AtomicReferenceArray<String> keys = new AtomicReferenceArray<>(PAGE_SIZE);
+		private final AtomicReferenceArray<int[]> termIds = new AtomicReferenceArray<>(PAGE_SIZE);
+		private final AtomicReferenceArray<String> contents = new AtomicReferenceArray<>(PAGE_SIZE);
+		private final AtomicIntegerArray lengths = new AtomicIntegerArray(PAGE_SIZE);
+	}
+}
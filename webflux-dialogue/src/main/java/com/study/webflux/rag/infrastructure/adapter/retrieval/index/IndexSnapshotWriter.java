@@ -0,0 +1,247 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class IndexSnapshotWriter {
+
+	private IndexSnapshotWriter() {
+	}
+
+	static void write(InvertedIndex index, int allocated, long walGeneration, Path target) throws IOException {
+		int[] remap = new int[allocated];
+		Arrays.fill(remap, -1);
+		int[] liveLengths = new int[allocated];
+		List<Integer> liveDocIds = new ArrayList<>();
+		for (int docId = 0; docId < allocated; docId++) {
+			int length = index.liveLength(docId);
+			if (length != DocumentTable.DELETED) {
+				remap[docId] = liveDocIds.size();
+				liveLengths[docId] = length;
+				liveDocIds.add(docId);
+			}
+		}
+		int documentCount = liveDocIds.size();
+
+		try (FileChannel channel = FileChannel.open(target,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			channel.position(SnapshotSegment.HEADER_SIZE);
+			PositionedOutput out = new PositionedOutput(Channels.newOutputStream(channel), SnapshotSegment.HEADER_SIZE);
+
+			long[] dataOffsets = new long[documentCount];
+			int[] keyLengths = new int[documentCount];
+			int[] contentLengths = new int[documentCount];
+			int[] lengths = new int[documentCount];
+			byte[][] keys = new byte[documentCount][];
+			long totalLength = 0;
+			for (int i = 0; i < documentCount; i++) {
+				int docId = liveDocIds.get(i);
+				String key = index.key(docId);
+				byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+				byte[] contentBytes = index.content(docId).getBytes(StandardCharsets.UTF_8);
+				dataOffsets[i] = out.position();
+				keyLengths[i] = keyBytes == null ? -1 : keyBytes.length;
+				contentLengths[i] = contentBytes.length;
+				lengths[i] = liveLengths[docId];
+				keys[i] = keyBytes;
+				totalLength += lengths[i];
+				if (keyBytes != null) {
+					out.write(keyBytes);
+				}
+				out.write(contentBytes);
+			}
+
+			List<byte[]> terms = sortedTerms(index);
+			long[] termOffsets = new long[terms.size()];
+			int[] documentFrequencies = new int[terms.size()];
+			long[] postingsOffsets = new long[terms.size()];
+			int termCount = 0;
+			for (byte[] term : terms) {
+				int[][] merged = mergedPostings(index, new String(term, StandardCharsets.UTF_8), term, remap);
+				int frequency = merged[0].length;
+				if (frequency == 0) {
+					continue;
+				}
+				termOffsets[termCount] = out.position();
+				out.write(term);
+				postingsOffsets[termCount] = out.position();
+				for (int docId : merged[0]) {
+					out.writeInt(docId);
+				}
+				for (int termFrequency : merged[1]) {
+					out.writeInt(termFrequency);
+				}
+				documentFrequencies[termCount] = frequency;
+				terms.set(termCount, term);
+				termCount++;
+			}
+
+			long docRecordsOffset = out.position();
+			for (int i = 0; i < documentCount; i++) {
+				out.writeLong(dataOffsets[i]);
+				out.writeInt(keyLengths[i]);
+				out.writeInt(contentLengths[i]);
+			}
+
+			long lengthsOffset = out.position();
+			for (int length : lengths) {
+				out.writeInt(length);
+			}
+
+			long keyIndexOffset = out.position();
+			Integer[] keyOrder = new Integer[documentCount];
+			int keyCount = 0;
+			for (int i = 0; i < documentCount; i++) {
+				if (keys[i] != null) {
+					keyOrder[keyCount++] = i;
+				}
+			}
+			Arrays.sort(keyOrder, 0, keyCount, (a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+			for (int i = 0; i < keyCount; i++) {
+				out.writeInt(keyOrder[i]);
+			}
+
+			long termRecordsOffset = out.position();
+			for (int i = 0; i < termCount; i++) {
+				out.writeLong(termOffsets[i]);
+				out.writeInt(terms.get(i).length);
+				out.writeInt(documentFrequencies[i]);
+				out.writeLong(postingsOffsets[i]);
+			}
+			out.flush();
+			long fileLength = out.position();
+
+			ByteBuffer header = ByteBuffer.allocate(SnapshotSegment.HEADER_SIZE);
+			header.putInt(SnapshotSegment.MAGIC)
+				.putInt(SnapshotSegment.VERSION)
+				.putLong(walGeneration)
+				.putInt(documentCount)
+				.putInt(termCount)
+				.putInt(keyCount)
+				.putInt(SnapshotSegment.signatureHash(index.analyzer()))
+				.putLong(totalLength)
+				.putLong(docRecordsOffset)
+				.putLong(lengthsOffset)
+				.putLong(keyIndexOffset)
+				.putLong(termRecordsOffset)
+				.putLong(fileLength);
+			header.clear();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			channel.force(true);
+		}
+	}
+
+	private static List<byte[]> sortedTerms(InvertedIndex index) {
+		Set<String> unique = new HashSet<>();
+		for (TermDictionary.Term term : index.memoryTerms()) {
+			unique.add(term.text);
+		}
+		SnapshotSegment base = index.base();
+		if (base != null) {
+			for (int ordinal = 0; ordinal < base.termCount(); ordinal++) {
+				unique.add(base.term(ordinal));
+			}
+		}
+		List<byte[]> terms = new ArrayList<>(unique.size());
+		for (String term : unique) {
+			terms.add(term.getBytes(StandardCharsets.UTF_8));
+		}
+		terms.sort(Arrays::compareUnsigned);
+		return terms;
+	}
+
+	private static int[][] mergedPostings(InvertedIndex index, String term, byte[] termBytes, int[] remap) {
+		int[] docIds = new int[8];
+		int[] termFrequencies = new int[8];
+		int size = 0;
+
+		SnapshotSegment base = index.base();
+		int ordinal = base == null ? -1 : base.findTerm(termBytes);
+		if (ordinal >= 0) {
+			int frequency = base.documentFrequency(ordinal);
+			long offset = base.postingsOffset(ordinal);
+			for (int i = 0; i < frequency; i++) {
+				int mapped = remap[base.postingDocId(offset, i)];
+				if (mapped < 0) {
+					continue;
+				}
+				if (size == docIds.length) {
+					docIds = Arrays.copyOf(docIds, size << 1);
+					termFrequencies = Arrays.copyOf(termFrequencies, size << 1);
+				}
+				docIds[size] = mapped;
+				termFrequencies[size] = base.postingTermFrequency(offset, frequency, i);
+				size++;
+			}
+		}
+
+		PostingList list = index.memoryPostings(term);
+		if (list != null) {
+			PostingList.Snapshot snapshot = list.snapshot();
+			for (int i = 0; i < snapshot.size(); i++) {
+				int docId = snapshot.docIds()[i];
+				int mapped = docId < remap.length ? remap[docId] : -1;
+				if (mapped < 0) {
+					continue;
+				}
+				if (size == docIds.length) {
+					docIds = Arrays.copyOf(docIds, size << 1);
+					termFrequencies = Arrays.copyOf(termFrequencies, size << 1);
+				}
+				docIds[size] = mapped;
+				termFrequencies[size] = snapshot.termFrequencies()[i];
+				size++;
+			}
+		}
+		return new int[][] {Arrays.copyOf(docIds, size), Arrays.copyOf(termFrequencies, size)};
+	}
+
+	private static final class PositionedOutput extends DataOutputStream {
+
+		private PositionedOutput(OutputStream out, long start) {
+			super(new CountingOutputStream(new BufferedOutputStream(out, 1 << 16), start));
+		}
+
+		private long position() {
+			return ((CountingOutputStream)out).count;
+		}
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		private CountingOutputStream(OutputStream out, long start) {
+			super(out);
+			this.count = start;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,287 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.Analyzer;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.AnalyzerChain;
+
+public class InvertedIndex {
+
+	private static final ThreadLocal<ScoreAccumulator> ACCUMULATOR = ThreadLocal.withInitial(ScoreAccumulator::new);
+
+	private final Bm25Scorer scorer;
+	private final Analyzer analyzer;
+	private final SnapshotSegment base;
+	private final int baseDocuments;
+	private final TermDictionary dictionary = new TermDictionary();
+	private final Map<String, Integer> docIdsByKey = new ConcurrentHashMap<>();
+	private final DocumentTable documents;
+	private final AtomicInteger liveDocuments = new AtomicInteger();
+	private final LongAdder totalLength = new LongAdder();
+
+	public InvertedIndex(Bm25Scorer scorer) {
+		this(scorer, AnalyzerChain.standard());
+	}
+
+	public InvertedIndex(Bm25Scorer scorer, Analyzer analyzer) {
+		this(scorer, analyzer, null);
+	}
+
+	InvertedIndex(Bm25Scorer scorer, Analyzer analyzer, SnapshotSegment base) {
+		this.scorer = scorer;
+		this.analyzer = analyzer;
+		this.base = base;
+		this.baseDocuments = base == null ? 0 : base.documentCount();
+		this.documents = new DocumentTable(baseDocuments);
+		if (base != null) {
+			liveDocuments.set(base.documentCount());
+			totalLength.add(base.totalLength());
+		}
+	}
+
+	public int add(String content) {
+		return index(null, content);
+	}
+
+	public void upsert(String key, String content) {
+		if (key == null) {
+			index(null, content);
+			return;
+		}
+		docIdsByKey.compute(key, (k, existing) -> {
+			int current = existing != null ? existing : baseDocId(k);
+			if (current < 0) {
+				return index(k, content);
+			}
+			if (!isDeleted(current) && content.equals(content(current))) {
+				return current;
+			}
+			int docId = index(k, content);
+			delete(current);
+			return docId;
+		});
+	}
+
+	public void addIfAbsent(String key, String content) {
+		if (key == null) {
+			index(null, content);
+			return;
+		}
+		docIdsByKey.computeIfAbsent(key, k -> {
+			int current = baseDocId(k);
+			return current >= 0 ? current : index(k, content);
+		});
+	}
+
+	public List<RetrievalDocument> search(String query, int topK) {
+		int documentCount = liveDocuments.get();
+		if (topK <= 0 || documentCount == 0) {
+			return List.of();
+		}
+
+		List<String> terms = queryTerms(query);
+		float[] idfs = new float[terms.size()];
+		for (int i = 0; i < idfs.length; i++) {
+			int documentFrequency = documentFrequency(terms.get(i));
+			idfs[i] = documentFrequency <= 0 ? 0f : scorer.idf(documentCount, Math.min(documentFrequency, documentCount));
+		}
+		float averageLength = Math.max(1f, (float)totalLength.sum() / documentCount);
+		return score(terms, idfs, averageLength, topK);
+	}
+
+	List<RetrievalDocument> score(List<String> terms, float[] idfs, float averageLength, int topK) {
+		ScoreAccumulator accumulator = ACCUMULATOR.get();
+		try {
+			for (int t = 0; t < idfs.length; t++) {
+				float idf = idfs[t];
+				if (idf <= 0f) {
+					continue;
+				}
+				String term = terms.get(t);
+				int baseOrdinal = base == null ? -1 : base.findTerm(term.getBytes(StandardCharsets.UTF_8));
+				if (baseOrdinal >= 0) {
+					int baseFrequency = base.documentFrequency(baseOrdinal);
+					long offset = base.postingsOffset(baseOrdinal);
+					for (int i = 0; i < baseFrequency; i++) {
+						int docId = base.postingDocId(offset, i);
+						if (base.isDeleted(docId)) {
+							continue;
+						}
+						int termFrequency = base.postingTermFrequency(offset, baseFrequency, i);
+						accumulator.add(docId, scorer.score(idf, termFrequency, base.length(docId), averageLength));
+					}
+				}
+				TermDictionary.Term entry = dictionary.lookup(term);
+				if (entry != null) {
+					PostingList.Snapshot snapshot = entry.postings.snapshot();
+					int[] docIds = snapshot.docIds();
+					int[] termFrequencies = snapshot.termFrequencies();
+					for (int i = 0; i < snapshot.size(); i++) {
+						int docId = docIds[i];
+						int length = liveLength(docId);
+						if (length == DocumentTable.DELETED) {
+							continue;
+						}
+						accumulator.add(docId, scorer.score(idf, termFrequencies[i], length, averageLength));
+					}
+				}
+			}
+
+			TopKHeap heap = new TopKHeap(Math.min(topK, accumulator.size()));
+			for (int i = 0; i < accumulator.size(); i++) {
+				heap.offer(accumulator.docIdAt(i), accumulator.scoreAt(i));
+			}
+			return toDocuments(heap);
+		}
+		finally {
+			accumulator.clear();
+		}
+	}
+
+	int documentFrequency(String term) {
+		int baseOrdinal = base == null ? -1 : base.findTerm(term.getBytes(StandardCharsets.UTF_8));
+		int baseFrequency = baseOrdinal < 0 ? 0 : base.documentFrequency(baseOrdinal);
+		TermDictionary.Term entry = dictionary.lookup(term);
+		return baseFrequency + (entry == null ? 0 : entry.liveFrequency.get());
+	}
+
+	long totalLength() {
+		return totalLength.sum();
+	}
+
+	public int documentCount() {
+		return liveDocuments.get();
+	}
+
+	public int termCount() {
+		return dictionary.size() + (base == null ? 0 : base.termCount());
+	}
+
+	public Analyzer analyzer() {
+		return analyzer;
+	}
+
+	Bm25Scorer scorer() {
+		return scorer;
+	}
+
+	SnapshotSegment base() {
+		return base;
+	}
+
+	int allocatedDocuments() {
+		return documents.allocatedCount();
+	}
+
+	boolean isLive(int docId) {
+		return liveLength(docId) != DocumentTable.DELETED;
+	}
+
+	int liveLength(int docId) {
+		if (docId < baseDocuments) {
+			return base.isDeleted(docId) ? DocumentTable.DELETED : base.length(docId);
+		}
+		if (documents.content(docId) == null) {
+			return DocumentTable.DELETED;
+		}
+		return documents.length(docId);
+	}
+
+	String key(int docId) {
+		return docId < baseDocuments ? base.key(docId) : documents.key(docId);
+	}
+
+	String content(int docId) {
+		return docId < baseDocuments ? base.content(docId) : documents.content(docId);
+	}
+
+	void copyTo(InvertedIndex target, int fromDocId) {
+		int allocated = allocatedDocuments();
+		for (int docId = fromDocId; docId < allocated; docId++) {
+			if (isLive(docId)) {
+				target.upsert(key(docId), content(docId));
+			}
+		}
+	}
+
+	Iterable<TermDictionary.Term> memoryTerms() {
+		return dictionary.all();
+	}
+
+	PostingList memoryPostings(String term) {
+		TermDictionary.Term entry = dictionary.lookup(term);
+		return entry == null ? null : entry.postings;
+	}
+
+	private int baseDocId(String key) {
+		return base == null ? -1 : base.findDocId(key);
+	}
+
+	private boolean isDeleted(int docId) {
+		return !isLive(docId);
+	}
+
+	private int index(String key, String content) {
+		Map<TermDictionary.Term, Integer> termFrequencies = new LinkedHashMap<>();
+		List<String> tokens = analyzer.analyze(content);
+		for (String token : tokens) {
+			termFrequencies.merge(dictionary.intern(token), 1, Integer::sum);
+		}
+		int[] termIds = new int[termFrequencies.size()];
+		int position = 0;
+		for (TermDictionary.Term term : termFrequencies.keySet()) {
+			termIds[position++] = term.id;
+		}
+
+		int length = tokens.size();
+		int docId = documents.allocate(key, length, termIds);
+		termFrequencies.forEach((term, frequency) -> {
+			term.postings.add(docId, frequency);
+			term.liveFrequency.incrementAndGet();
+		});
+		documents.publish(docId, content);
+		totalLength.add(length);
+		liveDocuments.incrementAndGet();
+		return docId;
+	}
+
+	private void delete(int docId) {
+		if (docId < baseDocuments) {
+			if (base.markDeleted(docId)) {
+				totalLength.add(-base.length(docId));
+				liveDocuments.decrementAndGet();
+			}
+			return;
+		}
+		int length = documents.delete(docId);
+		if (length != DocumentTable.DELETED) {
+			for (int termId : documents.termIds(docId)) {
+				dictionary.byId(termId).liveFrequency.decrementAndGet();
+			}
+			totalLength.add(-length);
+			liveDocuments.decrementAndGet();
+		}
+	}
+
+	private List<RetrievalDocument> toDocuments(TopKHeap heap) {
+		heap.sortDescending();
+		List<RetrievalDocument> results = new ArrayList<>(heap.size());
+		for (int i = 0; i < heap.size(); i++) {
+			results.add(RetrievalDocument.of(content(heap.docId(i)), heap.score(i)));
+		}
+		return results;
+	}
+
+	List<String> queryTerms(String query) {
+		return List.copyOf(new LinkedHashSet<>(analyzer.analyze(query)));
+	}
+}
@@ -0,0 +1,79 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class MappedFile {
+
+	private static final int REGION_SHIFT = 30;
+	private static final long REGION_SIZE = 1L << REGION_SHIFT;
+	private static final long REGION_MASK = REGION_SIZE - 1;
+	private static final int REGION_OVERLAP = 1 << 16;
+
+	private final MappedByteBuffer[] regions;
+	private final long size;
+
+	private MappedFile(MappedByteBuffer[] regions, long size) {
+		this.regions = regions;
+		this.size = size;
+	}
+
+	static MappedFile open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			int regionCount = (int)((size + REGION_SIZE - 1) >>> REGION_SHIFT);
+			MappedByteBuffer[] regions = new MappedByteBuffer[Math.max(regionCount, 1)];
+			for (int i = 0; i < regionCount; i++) {
+				long start = (long)i << REGION_SHIFT;
+				long length = Math.min(REGION_SIZE + REGION_OVERLAP, size - start);
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+			}
+			return new MappedFile(regions, size);
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	int getInt(long position) {
+		return region(position).getInt((int)(position & REGION_MASK));
+	}
+
+	long getLong(long position) {
+		return region(position).getLong((int)(position & REGION_MASK));
+	}
+
+	String getString(long position, int length) {
+		byte[] bytes = new byte[length];
+		if (length <= REGION_OVERLAP) {
+			region(position).get((int)(position & REGION_MASK), bytes);
+		}
+		else {
+			for (int i = 0; i < length; i++) {
+				bytes[i] = region(position + i).get((int)((position + i) & REGION_MASK));
+			}
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	int compare(long position, int length, byte[] other) {
+		int common = Math.min(length, other.length);
+		for (int i = 0; i < common; i++) {
+			long at = position + i;
+			int diff = Byte.toUnsignedInt(region(at).get((int)(at & REGION_MASK))) - Byte.toUnsignedInt(other[i]);
+			if (diff != 0) {
+				return diff;
+			}
+		}
+		return Integer.compare(length, other.length);
+	}
+
+	private MappedByteBuffer region(long position) {
+		return regions[(int)(position >>> REGION_SHIFT)];
+	}
+}
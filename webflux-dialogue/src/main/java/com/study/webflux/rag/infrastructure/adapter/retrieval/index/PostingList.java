@@ -0,0 +1,31 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private volatile int[] docIds = new int[INITIAL_CAPACITY];
+	private volatile int[] termFrequencies = new int[INITIAL_CAPACITY];
+	private volatile int size;
+
+	synchronized void add(int docId, int termFrequency) {
+		int count = size;
+		if (count == docIds.length) {
+			docIds = Arrays.copyOf(docIds, count << 1);
+			termFrequencies = Arrays.copyOf(termFrequencies, count << 1);
+		}
+		docIds[count] = docId;
+		termFrequencies[count] = termFrequency;
+		size = count + 1;
+	}
+
+	Snapshot snapshot() {
+		int count = size;
+		return new Snapshot(docIds, termFrequencies, count);
+	}
+
+	record Snapshot(int[] docIds, int[] termFrequencies, int size) {
+	}
+}
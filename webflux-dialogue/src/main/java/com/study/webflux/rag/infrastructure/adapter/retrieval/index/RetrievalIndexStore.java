@@ -0,0 +1,235 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.Analyzer;
+
+public class RetrievalIndexStore implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(RetrievalIndexStore.class);
+
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".idx";
+	private static final String WAL_PREFIX = "wal-";
+	private static final String WAL_SUFFIX = ".log";
+
+	private final Path directory;
+	private final ExecutorService walWriter = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "retrieval-wal");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Object checkpointLock = new Object();
+	private volatile WriteAheadLog wal;
+	private volatile long walGeneration;
+	private long mappedGeneration;
+	private long retiredGeneration;
+	private boolean restored;
+
+	public RetrievalIndexStore(Path directory) {
+		this.directory = directory;
+	}
+
+	public InvertedIndex open(Bm25Scorer scorer, Analyzer analyzer) {
+		try {
+			Files.createDirectories(directory);
+			SnapshotSegment base = latestSnapshot(analyzer);
+			InvertedIndex index = new InvertedIndex(scorer, analyzer, base);
+			long nextGeneration = 1;
+			if (base != null) {
+				restored = true;
+				mappedGeneration = base.walGeneration();
+				int replayed = 0;
+				for (Path walFile : files(WAL_PREFIX, WAL_SUFFIX)) {
+					long generation = generation(walFile, WAL_PREFIX, WAL_SUFFIX);
+					if (generation >= base.walGeneration()) {
+						replayed += WriteAheadLog.replay(walFile, index::upsert);
+					}
+					nextGeneration = Math.max(nextGeneration, generation + 1);
+				}
+				nextGeneration = Math.max(nextGeneration, base.walGeneration() + 1);
+				log.info("Retrieval index restored from snapshot: documents={} replayedWalRecords={}",
+					index.documentCount(), replayed);
+			}
+			else {
+				for (Path walFile : files(WAL_PREFIX, WAL_SUFFIX)) {
+					Files.deleteIfExists(walFile);
+				}
+			}
+			walGeneration = nextGeneration;
+			wal = WriteAheadLog.open(walPath(nextGeneration));
+			return index;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to open retrieval index store at " + directory, e);
+		}
+	}
+
+	public boolean restored() {
+		return restored;
+	}
+
+	public void append(String key, String content) {
+		walWriter.execute(() -> {
+			try {
+				wal.append(key, content);
+			}
+			catch (IOException e) {
+				log.warn("Failed to append retrieval write-ahead log record", e);
+			}
+		});
+	}
+
+	public void checkpoint(ShardedInvertedIndex index, int shard) {
+		synchronized (checkpointLock) {
+			try {
+				long startedAt = System.nanoTime();
+				Lock writes = index.writeLock(shard);
+				InvertedIndex current;
+				long generation;
+				int published;
+				writes.lock();
+				try {
+					current = index.shard(shard);
+					generation = rotate();
+					published = current.allocatedDocuments();
+				}
+				finally {
+					writes.unlock();
+				}
+
+				Path target = snapshotPath(generation);
+				Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+				IndexSnapshotWriter.write(current, published, generation, temp);
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				InvertedIndex rebased = new InvertedIndex(current.scorer(), current.analyzer(), SnapshotSegment.open(target));
+
+				writes.lock();
+				try {
+					current.copyTo(rebased, published);
+					index.replace(shard, rebased);
+				}
+				finally {
+					writes.unlock();
+				}
+				retiredGeneration = mappedGeneration;
+				mappedGeneration = generation;
+				purgeUnmapped(generation);
+				log.info("Retrieval index snapshot written: file={} documents={} elapsed={}ms",
+					target.getFileName(), rebased.documentCount(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+			}
+			catch (IOException e) {
+				log.warn("Failed to write retrieval index snapshot", e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		walWriter.shutdown();
+		try {
+			walWriter.awaitTermination(5, TimeUnit.SECONDS);
+			WriteAheadLog current = wal;
+			if (current != null) {
+				current.close();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (IOException e) {
+			log.warn("Failed to close retrieval write-ahead log", e);
+		}
+	}
+
+	private long rotate() throws IOException {
+		try {
+			return walWriter.submit(() -> {
+				long generation = walGeneration + 1;
+				WriteAheadLog previous = wal;
+				wal = WriteAheadLog.open(walPath(generation));
+				walGeneration = generation;
+				previous.close();
+				return generation;
+			}).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while rotating write-ahead log", e);
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Failed to rotate write-ahead log", e.getCause());
+		}
+	}
+
+	private SnapshotSegment latestSnapshot(Analyzer analyzer) throws IOException {
+		List<Path> snapshots = files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+		for (int i = snapshots.size() - 1; i >= 0; i--) {
+			try {
+				SnapshotSegment segment = SnapshotSegment.open(snapshots.get(i));
+				if (segment.analyzedWith(analyzer)) {
+					return segment;
+				}
+				log.info("Ignoring retrieval index snapshot {} built with a different analyzer", snapshots.get(i));
+			}
+			catch (IOException e) {
+				log.warn("Skipping unreadable retrieval index snapshot {}", snapshots.get(i), e);
+			}
+		}
+		return null;
+	}
+
+	private void purgeUnmapped(long generation) throws IOException {
+		long oldestMapped = retiredGeneration > 0 ? retiredGeneration : generation;
+		for (Path snapshot : files(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+			if (generation(snapshot, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < oldestMapped) {
+				Files.deleteIfExists(snapshot);
+			}
+		}
+		for (Path walFile : files(WAL_PREFIX, WAL_SUFFIX)) {
+			if (generation(walFile, WAL_PREFIX, WAL_SUFFIX) < generation) {
+				Files.deleteIfExists(walFile);
+			}
+		}
+	}
+
+	private List<Path> files(String prefix, String suffix) throws IOException {
+		try (Stream<Path> stream = Files.list(directory)) {
+			return stream
+				.filter(path -> {
+					String name = path.getFileName().toString();
+					return name.startsWith(prefix) && name.endsWith(suffix);
+				})
+				.sorted()
+				.toList();
+		}
+	}
+
+	private Path snapshotPath(long generation) {
+		return directory.resolve(SNAPSHOT_PREFIX + "%020d".formatted(generation) + SNAPSHOT_SUFFIX);
+	}
+
+	private Path walPath(long generation) {
+		return directory.resolve(WAL_PREFIX + "%020d".formatted(generation) + WAL_SUFFIX);
+	}
+
+	private static long generation(Path path, String prefix, String suffix) {
+		String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+	}
+}
@@ -0,0 +1,85 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.util.Arrays;
+
+final class ScoreAccumulator {
+
+	private static final int EMPTY = -1;
+	private static final int INITIAL_CAPACITY = 1 << 10;
+
+	private int[] keys = new int[INITIAL_CAPACITY];
+	private float[] values = new float[INITIAL_CAPACITY];
+	private int[] slots = new int[INITIAL_CAPACITY];
+	private int size;
+
+	ScoreAccumulator() {
+		Arrays.fill(keys, EMPTY);
+	}
+
+	void add(int docId, float score) {
+		if ((size + 1) << 1 > keys.length) {
+			grow();
+		}
+		int mask = keys.length - 1;
+		int slot = mix(docId) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == docId) {
+				values[slot] += score;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = docId;
+		values[slot] = score;
+		slots[size++] = slot;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int docIdAt(int index) {
+		return keys[slots[index]];
+	}
+
+	float scoreAt(int index) {
+		return values[slots[index]];
+	}
+
+	void clear() {
+		for (int i = 0; i < size; i++) {
+			keys[slots[i]] = EMPTY;
+		}
+		size = 0;
+	}
+
+	private void grow() {
+		int[] oldKeys = keys;
+		float[] oldValues = values;
+		int[] oldSlots = slots;
+		int oldSize = size;
+
+		keys = new int[oldKeys.length << 1];
+		values = new float[oldKeys.length << 1];
+		slots = new int[oldKeys.length];
+		Arrays.fill(keys, EMPTY);
+		size = 0;
+
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldSize; i++) {
+			int docId = oldKeys[oldSlots[i]];
+			int slot = mix(docId) & mask;
+			while (keys[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = docId;
+			values[slot] = oldValues[oldSlots[i]];
+			slots[size++] = slot;
+		}
+	}
+
+	private static int mix(int value) {
+		int h = value * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
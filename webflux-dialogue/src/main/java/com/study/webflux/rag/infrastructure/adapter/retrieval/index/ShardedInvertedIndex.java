@@ -0,0 +1,180 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+public class ShardedInvertedIndex {
+
+	private final Bm25Scorer scorer;
+	private final AtomicReferenceArray<InvertedIndex> shards;
+	private final ReentrantReadWriteLock[] locks;
+	private final Scheduler scheduler;
+	private final AtomicInteger keylessCursor = new AtomicInteger();
+
+	public ShardedInvertedIndex(Bm25Scorer scorer, List<InvertedIndex> shards, Scheduler scheduler) {
+		if (shards.isEmpty()) {
+			throw new IllegalArgumentException("At least one shard is required");
+		}
+		this.scorer = scorer;
+		this.shards = new AtomicReferenceArray<>(shards.toArray(InvertedIndex[]::new));
+		this.locks = new ReentrantReadWriteLock[shards.size()];
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantReadWriteLock();
+		}
+		this.scheduler = scheduler;
+	}
+
+	public static ShardedInvertedIndex single(Bm25Scorer scorer, InvertedIndex index) {
+		return new ShardedInvertedIndex(scorer, List.of(index), null);
+	}
+
+	public int shardCount() {
+		return shards.length();
+	}
+
+	public InvertedIndex shard(int shard) {
+		return shards.get(shard);
+	}
+
+	public int shardOf(String key) {
+		if (key == null) {
+			return Math.floorMod(keylessCursor.getAndIncrement(), shards.length());
+		}
+		return Math.floorMod(key.hashCode(), shards.length());
+	}
+
+	public void upsert(String key, String content) {
+		upsert(shardOf(key), key, content);
+	}
+
+	public void upsert(int shard, String key, String content) {
+		Lock lock = locks[shard].readLock();
+		lock.lock();
+		try {
+			shards.get(shard).upsert(key, content);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void addIfAbsent(String key, String content) {
+		int shard = shardOf(key);
+		Lock lock = locks[shard].readLock();
+		lock.lock();
+		try {
+			shards.get(shard).addIfAbsent(key, content);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public Mono<List<RetrievalDocument>> search(String query, int topK) {
+		return Mono.defer(() -> {
+			InvertedIndex[] current = current();
+			int documentCount = documentCount(current);
+			if (topK <= 0 || documentCount == 0) {
+				return Mono.just(List.<RetrievalDocument>of());
+			}
+
+			List<String> terms = current[0].queryTerms(query);
+			float[] idfs = new float[terms.size()];
+			for (int i = 0; i < idfs.length; i++) {
+				int documentFrequency = 0;
+				for (InvertedIndex shard : current) {
+					documentFrequency += shard.documentFrequency(terms.get(i));
+				}
+				idfs[i] = documentFrequency <= 0
+					? 0f
+					: scorer.idf(documentCount, Math.min(documentFrequency, documentCount));
+			}
+			long totalLength = 0;
+			for (InvertedIndex shard : current) {
+				totalLength += shard.totalLength();
+			}
+			float averageLength = Math.max(1f, (float)totalLength / documentCount);
+
+			if (current.length == 1 || scheduler == null) {
+				return Mono.fromCallable(() -> merge(scoreAll(current, terms, idfs, averageLength, topK), topK));
+			}
+			return Flux.fromArray(current)
+				.parallel(current.length)
+				.runOn(scheduler)
+				.map(shard -> shard.score(terms, idfs, averageLength, topK))
+				.sequential()
+				.collectList()
+				.map(perShard -> merge(perShard, topK));
+		});
+	}
+
+	public int documentCount() {
+		return documentCount(current());
+	}
+
+	public int termCount() {
+		int count = 0;
+		for (InvertedIndex shard : current()) {
+			count += shard.termCount();
+		}
+		return count;
+	}
+
+	Lock writeLock(int shard) {
+		return locks[shard].writeLock();
+	}
+
+	void replace(int shard, InvertedIndex index) {
+		shards.set(shard, index);
+	}
+
+	private InvertedIndex[] current() {
+		InvertedIndex[] current = new InvertedIndex[shards.length()];
+		for (int i = 0; i < current.length; i++) {
+			current[i] = shards.get(i);
+		}
+		return current;
+	}
+
+	private static int documentCount(InvertedIndex[] shards) {
+		int count = 0;
+		for (InvertedIndex shard : shards) {
+			count += shard.documentCount();
+		}
+		return count;
+	}
+
+	private static List<List<RetrievalDocument>> scoreAll(
+		InvertedIndex[] shards,
+		List<String> terms,
+		float[] idfs,
+		float averageLength,
+		int topK) {
+		List<List<RetrievalDocument>> perShard = new ArrayList<>(shards.length);
+		for (InvertedIndex shard : shards) {
+			perShard.add(shard.score(terms, idfs, averageLength, topK));
+		}
+		return perShard;
+	}
+
+	private static List<RetrievalDocument> merge(List<List<RetrievalDocument>> perShard, int topK) {
+		if (perShard.size() == 1) {
+			return perShard.get(0);
+		}
+		List<RetrievalDocument> merged = new ArrayList<>();
+		perShard.forEach(merged::addAll);
+		merged.sort(Comparator.comparingDouble((RetrievalDocument document) -> document.score().value()).reversed());
+		return merged.size() > topK ? List.copyOf(merged.subList(0, topK)) : merged;
+	}
+}
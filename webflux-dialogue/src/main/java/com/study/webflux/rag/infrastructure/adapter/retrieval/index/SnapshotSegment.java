@@ -0,0 +1,182 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.Analyzer;
+
+final class SnapshotSegment {
+
+	static final int MAGIC = 0x52414749;
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 128;
+	static final int DOC_RECORD_SIZE = 16;
+	static final int TERM_RECORD_SIZE = 24;
+
+	private final MappedFile file;
+	private final long walGeneration;
+	private final int documentCount;
+	private final int termCount;
+	private final int keyCount;
+	private final int analyzerSignature;
+	private final long totalLength;
+	private final long docRecordsOffset;
+	private final long lengthsOffset;
+	private final long keyIndexOffset;
+	private final long termRecordsOffset;
+	private final AtomicLongArray deleted;
+
+	private SnapshotSegment(MappedFile file) throws IOException {
+		this.file = file;
+		if (file.size() < HEADER_SIZE || file.getInt(0) != MAGIC) {
+			throw new IOException("Not a retrieval index snapshot");
+		}
+		int version = file.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("Unsupported retrieval index snapshot version " + version);
+		}
+		this.walGeneration = file.getLong(8);
+		this.documentCount = file.getInt(16);
+		this.termCount = file.getInt(20);
+		this.keyCount = file.getInt(24);
+		this.analyzerSignature = file.getInt(28);
+		this.totalLength = file.getLong(32);
+		this.docRecordsOffset = file.getLong(40);
+		this.lengthsOffset = file.getLong(48);
+		this.keyIndexOffset = file.getLong(56);
+		this.termRecordsOffset = file.getLong(64);
+		if (file.getLong(72) != file.size()) {
+			throw new IOException("Truncated retrieval index snapshot");
+		}
+		this.deleted = new AtomicLongArray((documentCount + 63) >>> 6);
+	}
+
+	static SnapshotSegment open(Path path) throws IOException {
+		return new SnapshotSegment(MappedFile.open(path));
+	}
+
+	static int signatureHash(Analyzer analyzer) {
+		return analyzer.signature().hashCode();
+	}
+
+	boolean analyzedWith(Analyzer analyzer) {
+		return analyzerSignature == signatureHash(analyzer);
+	}
+
+	long walGeneration() {
+		return walGeneration;
+	}
+
+	int documentCount() {
+		return documentCount;
+	}
+
+	int termCount() {
+		return termCount;
+	}
+
+	long totalLength() {
+		return totalLength;
+	}
+
+	int length(int docId) {
+		return file.getInt(lengthsOffset + 4L * docId);
+	}
+
+	String content(int docId) {
+		long record = docRecordsOffset + (long)DOC_RECORD_SIZE * docId;
+		long dataOffset = file.getLong(record);
+		int keyLength = file.getInt(record + 8);
+		int contentLength = file.getInt(record + 12);
+		return file.getString(dataOffset + Math.max(keyLength, 0), contentLength);
+	}
+
+	String key(int docId) {
+		long record = docRecordsOffset + (long)DOC_RECORD_SIZE * docId;
+		int keyLength = file.getInt(record + 8);
+		return keyLength < 0 ? null : file.getString(file.getLong(record), keyLength);
+	}
+
+	int findDocId(String key) {
+		byte[] target = key.getBytes(StandardCharsets.UTF_8);
+		int low = 0;
+		int high = keyCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int docId = file.getInt(keyIndexOffset + 4L * mid);
+			long record = docRecordsOffset + (long)DOC_RECORD_SIZE * docId;
+			int cmp = file.compare(file.getLong(record), file.getInt(record + 8), target);
+			if (cmp < 0) {
+				low = mid + 1;
+			}
+			else if (cmp > 0) {
+				high = mid - 1;
+			}
+			else {
+				return docId;
+			}
+		}
+		return -1;
+	}
+
+	int findTerm(byte[] term) {
+		int low = 0;
+		int high = termCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long record = termRecordsOffset + (long)TERM_RECORD_SIZE * mid;
+			int cmp = file.compare(file.getLong(record), file.getInt(record + 8), term);
+			if (cmp < 0) {
+				low = mid + 1;
+			}
+			else if (cmp > 0) {
+				high = mid - 1;
+			}
+			else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	String term(int ordinal) {
+		long record = termRecordsOffset + (long)TERM_RECORD_SIZE * ordinal;
+		return file.getString(file.getLong(record), file.getInt(record + 8));
+	}
+
+	int documentFrequency(int ordinal) {
+		return file.getInt(termRecordsOffset + (long)TERM_RECORD_SIZE * ordinal + 12);
+	}
+
+	long postingsOffset(int ordinal) {
+		return file.getLong(termRecordsOffset + (long)TERM_RECORD_SIZE * ordinal + 16);
+	}
+
+	int postingDocId(long postingsOffset, int index) {
+		return file.getInt(postingsOffset + 4L * index);
+	}
+
+	int postingTermFrequency(long postingsOffset, int documentFrequency, int index) {
+		return file.getInt(postingsOffset + 4L * (documentFrequency + index));
+	}
+
+	boolean isDeleted(int docId) {
+		return (deleted.get(docId >>> 6) & (1L << docId)) != 0;
+	}
+
+	boolean markDeleted(int docId) {
+		int word = docId >>> 6;
+		long mask = 1L << docId;
+		while (true) {
+			long current = deleted.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (deleted.compareAndSet(word, current, current | mask)) {
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class TermDictionary {
+
+	private static final int PAGE_SHIFT = 12;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final Map<String, Term> terms = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<AtomicReferenceArray<Term>> pages =
+		new AtomicReferenceArray<>((Integer.MAX_VALUE >>> PAGE_SHIFT) + 1);
+	private final AtomicInteger nextTermId = new AtomicInteger();
+
+	Term intern(String text) {
+		Term existing = terms.get(text);
+		if (existing != null) {
+			return existing;
+		}
+		return terms.computeIfAbsent(text, key -> {
+			Term term = new Term(nextTermId.getAndIncrement(), key);
+			page(term.id).set(term.id & PAGE_MASK, term);
+			return term;
+		});
+	}
+
+	Term lookup(String text) {
+		return terms.get(text);
+	}
+
+	Term byId(int termId) {
+		return pages.get(termId >>> PAGE_SHIFT).get(termId & PAGE_MASK);
+	}
+
+	int size() {
+		return terms.size();
+	}
+
+	Iterable<Term> all() {
+		return terms.values();
+	}
+
+	private AtomicReferenceArray<Term> page(int termId) {
+		int index = termId >>> PAGE_SHIFT;
+		AtomicReferenceArray<Term> page = pages.get(index);
+		if (page == null) {
+			pages.compareAndSet(index, null, new AtomicReferenceArray<>(PAGE_SIZE));
+			page = pages.get(index);
+		}
+		return page;
+	}
+
+	static final class Term {
+		final int id;
+		final String text;
+		final PostingList postings = new PostingList();
+		final AtomicInteger liveFrequency = new AtomicInteger();
+
+		private Term(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+final class TopKHeap {
+
+	private final int[] docIds;
+	private final float[] scores;
+	private int size;
+
+	TopKHeap(int capacity) {
+		this.docIds = new int[capacity];
+		this.scores = new float[capacity];
+	}
+
+	void offer(int docId, float score) {
+		if (docIds.length == 0) {
+			return;
+		}
+		if (size < docIds.length) {
+			docIds[size] = docId;
+			scores[size] = score;
+			siftUp(size++);
+			return;
+		}
+		if (lessThan(score, docId, scores[0], docIds[0])) {
+			return;
+		}
+		docIds[0] = docId;
+		scores[0] = score;
+		siftDown(0);
+	}
+
+	int size() {
+		return size;
+	}
+
+	int docId(int index) {
+		return docIds[index];
+	}
+
+	float score(int index) {
+		return scores[index];
+	}
+
+	void sortDescending() {
+		int end = size;
+		while (end > 1) {
+			end--;
+			swap(0, end);
+			siftDown(0, end);
+		}
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!lessThan(scores[index], docIds[index], scores[parent], docIds[parent])) {
+				return;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		siftDown(index, size);
+	}
+
+	private void siftDown(int index, int limit) {
+		while (true) {
+			int left = (index << 1) + 1;
+			if (left >= limit) {
+				return;
+			}
+			int smallest = left;
+			int right = left + 1;
+			if (right < limit && lessThan(scores[right], docIds[right], scores[left], docIds[left])) {
+				smallest = right;
+			}
+			if (!lessThan(scores[smallest], docIds[smallest], scores[index], docIds[index])) {
+				return;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	private static boolean lessThan(float score, int docId, float otherScore, int otherDocId) {
+		if (score != otherScore) {
+			return score < otherScore;
+		}
+		return docId > otherDocId;
+	}
+
+	private void swap(int i, int j) {
+		int docId = docIds[i];
+		docIds[i] = docIds[j];
+		docIds[j] = docId;
+		float score = scores[i];
+		scores[i] = scores[j];
+		scores[j] = score;
+	}
+}
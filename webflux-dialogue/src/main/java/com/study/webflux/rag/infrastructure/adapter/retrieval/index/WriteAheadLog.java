@@ -0,0 +1,110 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+final class WriteAheadLog implements AutoCloseable {
+
+	private final Path path;
+	private final DataOutputStream out;
+
+	private WriteAheadLog(Path path) throws IOException {
+		this.path = path;
+		this.out = new DataOutputStream(new BufferedOutputStream(
+			Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+	}
+
+	static WriteAheadLog open(Path path) throws IOException {
+		return new WriteAheadLog(path);
+	}
+
+	Path path() {
+		return path;
+	}
+
+	void append(String key, String content) throws IOException {
+		byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+		byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+		int payloadLength = 4 + (keyBytes == null ? 0 : keyBytes.length) + 4 + contentBytes.length;
+		ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+		payload.putInt(keyBytes == null ? -1 : keyBytes.length);
+		if (keyBytes != null) {
+			payload.put(keyBytes);
+		}
+		payload.putInt(contentBytes.length);
+		payload.put(contentBytes);
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.array(), 0, payloadLength);
+		out.writeInt(payloadLength);
+		out.writeInt((int)crc.getValue());
+		out.write(payload.array(), 0, payloadLength);
+		out.flush();
+	}
+
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	static int replay(Path path, BiConsumer<String, String> consumer) throws IOException {
+		int records = 0;
+		try (InputStream input = Files.newInputStream(path);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(input))) {
+			while (true) {
+				int payloadLength;
+				try {
+					payloadLength = in.readInt();
+				}
+				catch (EOFException e) {
+					return records;
+				}
+				int checksum;
+				byte[] payload;
+				try {
+					checksum = in.readInt();
+					if (payloadLength < 8) {
+						return records;
+					}
+					payload = in.readNBytes(payloadLength);
+				}
+				catch (EOFException e) {
+					return records;
+				}
+				if (payload.length < payloadLength) {
+					return records;
+				}
+				CRC32 crc = new CRC32();
+				crc.update(payload, 0, payloadLength);
+				if ((int)crc.getValue() != checksum) {
+					return records;
+				}
+
+				ByteBuffer buffer = ByteBuffer.wrap(payload);
+				int keyLength = buffer.getInt();
+				String key = null;
+				if (keyLength >= 0) {
+					key = new String(payload, buffer.position(), keyLength, StandardCharsets.UTF_8);
+					buffer.position(buffer.position() + keyLength);
+				}
+				int contentLength = buffer.getInt();
+				String content = new String(payload, buffer.position(), contentLength, StandardCharsets.UTF_8);
+				consumer.accept(key, content);
+				records++;
+			}
+		}
+	}
+}
@@ -0,0 +1,305 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class HnswGraph {
+
+	private static final int MAX_LEVEL = 16;
+	private static final int[] NO_LINKS = new int[0];
+
+	private final VectorStore vectors;
+	private final int maxLinks;
+	private final int efConstruction;
+	private final double levelMultiplier;
+	private final LevelZeroLinks levelZero;
+	private final Map<Integer, AtomicReferenceArray<int[]>> upperLinks = new ConcurrentHashMap<>();
+	private final SplittableRandom random;
+	private final ThreadLocal<SearchState> searchState;
+	private volatile EntryPoint entryPoint;
+
+	HnswGraph(VectorStore vectors, int maxLinks, int efConstruction, long seed) {
+		if (maxLinks < 2) {
+			throw new IllegalArgumentException("maxLinks must be at least 2");
+		}
+		this.vectors = vectors;
+		this.maxLinks = maxLinks;
+		this.efConstruction = Math.max(efConstruction, maxLinks);
+		this.levelMultiplier = 1 / Math.log(maxLinks);
+		this.levelZero = new LevelZeroLinks(maxLinks * 2);
+		this.random = new SplittableRandom(seed);
+		this.searchState = ThreadLocal.withInitial(() -> new SearchState(maxLinks * 2));
+	}
+
+	int size() {
+		return vectors.size();
+	}
+
+	long offHeapBytes() {
+		return vectors.offHeapBytes() + levelZero.offHeapBytes();
+	}
+
+	synchronized int insert(float[] vector) {
+		int node = vectors.size();
+		int level = randomLevel();
+		levelZero.allocate(node);
+		if (level > 0) {
+			AtomicReferenceArray<int[]> links = new AtomicReferenceArray<>(level);
+			for (int l = 0; l < level; l++) {
+				links.set(l, NO_LINKS);
+			}
+			upperLinks.put(node, links);
+		}
+		vectors.add(vector);
+
+		EntryPoint entry = entryPoint;
+		if (entry == null) {
+			entryPoint = new EntryPoint(node, level);
+			return node;
+		}
+
+		int current = greedyDescend(vector, entry, level);
+		int[] entryNodes = {current};
+		for (int l = Math.min(level, entry.level()); l >= 0; l--) {
+			ScoredNodes candidates = searchLayer(vector, entryNodes, l, efConstruction);
+			int[] selected = selectNeighbors(candidates.nodes(), candidates.scores(), candidates.nodes().length,
+				maxLinks);
+			setLinks(node, l, selected, selected.length);
+			for (int neighbor : selected) {
+				connect(neighbor, node, l);
+			}
+			entryNodes = candidates.nodes();
+		}
+
+		if (level > entry.level()) {
+			entryPoint = new EntryPoint(node, level);
+		}
+		return node;
+	}
+
+	ScoredNodes search(float[] query, int ef) {
+		EntryPoint entry = entryPoint;
+		if (entry == null) {
+			return ScoredNodes.EMPTY;
+		}
+		int current = greedyDescend(query, entry, 0);
+		return searchLayer(query, new int[] {current}, 0, ef);
+	}
+
+	private int greedyDescend(float[] query, EntryPoint entry, int targetLevel) {
+		SearchState state = searchState.get();
+		int current = entry.node();
+		float currentScore = vectors.dot(query, current);
+		for (int level = entry.level(); level > targetLevel; level--) {
+			boolean improved = true;
+			while (improved) {
+				improved = false;
+				int count = neighbors(current, level, state.neighbors);
+				for (int i = 0; i < count; i++) {
+					int candidate = state.neighbors[i];
+					float score = vectors.dot(query, candidate);
+					if (score > currentScore) {
+						current = candidate;
+						currentScore = score;
+						improved = true;
+					}
+				}
+			}
+		}
+		return current;
+	}
+
+	private ScoredNodes searchLayer(float[] query, int[] entryNodes, int level, int ef) {
+		SearchState state = searchState.get();
+		int limit = vectors.size();
+		state.startVisit(limit);
+		NodeQueue candidates = state.candidates;
+		NodeQueue results = state.results;
+		candidates.clear();
+		results.clear();
+
+		for (int entry : entryNodes) {
+			if (state.visit(entry)) {
+				float score = vectors.dot(query, entry);
+				candidates.push(entry, score);
+				results.push(entry, score);
+				if (results.size() > ef) {
+					results.pop();
+				}
+			}
+		}
+
+		while (!candidates.isEmpty()) {
+			float candidateScore = candidates.topScore();
+			if (results.size() >= ef && candidateScore < results.topScore()) {
+				break;
+			}
+			int candidate = candidates.pop();
+			int count = neighbors(candidate, level, state.neighbors);
+			for (int i = 0; i < count; i++) {
+				int neighbor = state.neighbors[i];
+				if (neighbor >= limit || !state.visit(neighbor)) {
+					continue;
+				}
+				float score = vectors.dot(query, neighbor);
+				if (results.size() < ef || score > results.topScore()) {
+					candidates.push(neighbor, score);
+					results.push(neighbor, score);
+					if (results.size() > ef) {
+						results.pop();
+					}
+				}
+			}
+		}
+
+		int size = results.size();
+		int[] nodes = new int[size];
+		float[] scores = new float[size];
+		for (int i = size - 1; i >= 0; i--) {
+			scores[i] = results.topScore();
+			nodes[i] = results.pop();
+		}
+		return new ScoredNodes(nodes, scores);
+	}
+
+	private int[] selectNeighbors(int[] candidates, float[] scores, int count, int limit) {
+		int[] selected = new int[Math.min(limit, count)];
+		int[] pruned = new int[count];
+		int selectedCount = 0;
+		int prunedCount = 0;
+		for (int i = 0; i < count && selectedCount < selected.length; i++) {
+			int candidate = candidates[i];
+			boolean diverse = true;
+			for (int j = 0; j < selectedCount; j++) {
+				if (vectors.dot(candidate, selected[j]) > scores[i]) {
+					diverse = false;
+					break;
+				}
+			}
+			if (diverse) {
+				selected[selectedCount++] = candidate;
+			}
+			else {
+				pruned[prunedCount++] = candidate;
+			}
+		}
+		for (int i = 0; i < prunedCount && selectedCount < selected.length; i++) {
+			selected[selectedCount++] = pruned[i];
+		}
+		return selectedCount == selected.length ? selected : Arrays.copyOf(selected, selectedCount);
+	}
+
+	private void connect(int node, int neighbor, int level) {
+		int limit = level == 0 ? levelZero.maxLinks() : maxLinks;
+		int[] existing = new int[limit + 1];
+		int count = level == 0 ? levelZero.copy(node, existing) : copyUpper(node, level, existing);
+		if (count < limit) {
+			if (level == 0) {
+				levelZero.append(node, neighbor);
+			}
+			else {
+				existing[count] = neighbor;
+				upperLinks.get(node).set(level - 1, Arrays.copyOf(existing, count + 1));
+			}
+			return;
+		}
+
+		existing[count++] = neighbor;
+		float[] scores = new float[count];
+		for (int i = 0; i < count; i++) {
+			scores[i] = vectors.dot(node, existing[i]);
+		}
+		sortDescending(existing, scores, count);
+		int[] selected = selectNeighbors(existing, scores, count, limit);
+		setLinks(node, level, selected, selected.length);
+	}
+
+	private void setLinks(int node, int level, int[] neighbors, int count) {
+		if (level == 0) {
+			levelZero.set(node, neighbors, count);
+		}
+		else {
+			upperLinks.get(node).set(level - 1, Arrays.copyOf(neighbors, count));
+		}
+	}
+
+	private int neighbors(int node, int level, int[] target) {
+		if (level == 0) {
+			return levelZero.copy(node, target);
+		}
+		return copyUpper(node, level, target);
+	}
+
+	private int copyUpper(int node, int level, int[] target) {
+		AtomicReferenceArray<int[]> links = upperLinks.get(node);
+		if (links == null || level > links.length()) {
+			return 0;
+		}
+		int[] current = links.get(level - 1);
+		int count = Math.min(current.length, target.length);
+		System.arraycopy(current, 0, target, 0, count);
+		return count;
+	}
+
+	private int randomLevel() {
+		double uniform = 1 - random.nextDouble();
+		return Math.min(MAX_LEVEL, (int)(-Math.log(uniform) * levelMultiplier));
+	}
+
+	private static void sortDescending(int[] nodes, float[] scores, int count) {
+		for (int i = 1; i < count; i++) {
+			int node = nodes[i];
+			float score = scores[i];
+			int j = i - 1;
+			while (j >= 0 && scores[j] < score) {
+				nodes[j + 1] = nodes[j];
+				scores[j + 1] = scores[j];
+				j--;
+			}
+			nodes[j + 1] = node;
+			scores[j + 1] = score;
+		}
+	}
+
+	private record EntryPoint(int node, int level) {
+	}
+
+	record ScoredNodes(int[] nodes, float[] scores) {
+		static final ScoredNodes EMPTY = new ScoredNodes(new int[0], new float[0]);
+	}
+
+	private static final class SearchState {
+		private final int[] neighbors;
+		private final NodeQueue candidates = new NodeQueue(64, true);
+		private final NodeQueue results = new NodeQueue(64, false);
+		private int[] visited = new int[0];
+		private int epoch;
+
+		private SearchState(int maxLinks) {
+			this.neighbors = new int[maxLinks];
+		}
+
+		private void startVisit(int size) {
+			if (visited.length < size) {
+				visited = new int[Math.max(size, visited.length << 1)];
+				epoch = 0;
+			}
+			epoch++;
+			if (epoch == 0) {
+				Arrays.fill(visited, 0);
+				epoch = 1;
+			}
+		}
+
+		private boolean visit(int node) {
+			if (visited[node] == epoch) {
+				return false;
+			}
+			visited[node] = epoch;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+final class LevelZeroLinks {
+
+	private static final int TARGET_CHUNK_BYTES = 1 << 22;
+
+	private final int maxLinks;
+	private final int slotSize;
+	private final int chunkShift;
+	private final int chunkMask;
+	private volatile IntBuffer[] chunks = new IntBuffer[0];
+
+	LevelZeroLinks(int maxLinks) {
+		this.maxLinks = maxLinks;
+		this.slotSize = maxLinks + 1;
+		int nodesPerChunk = Integer.highestOneBit(Math.max(1, TARGET_CHUNK_BYTES / (slotSize * Integer.BYTES)));
+		this.chunkShift = Integer.numberOfTrailingZeros(nodesPerChunk);
+		this.chunkMask = nodesPerChunk - 1;
+	}
+
+	int maxLinks() {
+		return maxLinks;
+	}
+
+	void allocate(int node) {
+		int chunk = node >>> chunkShift;
+		IntBuffer[] current = chunks;
+		if (chunk == current.length) {
+			current = Arrays.copyOf(current, chunk + 1);
+			current[chunk] = ByteBuffer.allocateDirect((chunkMask + 1) * slotSize * Integer.BYTES)
+				.order(ByteOrder.nativeOrder())
+				.asIntBuffer();
+			chunks = current;
+		}
+	}
+
+	int count(int node) {
+		return chunks[node >>> chunkShift].get((node & chunkMask) * slotSize);
+	}
+
+	int get(int node, int index) {
+		return chunks[node >>> chunkShift].get((node & chunkMask) * slotSize + 1 + index);
+	}
+
+	int copy(int node, int[] target) {
+		IntBuffer chunk = chunks[node >>> chunkShift];
+		int offset = (node & chunkMask) * slotSize;
+		int count = Math.min(chunk.get(offset), target.length);
+		chunk.get(offset + 1, target, 0, count);
+		return count;
+	}
+
+	void append(int node, int neighbor) {
+		IntBuffer chunk = chunks[node >>> chunkShift];
+		int offset = (node & chunkMask) * slotSize;
+		int count = chunk.get(offset);
+		chunk.put(offset + 1 + count, neighbor);
+		chunk.put(offset, count + 1);
+	}
+
+	void set(int node, int[] neighbors, int count) {
+		IntBuffer chunk = chunks[node >>> chunkShift];
+		int offset = (node & chunkMask) * slotSize;
+		chunk.put(offset + 1, neighbors, 0, count);
+		chunk.put(offset, count);
+	}
+
+	long offHeapBytes() {
+		return (long)chunks.length * (chunkMask + 1) * slotSize * Integer.BYTES;
+	}
+}
@@ -0,0 +1,89 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import java.util.Arrays;
+
+final class NodeQueue {
+
+	private final boolean maxHeap;
+	private int[] nodes;
+	private float[] scores;
+	private int size;
+
+	NodeQueue(int capacity, boolean maxHeap) {
+		this.maxHeap = maxHeap;
+		this.nodes = new int[Math.max(1, capacity)];
+		this.scores = new float[nodes.length];
+	}
+
+	void push(int node, float score) {
+		if (size == nodes.length) {
+			nodes = Arrays.copyOf(nodes, size << 1);
+			scores = Arrays.copyOf(scores, size << 1);
+		}
+		nodes[size] = node;
+		scores[size] = score;
+		int index = size++;
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!above(index, parent)) {
+				return;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	int pop() {
+		int top = nodes[0];
+		size--;
+		nodes[0] = nodes[size];
+		scores[0] = scores[size];
+		int index = 0;
+		while (true) {
+			int left = (index << 1) + 1;
+			if (left >= size) {
+				break;
+			}
+			int child = left + 1 < size && above(left + 1, left) ? left + 1 : left;
+			if (!above(child, index)) {
+				break;
+			}
+			swap(index, child);
+			index = child;
+		}
+		return top;
+	}
+
+	int topNode() {
+		return nodes[0];
+	}
+
+	float topScore() {
+		return scores[0];
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	private boolean above(int i, int j) {
+		return maxHeap ? scores[i] > scores[j] : scores[i] < scores[j];
+	}
+
+	private void swap(int i, int j) {
+		int node = nodes[i];
+		nodes[i] = nodes[j];
+		nodes[j] = node;
+		float score = scores[i];
+		scores[i] = scores[j];
+		scores[j] = score;
+	}
+}
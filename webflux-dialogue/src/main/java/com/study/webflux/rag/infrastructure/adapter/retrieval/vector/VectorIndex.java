@@ -0,0 +1,141 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+public class VectorIndex {
+
+	private static final int PAGE_SHIFT = 14;
+	private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	private final int dimensions;
+	private final int efSearch;
+	private final HnswGraph graph;
+	private final Map<String, Integer> nodesByKey = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<AtomicReferenceArray<String>> contents =
+		new AtomicReferenceArray<>((Integer.MAX_VALUE >>> PAGE_SHIFT) + 1);
+	private final AtomicInteger liveNodes = new AtomicInteger();
+
+	public VectorIndex(int dimensions, int maxLinks, int efConstruction, int efSearch) {
+		if (dimensions <= 0) {
+			throw new IllegalArgumentException("dimensions must be positive");
+		}
+		this.dimensions = dimensions;
+		this.efSearch = efSearch;
+		this.graph = new HnswGraph(new VectorStore(dimensions), maxLinks, efConstruction, 42L);
+	}
+
+	public void upsert(String key, String content, float[] vector) {
+		float[] normalized = normalize(vector);
+		if (key == null) {
+			insert(content, normalized);
+			return;
+		}
+		nodesByKey.compute(key, (k, existing) -> {
+			if (existing != null && content.equals(content(existing))) {
+				return existing;
+			}
+			int node = insert(content, normalized);
+			if (existing != null) {
+				delete(existing);
+			}
+			return node;
+		});
+	}
+
+	public void addIfAbsent(String key, String content, float[] vector) {
+		float[] normalized = normalize(vector);
+		if (key == null) {
+			insert(content, normalized);
+			return;
+		}
+		nodesByKey.computeIfAbsent(key, k -> insert(content, normalized));
+	}
+
+	public boolean contains(String key) {
+		return nodesByKey.containsKey(key);
+	}
+
+	public List<RetrievalDocument> search(float[] query, int topK) {
+		if (topK <= 0 || liveNodes.get() == 0) {
+			return List.of();
+		}
+		HnswGraph.ScoredNodes found = graph.search(normalize(query), Math.max(efSearch, topK));
+		List<RetrievalDocument> results = new ArrayList<>(topK);
+		for (int i = 0; i < found.nodes().length && results.size() < topK; i++) {
+			float score = found.scores()[i];
+			String content = content(found.nodes()[i]);
+			if (content == null || score <= 0f) {
+				continue;
+			}
+			results.add(RetrievalDocument.of(content, score));
+		}
+		return results;
+	}
+
+	public int size() {
+		return liveNodes.get();
+	}
+
+	public int dimensions() {
+		return dimensions;
+	}
+
+	public long offHeapBytes() {
+		return graph.offHeapBytes();
+	}
+
+	private int insert(String content, float[] vector) {
+		int node = graph.insert(vector);
+		page(node).set(node & PAGE_MASK, content);
+		liveNodes.incrementAndGet();
+		return node;
+	}
+
+	private void delete(int node) {
+		if (page(node).getAndSet(node & PAGE_MASK, null) != null) {
+			liveNodes.decrementAndGet();
+		}
+	}
+
+	private String content(int node) {
+		AtomicReferenceArray<String> page = contents.get(node >>> PAGE_SHIFT);
+		return page == null ? null : page.get(node & PAGE_MASK);
+	}
+
+	private AtomicReferenceArray<String> page(int node) {
+		int index = node >>> PAGE_SHIFT;
+		AtomicReferenceArray<String> page = contents.get(index);
+		if (page == null) {
+			contents.compareAndSet(index, null, new AtomicReferenceArray<>(PAGE_SIZE));
+			page = contents.get(index);
+		}
+		return page;
+	}
+
+	private float[] normalize(float[] vector) {
+		if (vector.length != dimensions) {
+			throw new IllegalArgumentException(
+				"Expected vector of " + dimensions + " dimensions but got " + vector.length);
+		}
+		double norm = 0;
+		for (float value : vector) {
+			norm += value * value;
+		}
+		float[] normalized = vector.clone();
+		if (norm > 0) {
+			float scale = (float)(1 / Math.sqrt(norm));
+			for (int i = 0; i < dimensions; i++) {
+				normalized[i] *= scale;
+			}
+		}
+		return normalized;
+	}
+}
@@ -0,0 +1,75 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+final class VectorStore {
+
+	private static final int TARGET_CHUNK_BYTES = 1 << 24;
+
+	private final int dimensions;
+	private final int chunkShift;
+	private final int chunkMask;
+	private volatile FloatBuffer[] chunks = new FloatBuffer[0];
+	private volatile int size;
+
+	VectorStore(int dimensions) {
+		this.dimensions = dimensions;
+		int vectorsPerChunk = Integer.highestOneBit(Math.max(1, TARGET_CHUNK_BYTES / (dimensions * Float.BYTES)));
+		this.chunkShift = Integer.numberOfTrailingZeros(vectorsPerChunk);
+		this.chunkMask = vectorsPerChunk - 1;
+	}
+
+	int dimensions() {
+		return dimensions;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int add(float[] vector) {
+		int id = size;
+		int chunk = id >>> chunkShift;
+		FloatBuffer[] current = chunks;
+		if (chunk == current.length) {
+			current = Arrays.copyOf(current, chunk + 1);
+			current[chunk] = ByteBuffer.allocateDirect((chunkMask + 1) * dimensions * Float.BYTES)
+				.order(ByteOrder.nativeOrder())
+				.asFloatBuffer();
+			chunks = current;
+		}
+		current[chunk].put((id & chunkMask) * dimensions, vector, 0, dimensions);
+		size = id + 1;
+		return id;
+	}
+
+	float dot(float[] query, int id) {
+		FloatBuffer chunk = chunks[id >>> chunkShift];
+		int offset = (id & chunkMask) * dimensions;
+		float sum = 0f;
+		for (int i = 0; i < dimensions; i++) {
+			sum += query[i] * chunk.get(offset + i);
+		}
+		return sum;
+	}
+
+	float dot(int left, int right) {
+		FloatBuffer[] current = chunks;
+		FloatBuffer leftChunk = current[left >>> chunkShift];
+		FloatBuffer rightChunk = current[right >>> chunkShift];
+		int leftOffset = (left & chunkMask) * dimensions;
+		int rightOffset = (right & chunkMask) * dimensions;
+		float sum = 0f;
+		for (int i = 0; i < dimensions; i++) {
+			sum += leftChunk.get(leftOffset + i) * rightChunk.get(rightOffset + i);
+		}
+		return sum;
+	}
+
+	long offHeapBytes() {
+		return (long)chunks.length * (chunkMask + 1) * dimensions * Float.BYTES;
+	}
+}
@@ -0,0 +1,40 @@
+package com.study.webflux.rag.infrastructure.adapter.tokenizer;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingResult;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.study.webflux.rag.domain.port.out.TokenCounterPort;
+
+public class JtokkitTokenCounterAdapter implements TokenCounterPort {
+
+	private final Encoding encoding;
+
+	public JtokkitTokenCounterAdapter(String encodingName) {
+		EncodingType type = EncodingType.fromName(encodingName)
+			.orElseThrow(() -> new IllegalArgumentException("Unknown token encoding: " + encodingName));
+		this.encoding = Encodings.newLazyEncodingRegistry().getEncoding(type);
+	}
+
+	@Override
+	public int count(String text) {
+		return text == null || text.isEmpty() ? 0 : encoding.countTokens(text);
+	}
+
+	@Override
+	public String truncate(String text, int maxTokens) {
+		if (text == null || text.isEmpty() || maxTokens <= 0) {
+			return "";
+		}
+		EncodingResult result = encoding.encode(text, maxTokens);
+		if (!result.isTruncated()) {
+			return text;
+		}
+		String decoded = encoding.decode(result.getTokens());
+		int end = decoded.length();
+		while (end > 0 && decoded.charAt(end - 1) == '\uFFFD') {
+			end--;
+		}
+		return decoded.substring(0, end);
+	}
+}
@@ -0,0 +1,206 @@
+package com.study.webflux.rag.infrastructure.adapter.tts;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.study.webflux.rag.domain.model.voice.Voice;
+import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.infrastructure.cache.OffHeapByteCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CachingTtsAdapter implements TtsPort {
+
+	private static final int INITIAL_ENTRY_BYTES = 16 * 1024;
+
+	private final TtsPort delegate;
+	private final Voice voice;
+	private final OffHeapByteCache localCache;
+	private final RedisCacheTier<CachedAudio> redisCache;
+	private final int chunkSize;
+	private final int maximumEntryBytes;
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public CachingTtsAdapter(
+		TtsPort delegate,
+		Voice voice,
+		OffHeapByteCache localCache,
+		RedisCacheTier<CachedAudio> redisCache,
+		int chunkSize,
+		int maximumEntryBytes) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive");
+		}
+		this.delegate = delegate;
+		this.voice = voice;
+		this.localCache = localCache;
+		this.redisCache = redisCache;
+		this.chunkSize = chunkSize;
+		this.maximumEntryBytes = maximumEntryBytes;
+	}
+
+	@Override
+	public Flux<byte[]> streamSynthesize(String text) {
+		return lookup(text, this::replay,
+			key -> record(key, delegate.streamSynthesize(text), (audio, chunk) -> audio.append(ByteBuffer.wrap(chunk))));
+	}
+
+	@Override
+	public Flux<DataBuffer> streamSynthesizeBuffers(String text) {
+		return lookup(text, this::replayBuffers,
+			key -> record(key, delegate.streamSynthesizeBuffers(text), this::append));
+	}
+
+	@Override
+	public Mono<byte[]> synthesize(String text) {
+		return streamSynthesize(text)
+			.collect(ByteArrayOutputStream::new, (output, chunk) -> output.write(chunk, 0, chunk.length))
+			.map(ByteArrayOutputStream::toByteArray);
+	}
+
+	@Override
+	public Mono<Void> prepare() {
+		return delegate.prepare();
+	}
+
+	public long localHits() {
+		return localHits.sum();
+	}
+
+	public long redisHits() {
+		return redisHits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	private <T> Flux<T> lookup(String text, Function<ByteBuffer, Flux<T>> replay, Function<String, Flux<T>> load) {
+		return Flux.defer(() -> {
+			String key = SynthesisKey.of(voice, text);
+			ByteBuffer cached = localCache.get(key);
+			if (cached != null) {
+				localHits.increment();
+				return hit(replay.apply(cached));
+			}
+
+			Flux<T> fromDelegate = Flux.defer(() -> load.apply(key));
+			if (redisCache == null) {
+				return fromDelegate;
+			}
+			return redisCache.get(key)
+				.flatMapMany(entry -> {
+					redisHits.increment();
+					localCache.put(key, entry.audio());
+					return hit(replay.apply(ByteBuffer.wrap(entry.audio())));
+				})
+				.switchIfEmpty(fromDelegate);
+		});
+	}
+
+	private <T> Flux<T> hit(Flux<T> replay) {
+		return Flux.deferContextual(context -> {
+			context.<Runnable>getOrEmpty(CACHE_HIT_LISTENER).ifPresent(Runnable::run);
+			return replay;
+		});
+	}
+
+	private <T> Flux<T> record(String key, Flux<T> upstream, BiConsumer<AudioAccumulator, T> append) {
+		misses.increment();
+		AudioAccumulator audio = new AudioAccumulator();
+		return upstream
+			.doOnNext(item -> append.accept(audio, item))
+			.doOnComplete(() -> {
+				ByteBuffer bytes = audio.drain();
+				if (bytes == null) {
+					return;
+				}
+				localCache.put(key, bytes);
+				if (redisCache != null) {
+					redisCache.put(key, new CachedAudio(Arrays.copyOf(bytes.array(), bytes.remaining()))).subscribe();
+				}
+			});
+	}
+
+	private void append(AudioAccumulator audio, DataBuffer buffer) {
+		try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+			while (chunks.hasNext()) {
+				audio.append(chunks.next());
+			}
+		}
+	}
+
+	private Flux<byte[]> replay(ByteBuffer audio) {
+		return Flux.generate(audio::duplicate, (buffer, sink) -> {
+			byte[] chunk = new byte[Math.min(chunkSize, buffer.remaining())];
+			buffer.get(chunk);
+			sink.next(chunk);
+			if (!buffer.hasRemaining()) {
+				sink.complete();
+			}
+			return buffer;
+		});
+	}
+
+	private Flux<DataBuffer> replayBuffers(ByteBuffer audio) {
+		return Flux.generate(audio::duplicate, (buffer, sink) -> {
+			int length = Math.min(chunkSize, buffer.remaining());
+			ByteBuffer chunk = buffer.slice(buffer.position(), length);
+			buffer.position(buffer.position() + length);
+			sink.next(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+			if (!buffer.hasRemaining()) {
+				sink.complete();
+			}
+			return buffer;
+		});
+	}
+
+	public record CachedAudio(byte[] audio) {
+	}
+
+	private final class AudioAccumulator {
+
+		private byte[] audio;
+		private int size;
+		private boolean oversized;
+
+		private void append(ByteBuffer chunk) {
+			if (oversized) {
+				return;
+			}
+			int length = chunk.remaining();
+			int needed = size + length;
+			if (needed > maximumEntryBytes) {
+				oversized = true;
+				audio = null;
+				return;
+			}
+			if (audio == null || audio.length < needed) {
+				grow(needed);
+			}
+			chunk.get(audio, size, length);
+			size = needed;
+		}
+
+		private void grow(int needed) {
+			int doubled = audio == null ? INITIAL_ENTRY_BYTES : audio.length * 2;
+			int capacity = Math.min(maximumEntryBytes, Math.max(needed, doubled));
+			audio = audio == null ? new byte[capacity] : Arrays.copyOf(audio, capacity);
+		}
+
+		private ByteBuffer drain() {
+			return oversized || size == 0 ? null : ByteBuffer.wrap(audio, 0, size);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.study.webflux.rag.infrastructure.adapter.tts;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.infrastructure.resilience.CircuitBreaker;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CircuitBreakingTtsAdapter implements TtsPort {
+
+	private final TtsPort delegate;
+	private final CircuitBreaker breaker;
+	private final TtsPort fallback;
+
+	public CircuitBreakingTtsAdapter(TtsPort delegate, CircuitBreaker breaker, TtsPort fallback) {
+		this.delegate = delegate;
+		this.breaker = breaker;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public Flux<byte[]> streamSynthesize(String text) {
+		return breaker.execute(
+			() -> delegate.streamSynthesize(text),
+			() -> fallback == null ? Flux.empty() : fallback.streamSynthesize(text)
+		);
+	}
+
+	@Override
+	public Flux<DataBuffer> streamSynthesizeBuffers(String text) {
+		return breaker.execute(
+			() -> delegate.streamSynthesizeBuffers(text),
+			() -> fallback == null ? Flux.empty() : fallback.streamSynthesizeBuffers(text)
+		);
+	}
+
+	@Override
+	public Mono<byte[]> synthesize(String text) {
+		return breaker.execute(
+			() -> delegate.synthesize(text).flux(),
+			() -> fallback == null ? Flux.empty() : fallback.synthesize(text).flux()
+		).singleOrEmpty();
+	}
+
+	@Override
+	public Mono<Void> prepare() {
+		return delegate.prepare();
+	}
+
+	public CircuitBreaker breaker() {
+		return breaker;
+	}
+}
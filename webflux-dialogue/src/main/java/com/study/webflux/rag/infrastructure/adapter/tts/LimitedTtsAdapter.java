@@ -0,0 +1,44 @@
+package com.study.webflux.rag.infrastructure.adapter.tts;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class LimitedTtsAdapter implements TtsPort {
+
+	private final TtsPort delegate;
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public LimitedTtsAdapter(TtsPort delegate, AdaptiveConcurrencyLimiter limiter) {
+		this.delegate = delegate;
+		this.limiter = limiter;
+	}
+
+	@Override
+	public Flux<byte[]> streamSynthesize(String text) {
+		return limiter.execute(() -> delegate.streamSynthesize(text));
+	}
+
+	@Override
+	public Flux<DataBuffer> streamSynthesizeBuffers(String text) {
+		return limiter.execute(() -> delegate.streamSynthesizeBuffers(text));
+	}
+
+	@Override
+	public Mono<byte[]> synthesize(String text) {
+		return limiter.execute(() -> delegate.synthesize(text).flux()).next();
+	}
+
+	@Override
+	public Mono<Void> prepare() {
+		return delegate.prepare();
+	}
+
+	public AdaptiveConcurrencyLimiter limiter() {
+		return limiter;
+	}
+}
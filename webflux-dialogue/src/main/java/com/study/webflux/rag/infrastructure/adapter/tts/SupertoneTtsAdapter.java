@@ -1,13 +1,11 @@
 package com.study.webflux.rag.infrastructure.adapter.tts;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpMethod;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
-import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.study.webflux.rag.domain.model.voice.Voice;
@@ -16,12 +14,10 @@ import com.study.webflux.rag.domain.port.out.TtsPort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-@Component
 public class SupertoneTtsAdapter implements TtsPort {
 
 	private final WebClient webClient;
 	private final Voice voice;
-	private final Mono<Void> warmupMono;
 
 	public SupertoneTtsAdapter(WebClient.Builder webClientBuilder, SupertoneConfig config, Voice voice) {
 		this.voice = voice;
@@ -29,18 +25,15 @@ public class SupertoneTtsAdapter implements TtsPort {
 			.baseUrl(config.baseUrl())
 			.defaultHeader("x-sup-api-key", config.apiKey())
 			.build();
-		this.warmupMono = this.webClient.method(HttpMethod.HEAD)
-			.uri("/")
-			.retrieve()
-			.toBodilessEntity()
-			.timeout(Duration.ofSeconds(2))
-			.onErrorResume(ex -> Mono.empty())
-			.then()
-			.cache();
 	}
 
 	@Override
 	public Flux<byte[]> streamSynthesize(String text) {
+		return streamSynthesizeBuffers(text).map(this::drain);
+	}
+
+	@Override
+	public Flux<DataBuffer> streamSynthesizeBuffers(String text) {
 		var settings = voice.getSettings();
 		var voiceSettings = Map.of(
 			"pitch_shift", settings.pitchShift(),
@@ -62,33 +55,22 @@ public class SupertoneTtsAdapter implements TtsPort {
 			.bodyValue(payload)
 			.accept(MediaType.parseMediaType(voice.getOutputFormat().getMediaType()))
 			.retrieve()
-			.bodyToFlux(DataBuffer.class)
-			.map(dataBuffer -> {
-				byte[] bytes = new byte[dataBuffer.readableByteCount()];
-				dataBuffer.read(bytes);
-				org.springframework.core.io.buffer.DataBufferUtils.release(dataBuffer);
-				return bytes;
-			});
+			.bodyToFlux(DataBuffer.class);
 	}
 
 	@Override
 	public Mono<byte[]> synthesize(String text) {
-		return streamSynthesize(text)
-			.collectList()
-			.map(byteArrays -> {
-				int totalSize = byteArrays.stream().mapToInt(arr -> arr.length).sum();
-				byte[] result = new byte[totalSize];
-				int offset = 0;
-				for (byte[] arr : byteArrays) {
-					System.arraycopy(arr, 0, result, offset, arr.length);
-					offset += arr.length;
-				}
-				return result;
-			});
+		return DataBufferUtils.join(streamSynthesizeBuffers(text)).map(this::drain);
 	}
 
-	@Override
-	public Mono<Void> prepare() {
-		return warmupMono;
+	private byte[] drain(DataBuffer dataBuffer) {
+		try {
+			byte[] bytes = new byte[dataBuffer.readableByteCount()];
+			dataBuffer.read(bytes);
+			return bytes;
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
 	}
 }
@@ -0,0 +1,46 @@
+package com.study.webflux.rag.infrastructure.adapter.tts;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.study.webflux.rag.domain.model.voice.Voice;
+import com.study.webflux.rag.domain.model.voice.VoiceSettings;
+
+final class SynthesisKey {
+
+	private SynthesisKey() {
+	}
+
+	static String of(Voice voice, String text) {
+		MessageDigest digest = sha256();
+		update(digest, voice.getProvider());
+		update(digest, voice.getId());
+		update(digest, voice.getLanguage());
+		update(digest, voice.getStyle().getValue());
+		update(digest, voice.getOutputFormat().name());
+		VoiceSettings settings = voice.getSettings();
+		update(digest, Integer.toString(settings.pitchShift()));
+		update(digest, Double.toString(settings.pitchVariance()));
+		update(digest, Double.toString(settings.speed()));
+		update(digest, text);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+		int length = bytes.length;
+		digest.update(new byte[] {(byte)(length >>> 24), (byte)(length >>> 16), (byte)(length >>> 8), (byte)length});
+		digest.update(bytes);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.study.webflux.rag.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LocalCache<K, V> {
+
+	private final int maximumSize;
+	private final long ttlMillis;
+	private final Clock clock;
+	private final LinkedHashMap<K, Entry<V>> entries;
+
+	public LocalCache(int maximumSize, Duration ttl) {
+		this(maximumSize, ttl, Clock.systemUTC());
+	}
+
+	LocalCache(int maximumSize, Duration ttl, Clock clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > LocalCache.this.maximumSize;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() <= clock.millis()) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value();
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+	}
+
+	public synchronized void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private record Entry<V>(V value, long expiresAt) {
+	}
+}
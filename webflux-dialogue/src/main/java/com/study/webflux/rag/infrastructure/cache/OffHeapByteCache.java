@@ -0,0 +1,90 @@
+package com.study.webflux.rag.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OffHeapByteCache {
+
+	private final long maximumBytes;
+	private final int maximumEntryBytes;
+	private final long ttlMillis;
+	private final Clock clock;
+	private final LinkedHashMap<String, Slot> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long usedBytes;
+
+	public OffHeapByteCache(long maximumBytes, int maximumEntryBytes, Duration ttl) {
+		this(maximumBytes, maximumEntryBytes, ttl, Clock.systemUTC());
+	}
+
+	OffHeapByteCache(long maximumBytes, int maximumEntryBytes, Duration ttl, Clock clock) {
+		if (maximumBytes <= 0 || maximumEntryBytes <= 0) {
+			throw new IllegalArgumentException("maximumBytes and maximumEntryBytes must be positive");
+		}
+		this.maximumBytes = maximumBytes;
+		this.maximumEntryBytes = (int)Math.min(maximumEntryBytes, maximumBytes);
+		this.ttlMillis = ttl.toMillis();
+		this.clock = clock;
+	}
+
+	public synchronized ByteBuffer get(String key) {
+		Slot slot = entries.get(key);
+		if (slot == null) {
+			return null;
+		}
+		if (slot.expiresAt() <= clock.millis()) {
+			remove(key);
+			return null;
+		}
+		return slot.buffer().asReadOnlyBuffer();
+	}
+
+	public boolean put(String key, byte[] value) {
+		return put(key, ByteBuffer.wrap(value));
+	}
+
+	public boolean put(String key, ByteBuffer value) {
+		int length = value.remaining();
+		if (length == 0 || length > maximumEntryBytes) {
+			return false;
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+		buffer.put(value.duplicate()).flip();
+		synchronized (this) {
+			remove(key);
+			entries.put(key, new Slot(buffer, clock.millis() + ttlMillis));
+			usedBytes += length;
+			Iterator<Map.Entry<String, Slot>> eldest = entries.entrySet().iterator();
+			while (usedBytes > maximumBytes && eldest.hasNext()) {
+				usedBytes -= eldest.next().getValue().buffer().capacity();
+				eldest.remove();
+			}
+		}
+		return true;
+	}
+
+	public synchronized void invalidate(String key) {
+		remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long usedBytes() {
+		return usedBytes;
+	}
+
+	private void remove(String key) {
+		Slot removed = entries.remove(key);
+		if (removed != null) {
+			usedBytes -= removed.buffer().capacity();
+		}
+	}
+
+	private record Slot(ByteBuffer buffer, long expiresAt) {
+	}
+}
@@ -0,0 +1,86 @@
+package com.study.webflux.rag.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+public class RedisCacheTier<V> {
+
+	private static final Logger log = LoggerFactory.getLogger(RedisCacheTier.class);
+
+	private final ReactiveStringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String namespace;
+	private final Class<V> type;
+	private final Duration ttl;
+	private final Duration timeout;
+
+	public RedisCacheTier(
+		ReactiveStringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		String namespace,
+		Class<V> type,
+		Duration ttl,
+		Duration timeout) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.namespace = namespace;
+		this.type = type;
+		this.ttl = ttl;
+		this.timeout = timeout;
+	}
+
+	public Mono<V> get(String key) {
+		return redisTemplate.opsForValue()
+			.get(namespace + ":" + key)
+			.timeout(timeout)
+			.flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, type)))
+			.onErrorResume(error -> {
+				log.debug("Redis cache read failed for {}:{}", namespace, key, error);
+				return Mono.empty();
+			});
+	}
+
+	public Mono<Void> put(String key, V value) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(value);
+		}
+		catch (JsonProcessingException e) {
+			return Mono.error(e);
+		}
+		return redisTemplate.opsForValue()
+			.set(namespace + ":" + key, json, ttl)
+			.timeout(timeout)
+			.onErrorResume(error -> {
+				log.debug("Redis cache write failed for {}:{}", namespace, key, error);
+				return Mono.just(false);
+			})
+			.then();
+	}
+
+	public Mono<Long> incrementGeneration() {
+		return redisTemplate.opsForValue()
+			.increment(namespace + ":generation")
+			.timeout(timeout)
+			.onErrorResume(error -> {
+				log.debug("Redis generation bump failed for {}", namespace, error);
+				return Mono.empty();
+			});
+	}
+
+	public Mono<Long> currentGeneration() {
+		return redisTemplate.opsForValue()
+			.get(namespace + ":generation")
+			.timeout(timeout)
+			.map(Long::parseLong)
+			.onErrorResume(error -> Mono.empty());
+	}
+}
@@ -0,0 +1,22 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+import com.study.webflux.rag.infrastructure.resilience.CircuitBreaker;
+
+final class CircuitBreakers {
+
+	private CircuitBreakers() {
+	}
+
+	static CircuitBreaker create(String name, RagDialogueProperties.CircuitBreaker breaker) {
+		return new CircuitBreaker(
+			name,
+			breaker.getFailureRateThreshold(),
+			breaker.getSlidingWindowSize(),
+			breaker.getMinimumCalls(),
+			breaker.getOpenDuration(),
+			breaker.getHalfOpenCalls(),
+			breaker.getFirstResponseTimeout()
+		);
+	}
+}
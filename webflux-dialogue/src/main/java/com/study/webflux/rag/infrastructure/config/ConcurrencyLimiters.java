@@ -0,0 +1,23 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+import com.study.webflux.rag.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+
+final class ConcurrencyLimiters {
+
+	private ConcurrencyLimiters() {
+	}
+
+	static AdaptiveConcurrencyLimiter create(String name, RagDialogueProperties.Limiter limiter) {
+		return new AdaptiveConcurrencyLimiter(
+			name,
+			limiter.getInitialLimit(),
+			limiter.getMinLimit(),
+			limiter.getMaxLimit(),
+			limiter.getBackoffRatio(),
+			limiter.getLatencyThreshold(),
+			limiter.getMaxQueue(),
+			limiter.getMaxWait()
+		);
+	}
+}
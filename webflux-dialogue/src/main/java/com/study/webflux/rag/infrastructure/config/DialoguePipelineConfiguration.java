@@ -0,0 +1,58 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.study.webflux.rag.application.monitoring.ModelStatsReporter;
+import com.study.webflux.rag.application.service.DialoguePipelineSettings;
+import com.study.webflux.rag.application.service.ModelRouter;
+import com.study.webflux.rag.domain.service.TtsRequestPlanner;
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+
+@Configuration
+public class DialoguePipelineConfiguration {
+
+	@Bean
+	public DialoguePipelineSettings dialoguePipelineSettings(RagDialogueProperties properties) {
+		var tts = properties.getTts();
+		return new DialoguePipelineSettings(
+			properties.getRetrieval().getBudget(),
+			tts.getMinLookahead(),
+			tts.getMaxLookahead(),
+			tts.getLookaheadTarget(),
+			tts.getFrameBytes(),
+			tts.getFrameMaxLatency()
+		);
+	}
+
+	@Bean
+	public TtsRequestPlanner ttsRequestPlanner(RagDialogueProperties properties) {
+		var tts = properties.getTts();
+		if (!tts.isPlannerEnabled()) {
+			return TtsRequestPlanner.disabled();
+		}
+		return new TtsRequestPlanner(tts.getMinRequestChars(), tts.getMaxRequestChars());
+	}
+
+	@Bean
+	public ModelRouter modelRouter(ModelStatsReporter modelStatsReporter, RagDialogueProperties properties) {
+		String defaultModel = properties.getOpenai().getModel();
+		var routing = properties.getLlm().getRouting();
+		if (!routing.isEnabled()) {
+			return ModelRouter.fixed(defaultModel);
+		}
+		return new ModelRouter(
+			modelStatsReporter,
+			routing.getFastModel(),
+			defaultModel,
+			routing.getStrongModel(),
+			routing.getSimpleQueryChars(),
+			routing.getComplexQueryChars(),
+			routing.getMaxTtft(),
+			routing.getMinTokensPerSecond(),
+			routing.getMinSamples(),
+			routing.getProbeEvery(),
+			routing.getMinTopScoreShare()
+		);
+	}
+}
@@ -0,0 +1,59 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+import com.study.webflux.rag.infrastructure.http.HttpClientSettings;
+import com.study.webflux.rag.infrastructure.http.UpstreamHttpClient;
+
+@Configuration
+public class HttpClientConfiguration {
+
+	@Bean(destroyMethod = "close")
+	public UpstreamHttpClient openAiHttpClient(RagDialogueProperties properties) {
+		var openai = properties.getOpenai();
+		return start(new UpstreamHttpClient("openai", openai.getBaseUrl(), settings(openai.getHttp())));
+	}
+
+	@Bean(destroyMethod = "close")
+	public UpstreamHttpClient claudeHttpClient(RagDialogueProperties properties) {
+		var claude = properties.getClaude();
+		return new UpstreamHttpClient("claude", claude.getBaseUrl(), settings(claude.getHttp()));
+	}
+
+	@Bean(destroyMethod = "close")
+	public UpstreamHttpClient geminiHttpClient(RagDialogueProperties properties) {
+		var gemini = properties.getGemini();
+		return new UpstreamHttpClient("gemini", gemini.getBaseUrl(), settings(gemini.getHttp()));
+	}
+
+	@Bean(destroyMethod = "close")
+	public UpstreamHttpClient supertoneHttpClient(RagDialogueProperties properties) {
+		var supertone = properties.getSupertone();
+		return start(new UpstreamHttpClient("supertone", supertone.getBaseUrl(), settings(supertone.getHttp())));
+	}
+
+	private UpstreamHttpClient start(UpstreamHttpClient client) {
+		client.startPrewarming();
+		return client;
+	}
+
+	private HttpClientSettings settings(RagDialogueProperties.Http http) {
+		return new HttpClientSettings(
+			http.getMaxConnections(),
+			http.getPendingAcquireMaxCount(),
+			http.getPendingAcquireTimeout(),
+			http.getMaxIdleTime(),
+			http.getMaxLifeTime(),
+			http.getEvictionInterval(),
+			http.getConnectTimeout(),
+			http.isKeepAlive(),
+			"h2".equalsIgnoreCase(http.getProtocol()),
+			http.getEventLoopThreads(),
+			http.getPrewarmConnections(),
+			http.getPrewarmInterval(),
+			http.getPrewarmPath()
+		);
+	}
+}
@@ -1,14 +1,33 @@
 package com.study.webflux.rag.infrastructure.config;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.webflux.rag.application.monitoring.DialoguePipelineStage;
 import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.adapter.llm.CachingLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.CircuitBreakingLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.ClaudeConfig;
+import com.study.webflux.rag.infrastructure.adapter.llm.ClaudeLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.CoalescingLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.GeminiConfig;
+import com.study.webflux.rag.infrastructure.adapter.llm.GeminiLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.HedgingLlmAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.LimitedLlmAdapter;
 import com.study.webflux.rag.infrastructure.adapter.llm.OpenAiConfig;
 import com.study.webflux.rag.infrastructure.adapter.llm.OpenAiLlmAdapter;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
 import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+import com.study.webflux.rag.infrastructure.http.UpstreamHttpClient;
 
 @Configuration
 public class LlmConfiguration {
@@ -20,7 +39,177 @@ public class LlmConfiguration {
 	}
 
 	@Bean
-	public LlmPort llmPort(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, OpenAiConfig config) {
-		return new OpenAiLlmAdapter(webClientBuilder, objectMapper, config);
+	public ClaudeConfig claudeConfig(RagDialogueProperties properties) {
+		var claude = properties.getClaude();
+		return new ClaudeConfig(
+			claude.getApiKey(),
+			claude.getBaseUrl(),
+			claude.getModel(),
+			claude.getMaxTokens(),
+			claude.getApiVersion(),
+			Map.copyOf(claude.getModelAliases())
+		);
+	}
+
+	@Bean
+	public GeminiConfig geminiConfig(RagDialogueProperties properties) {
+		var gemini = properties.getGemini();
+		return new GeminiConfig(gemini.getApiKey(), gemini.getBaseUrl(), gemini.getModel(),
+			Map.copyOf(gemini.getModelAliases()));
+	}
+
+	@Bean
+	public OpenAiLlmAdapter openAiLlmPort(
+		WebClient.Builder webClientBuilder,
+		UpstreamHttpClient openAiHttpClient,
+		ObjectMapper objectMapper,
+		OpenAiConfig config) {
+		return new OpenAiLlmAdapter(openAiHttpClient.apply(webClientBuilder.clone()), objectMapper, config);
+	}
+
+	@Bean
+	public ClaudeLlmAdapter claudeLlmPort(
+		WebClient.Builder webClientBuilder,
+		UpstreamHttpClient claudeHttpClient,
+		ObjectMapper objectMapper,
+		ClaudeConfig config) {
+		return new ClaudeLlmAdapter(claudeHttpClient.apply(webClientBuilder.clone()), objectMapper, config);
+	}
+
+	@Bean
+	public GeminiLlmAdapter geminiLlmPort(
+		WebClient.Builder webClientBuilder,
+		UpstreamHttpClient geminiHttpClient,
+		ObjectMapper objectMapper,
+		GeminiConfig config) {
+		return new GeminiLlmAdapter(geminiHttpClient.apply(webClientBuilder.clone()), objectMapper, config);
+	}
+
+	@Bean
+	public UpstreamStageMetrics llmUpstreamMetrics(
+		UpstreamHttpClient openAiHttpClient,
+		UpstreamHttpClient claudeHttpClient,
+		UpstreamHttpClient geminiHttpClient) {
+		return new UpstreamStageMetrics(DialoguePipelineStage.LLM_COMPLETION,
+			List.of(openAiHttpClient, claudeHttpClient, geminiHttpClient));
+	}
+
+	@Bean
+	@Primary
+	public LlmPort llmPort(
+		OpenAiLlmAdapter openAiLlmPort,
+		ClaudeLlmAdapter claudeLlmPort,
+		GeminiLlmAdapter geminiLlmPort,
+		UpstreamHttpClient claudeHttpClient,
+		UpstreamHttpClient geminiHttpClient,
+		ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+		ObjectMapper objectMapper,
+		UpstreamStageMetrics llmUpstreamMetrics,
+		RagDialogueProperties properties) {
+		var llm = properties.getLlm();
+		var cache = llm.getCache();
+		Map<String, LlmPort> cachedProviders = Map.of(
+			"openai", cached("openai", limited("openai", openAiLlmPort, properties.getOpenai().getLimiter(),
+				llmUpstreamMetrics), cache, redisTemplate, objectMapper),
+			"claude", cached("claude", limited("claude", claudeLlmPort, properties.getClaude().getLimiter(),
+				llmUpstreamMetrics), cache, redisTemplate, objectMapper),
+			"gemini", cached("gemini", limited("gemini", geminiLlmPort, properties.getGemini().getLimiter(),
+				llmUpstreamMetrics), cache, redisTemplate, objectMapper)
+		);
+		var fallback = llm.getFallback();
+		LlmPort fallbackPort = provider(cachedProviders, fallback.getProvider());
+		Map<String, LlmPort> providers = Map.of(
+			"openai", guarded("openai", cachedProviders.get("openai"), properties.getOpenai().getCircuitBreaker(),
+				fallbackPort, fallback.getModel()),
+			"claude", guarded("claude", cachedProviders.get("claude"), properties.getClaude().getCircuitBreaker(),
+				fallbackPort, fallback.getModel()),
+			"gemini", guarded("gemini", cachedProviders.get("gemini"), properties.getGemini().getCircuitBreaker(),
+				fallbackPort, fallback.getModel())
+		);
+		LlmPort upstream = providers.get("openai");
+		var hedging = llm.getHedging();
+		if (hedging.isEnabled()) {
+			Map<String, UpstreamHttpClient> httpClients = Map.of("claude", claudeHttpClient, "gemini", geminiHttpClient);
+			for (String name : List.of(hedging.getPrimary(), hedging.getSecondary())) {
+				UpstreamHttpClient httpClient = httpClients.get(name);
+				if (httpClient != null) {
+					httpClient.startPrewarming();
+				}
+			}
+			upstream = new HedgingLlmAdapter(
+				provider(providers, hedging.getPrimary()),
+				provider(providers, hedging.getSecondary()),
+				hedging.getPercentile(),
+				hedging.getInitialDelay(),
+				hedging.getMinDelay(),
+				hedging.getMaxDelay(),
+				hedging.getSampleWindow(),
+				hedging.getMinSamples()
+			);
+		}
+		if (llm.getCoalescing().isEnabled()) {
+			upstream = new CoalescingLlmAdapter(upstream);
+		}
+		return upstream;
+	}
+
+	private LlmPort cached(
+		String name,
+		LlmPort provider,
+		RagDialogueProperties.Llm.Cache cache,
+		ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+		ObjectMapper objectMapper) {
+		if (!cache.isEnabled()) {
+			return provider;
+		}
+		RedisCacheTier<CachingLlmAdapter.CachedCompletion> redisTier = null;
+		if (cache.isRedisEnabled()) {
+			redisTier = new RedisCacheTier<>(
+				redisTemplate.getObject(),
+				objectMapper,
+				"rag:llm:" + name,
+				CachingLlmAdapter.CachedCompletion.class,
+				cache.getRedisTtl(),
+				cache.getRedisTimeout()
+			);
+		}
+		return new CachingLlmAdapter(
+			provider,
+			new LocalCache<>(cache.getMaximumSize(), cache.getTtl()),
+			redisTier,
+			cache.isReplayPacing(),
+			cache.getReplayPacingScale()
+		);
+	}
+
+	private LlmPort limited(
+		String name,
+		LlmPort provider,
+		RagDialogueProperties.Limiter limiter,
+		UpstreamStageMetrics metrics) {
+		if (!limiter.isEnabled()) {
+			return provider;
+		}
+		return new LimitedLlmAdapter(provider, metrics.register(ConcurrencyLimiters.create(name, limiter)));
+	}
+
+	private LlmPort guarded(
+		String name,
+		LlmPort provider,
+		RagDialogueProperties.CircuitBreaker breaker,
+		LlmPort fallback,
+		String fallbackModel) {
+		if (!breaker.isEnabled()) {
+			return provider;
+		}
+		return new CircuitBreakingLlmAdapter(provider, CircuitBreakers.create(name, breaker), fallback, fallbackModel);
+	}
+
+	private LlmPort provider(Map<String, LlmPort> providers, String name) {
+		LlmPort provider = providers.get(name);
+		if (provider == null) {
+			throw new IllegalArgumentException("Unknown LLM provider: " + name);
+		}
+		return provider;
 	}
 }
@@ -0,0 +1,33 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.study.webflux.rag.infrastructure.adapter.persistence.ConversationWriteListener;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ListeningConversationRepository;
+import com.study.webflux.rag.infrastructure.adapter.persistence.mongodb.ConversationChangeStreamListener;
+import com.study.webflux.rag.infrastructure.adapter.persistence.mongodb.ConversationMongoAdapter;
+
+@Configuration
+public class PersistenceConfiguration {
+
+	@Bean
+	@Primary
+	public ListeningConversationRepository conversationRepository(
+		ConversationMongoAdapter mongoAdapter,
+		ObjectProvider<ConversationWriteListener> listeners) {
+		return new ListeningConversationRepository(mongoAdapter, listeners);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "rag.dialogue.retrieval.change-stream", name = "enabled", havingValue = "true")
+	public ConversationChangeStreamListener conversationChangeStreamListener(
+		ReactiveMongoTemplate mongoTemplate,
+		ListeningConversationRepository conversationRepository) {
+		return new ConversationChangeStreamListener(mongoTemplate, conversationRepository);
+	}
+}
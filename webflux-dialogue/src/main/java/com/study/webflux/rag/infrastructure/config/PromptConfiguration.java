@@ -0,0 +1,29 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.study.webflux.rag.domain.port.out.TokenCounterPort;
+import com.study.webflux.rag.domain.service.ContextWindowManager;
+import com.study.webflux.rag.infrastructure.adapter.tokenizer.JtokkitTokenCounterAdapter;
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+
+@Configuration
+public class PromptConfiguration {
+
+	@Bean
+	public TokenCounterPort tokenCounterPort(RagDialogueProperties properties) {
+		return new JtokkitTokenCounterAdapter(properties.getPrompt().getEncoding());
+	}
+
+	@Bean
+	public ContextWindowManager contextWindowManager(TokenCounterPort tokenCounterPort, RagDialogueProperties properties) {
+		var prompt = properties.getPrompt();
+		return new ContextWindowManager(
+			tokenCounterPort,
+			prompt.getTokenBudget(),
+			prompt.getMessageOverhead(),
+			prompt.getMinDocumentTokens()
+		);
+	}
+}
@@ -0,0 +1,181 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+import com.study.webflux.rag.domain.port.out.EmbeddingPort;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.infrastructure.adapter.embedding.HashingEmbeddingAdapter;
+import com.study.webflux.rag.infrastructure.adapter.embedding.OpenAiEmbeddingAdapter;
+import com.study.webflux.rag.infrastructure.adapter.llm.OpenAiConfig;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.CachingRetrievalAdapter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.HybridRetrievalAdapter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.InvertedIndexRetrievalAdapter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.VectorRetrievalAdapter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.Analyzer;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.AnalyzerChain;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.CharNGramFilter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.KoreanSuffixFilter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.LowerCaseFilter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.TokenFilter;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.Bm25Scorer;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.InvertedIndex;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.RetrievalIndexStore;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.ShardedInvertedIndex;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.vector.VectorIndex;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
+import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class RetrievalConfiguration {
+
+	@Bean
+	public Bm25Scorer bm25Scorer(RagDialogueProperties properties) {
+		var bm25 = properties.getRetrieval().getBm25();
+		return new Bm25Scorer(bm25.getK1(), bm25.getB());
+	}
+
+	@Bean
+	public Analyzer retrievalAnalyzer(RagDialogueProperties properties) {
+		var analyzer = properties.getRetrieval().getAnalyzer();
+		List<TokenFilter> filters = new ArrayList<>();
+		if (analyzer.isLowerCase()) {
+			filters.add(new LowerCaseFilter());
+		}
+		if (analyzer.isKoreanSuffix()) {
+			filters.add(new KoreanSuffixFilter());
+		}
+		if (analyzer.getNgramMax() > 0) {
+			filters.add(new CharNGramFilter(analyzer.getNgramMin(), analyzer.getNgramMax()));
+		}
+		return new AnalyzerChain(filters);
+	}
+
+	@Bean(destroyMethod = "dispose")
+	public Scheduler retrievalScheduler(RagDialogueProperties properties) {
+		return Schedulers.newParallel("retrieval", Math.max(1, properties.getRetrieval().getShards()), true);
+	}
+
+	@Bean
+	public InvertedIndexRetrievalAdapter lexicalRetrievalPort(
+		ConversationRepository conversationRepository,
+		Bm25Scorer bm25Scorer,
+		Analyzer retrievalAnalyzer,
+		Scheduler retrievalScheduler,
+		RagDialogueProperties properties) {
+		int shardCount = Math.max(1, properties.getRetrieval().getShards());
+		var snapshot = properties.getRetrieval().getSnapshot();
+		List<InvertedIndex> shards = new ArrayList<>(shardCount);
+		List<RetrievalIndexStore> stores = new ArrayList<>();
+		Path root = Path.of(snapshot.getDirectory(), "shards-" + shardCount);
+		for (int shard = 0; shard < shardCount; shard++) {
+			if (snapshot.isEnabled()) {
+				RetrievalIndexStore store = new RetrievalIndexStore(root.resolve("shard-" + shard));
+				stores.add(store);
+				shards.add(store.open(bm25Scorer, retrievalAnalyzer));
+			}
+			else {
+				shards.add(new InvertedIndex(bm25Scorer, retrievalAnalyzer));
+			}
+		}
+		return new InvertedIndexRetrievalAdapter(
+			conversationRepository,
+			new ShardedInvertedIndex(bm25Scorer, shards, retrievalScheduler),
+			stores,
+			snapshot.getInterval()
+		);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "rag.dialogue.retrieval.vector", name = "enabled", havingValue = "true")
+	public EmbeddingPort embeddingPort(
+		WebClient.Builder webClientBuilder,
+		OpenAiConfig openAiConfig,
+		Analyzer retrievalAnalyzer,
+		RagDialogueProperties properties) {
+		var vector = properties.getRetrieval().getVector();
+		if ("openai".equalsIgnoreCase(vector.getEmbeddingProvider())) {
+			return new OpenAiEmbeddingAdapter(webClientBuilder, openAiConfig, vector.getEmbeddingModel(),
+				vector.getDimensions());
+		}
+		return new HashingEmbeddingAdapter(retrievalAnalyzer, vector.getDimensions());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "rag.dialogue.retrieval.vector", name = "enabled", havingValue = "true")
+	public VectorRetrievalAdapter vectorRetrievalPort(
+		ConversationRepository conversationRepository,
+		EmbeddingPort embeddingPort,
+		RagDialogueProperties properties) {
+		var vector = properties.getRetrieval().getVector();
+		VectorIndex index = new VectorIndex(
+			embeddingPort.dimensions(),
+			vector.getMaxLinks(),
+			vector.getEfConstruction(),
+			vector.getEfSearch()
+		);
+		return new VectorRetrievalAdapter(conversationRepository, embeddingPort, index);
+	}
+
+	@Bean
+	public HybridRetrievalAdapter hybridRetrievalPort(
+		InvertedIndexRetrievalAdapter lexicalRetrievalPort,
+		ObjectProvider<VectorRetrievalAdapter> vectorRetrievalPort,
+		RagDialogueProperties properties) {
+		var hybrid = properties.getRetrieval().getHybrid();
+		Map<String, RetrievalPort> retrievers = new LinkedHashMap<>();
+		retrievers.put("lexical", lexicalRetrievalPort);
+		vectorRetrievalPort.ifAvailable(vector -> retrievers.put("vector", vector));
+		return new HybridRetrievalAdapter(
+			retrievers,
+			hybrid.getDeadline(),
+			hybrid.getRankConstant(),
+			hybrid.getCandidates()
+		);
+	}
+
+	@Bean
+	@Primary
+	public CachingRetrievalAdapter retrievalPort(
+		HybridRetrievalAdapter hybridRetrievalPort,
+		ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+		ObjectMapper objectMapper,
+		RagDialogueProperties properties) {
+		var cache = properties.getRetrieval().getCache();
+		RedisCacheTier<CachingRetrievalAdapter.CachedRetrieval> redisTier = null;
+		if (cache.isRedisEnabled()) {
+			redisTier = new RedisCacheTier<>(
+				redisTemplate.getObject(),
+				objectMapper,
+				"rag:retrieval",
+				CachingRetrievalAdapter.CachedRetrieval.class,
+				cache.getRedisTtl(),
+				cache.getRedisTimeout()
+			);
+		}
+		return new CachingRetrievalAdapter(
+			hybridRetrievalPort,
+			new LocalCache<>(cache.getMaximumSize(), cache.getTtl()),
+			redisTier,
+			cache.getMaxStaleness(),
+			cache.getGenerationRefresh()
+		);
+	}
+}
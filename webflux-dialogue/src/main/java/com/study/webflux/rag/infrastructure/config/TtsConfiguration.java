@@ -1,14 +1,27 @@
 package com.study.webflux.rag.infrastructure.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.webflux.rag.application.monitoring.DialoguePipelineStage;
 import com.study.webflux.rag.domain.model.voice.Voice;
 import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.infrastructure.adapter.tts.CachingTtsAdapter;
+import com.study.webflux.rag.infrastructure.adapter.tts.CircuitBreakingTtsAdapter;
+import com.study.webflux.rag.infrastructure.adapter.tts.LimitedTtsAdapter;
 import com.study.webflux.rag.infrastructure.adapter.tts.SupertoneConfig;
 import com.study.webflux.rag.infrastructure.adapter.tts.SupertoneTtsAdapter;
+import com.study.webflux.rag.infrastructure.cache.OffHeapByteCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
 import com.study.webflux.rag.infrastructure.config.properties.RagDialogueProperties;
+import com.study.webflux.rag.infrastructure.http.UpstreamHttpClient;
+import com.study.webflux.rag.infrastructure.resilience.AdaptiveConcurrencyLimiter;
 
 @Configuration
 public class TtsConfiguration {
@@ -20,7 +33,84 @@ public class TtsConfiguration {
 	}
 
 	@Bean
-	public TtsPort ttsPort(WebClient.Builder webClientBuilder, SupertoneConfig config, Voice voice) {
-		return new SupertoneTtsAdapter(webClientBuilder, config, voice);
+	public UpstreamStageMetrics ttsUpstreamMetrics(UpstreamHttpClient supertoneHttpClient) {
+		return new UpstreamStageMetrics(DialoguePipelineStage.TTS_SYNTHESIS, List.of(supertoneHttpClient));
+	}
+
+	@Bean
+	public TtsPort ttsPort(
+		WebClient.Builder webClientBuilder,
+		UpstreamHttpClient supertoneHttpClient,
+		SupertoneConfig config,
+		Voice voice,
+		ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+		ObjectMapper objectMapper,
+		UpstreamStageMetrics ttsUpstreamMetrics,
+		RagDialogueProperties properties) {
+		var supertone = properties.getSupertone();
+		var limiterProperties = supertone.getLimiter();
+		AdaptiveConcurrencyLimiter limiter = limiterProperties.isEnabled()
+			? ttsUpstreamMetrics.register(ConcurrencyLimiters.create("supertone", limiterProperties))
+			: null;
+		var cache = supertone.getCache();
+		OffHeapByteCache audioCache = null;
+		RedisCacheTier<CachingTtsAdapter.CachedAudio> redisTier = null;
+		if (cache.isEnabled()) {
+			audioCache = new OffHeapByteCache(cache.getMaximumBytes(), cache.getMaximumEntryBytes(), cache.getTtl());
+			if (cache.isRedisEnabled()) {
+				redisTier = new RedisCacheTier<>(
+					redisTemplate.getObject(),
+					objectMapper,
+					"rag:tts",
+					CachingTtsAdapter.CachedAudio.class,
+					cache.getRedisTtl(),
+					cache.getRedisTimeout()
+				);
+			}
+		}
+
+		TtsPort primary = voiceRoute(
+			new SupertoneTtsAdapter(supertoneHttpClient.apply(webClientBuilder.clone()), config, voice),
+			voice, limiter, audioCache, redisTier, cache);
+		var breaker = supertone.getCircuitBreaker();
+		if (!breaker.isEnabled()) {
+			return primary;
+		}
+		TtsPort fallback = null;
+		String fallbackVoiceId = supertone.getFallbackVoiceId();
+		if (fallbackVoiceId != null && !fallbackVoiceId.isBlank()) {
+			Voice fallbackVoice = withId(voice, fallbackVoiceId);
+			fallback = voiceRoute(
+				new SupertoneTtsAdapter(supertoneHttpClient.apply(webClientBuilder.clone()), config, fallbackVoice),
+				fallbackVoice, limiter, audioCache, redisTier, cache);
+		}
+		return new CircuitBreakingTtsAdapter(primary, CircuitBreakers.create("supertone", breaker), fallback);
+	}
+
+	private TtsPort voiceRoute(
+		TtsPort tts,
+		Voice voice,
+		AdaptiveConcurrencyLimiter limiter,
+		OffHeapByteCache audioCache,
+		RedisCacheTier<CachingTtsAdapter.CachedAudio> redisTier,
+		RagDialogueProperties.Supertone.Cache cache) {
+		TtsPort route = limiter == null ? tts : new LimitedTtsAdapter(tts, limiter);
+		if (audioCache == null) {
+			return route;
+		}
+		return new CachingTtsAdapter(route, voice, audioCache, redisTier, cache.getChunkSize(),
+			cache.getMaximumEntryBytes());
+	}
+
+	private Voice withId(Voice voice, String id) {
+		return Voice.builder()
+			.id(id)
+			.name(voice.getName())
+			.provider(voice.getProvider())
+			.settings(voice.getSettings())
+			.language(voice.getLanguage())
+			.style(voice.getStyle())
+			.outputFormat(voice.getOutputFormat())
+			.build();
 	}
 }
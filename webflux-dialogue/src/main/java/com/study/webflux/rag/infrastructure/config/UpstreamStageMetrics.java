@@ -0,0 +1,62 @@
+package com.study.webflux.rag.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.study.webflux.rag.application.monitoring.DialoguePipelineStage;
+import com.study.webflux.rag.application.monitoring.UpstreamMetricsSource;
+import com.study.webflux.rag.infrastructure.http.UpstreamHttpClient;
+import com.study.webflux.rag.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+
+public final class UpstreamStageMetrics implements UpstreamMetricsSource {
+
+	private final DialoguePipelineStage stage;
+	private final List<UpstreamHttpClient> httpClients;
+	private final List<AdaptiveConcurrencyLimiter> limiters = new CopyOnWriteArrayList<>();
+
+	UpstreamStageMetrics(DialoguePipelineStage stage, List<UpstreamHttpClient> httpClients) {
+		this.stage = stage;
+		this.httpClients = List.copyOf(httpClients);
+	}
+
+	AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter) {
+		limiters.add(limiter);
+		return limiter;
+	}
+
+	@Override
+	public DialoguePipelineStage stage() {
+		return stage;
+	}
+
+	@Override
+	public Map<String, Object> metrics() {
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		for (AdaptiveConcurrencyLimiter limiter : limiters) {
+			AdaptiveConcurrencyLimiter.LimiterSnapshot snapshot = limiter.snapshot();
+			String prefix = "limiter." + snapshot.upstream() + ".";
+			metrics.put(prefix + "limit", snapshot.limit());
+			metrics.put(prefix + "inFlight", snapshot.inFlight());
+			metrics.put(prefix + "queueDepth", snapshot.queueDepth());
+			metrics.put(prefix + "rejected", snapshot.rejected());
+			metrics.put(prefix + "timeouts", snapshot.timeouts());
+		}
+		for (UpstreamHttpClient httpClient : httpClients) {
+			int acquired = 0;
+			int idle = 0;
+			int pendingAcquire = 0;
+			for (UpstreamHttpClient.PoolSnapshot pool : httpClient.poolSnapshots()) {
+				acquired += pool.acquired();
+				idle += pool.idle();
+				pendingAcquire += pool.pendingAcquire();
+			}
+			String prefix = "pool." + httpClient.name() + ".";
+			metrics.put(prefix + "acquired", acquired);
+			metrics.put(prefix + "idle", idle);
+			metrics.put(prefix + "pendingAcquire", pendingAcquire);
+		}
+		return metrics;
+	}
+}
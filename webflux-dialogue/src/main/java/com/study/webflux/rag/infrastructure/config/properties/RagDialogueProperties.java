@@ -1,5 +1,9 @@
 package com.study.webflux.rag.infrastructure.config.properties;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -10,7 +14,13 @@ import com.study.webflux.rag.infrastructure.config.constants.DialogueConstants;
 public class RagDialogueProperties {
 
 	private OpenAi openai = new OpenAi();
+	private Claude claude = new Claude();
+	private Gemini gemini = new Gemini();
 	private Supertone supertone = new Supertone();
+	private Retrieval retrieval = new Retrieval();
+	private Llm llm = new Llm();
+	private Prompt prompt = new Prompt();
+	private Tts tts = new Tts();
 
 	public OpenAi getOpenai() {
 		return openai;
@@ -20,6 +30,22 @@ public class RagDialogueProperties {
 		this.openai = openai;
 	}
 
+	public Claude getClaude() {
+		return claude;
+	}
+
+	public void setClaude(Claude claude) {
+		this.claude = claude;
+	}
+
+	public Gemini getGemini() {
+		return gemini;
+	}
+
+	public void setGemini(Gemini gemini) {
+		this.gemini = gemini;
+	}
+
 	public Supertone getSupertone() {
 		return supertone;
 	}
@@ -28,10 +54,452 @@ public class RagDialogueProperties {
 		this.supertone = supertone;
 	}
 
+	public Retrieval getRetrieval() {
+		return retrieval;
+	}
+
+	public void setRetrieval(Retrieval retrieval) {
+		this.retrieval = retrieval;
+	}
+
+	public Llm getLlm() {
+		return llm;
+	}
+
+	public void setLlm(Llm llm) {
+		this.llm = llm;
+	}
+
+	public Prompt getPrompt() {
+		return prompt;
+	}
+
+	public void setPrompt(Prompt prompt) {
+		this.prompt = prompt;
+	}
+
+	public Tts getTts() {
+		return tts;
+	}
+
+	public void setTts(Tts tts) {
+		this.tts = tts;
+	}
+
+	public static class Http {
+		private int maxConnections = 50;
+		private int pendingAcquireMaxCount = 500;
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+		private Duration maxIdleTime = Duration.ofSeconds(60);
+		private Duration maxLifeTime = Duration.ofMinutes(10);
+		private Duration evictionInterval = Duration.ofSeconds(30);
+		private Duration connectTimeout = Duration.ofSeconds(3);
+		private boolean keepAlive = true;
+		private String protocol = "h1";
+		private int eventLoopThreads = 2;
+		private int prewarmConnections = 2;
+		private Duration prewarmInterval = Duration.ofSeconds(30);
+		private String prewarmPath = "/";
+
+		public int getMaxConnections() {
+			return maxConnections;
+		}
+
+		public void setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public int getPendingAcquireMaxCount() {
+			return pendingAcquireMaxCount;
+		}
+
+		public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+			this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+		}
+
+		public Duration getPendingAcquireTimeout() {
+			return pendingAcquireTimeout;
+		}
+
+		public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+			this.pendingAcquireTimeout = pendingAcquireTimeout;
+		}
+
+		public Duration getMaxIdleTime() {
+			return maxIdleTime;
+		}
+
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		public Duration getMaxLifeTime() {
+			return maxLifeTime;
+		}
+
+		public void setMaxLifeTime(Duration maxLifeTime) {
+			this.maxLifeTime = maxLifeTime;
+		}
+
+		public Duration getEvictionInterval() {
+			return evictionInterval;
+		}
+
+		public void setEvictionInterval(Duration evictionInterval) {
+			this.evictionInterval = evictionInterval;
+		}
+
+		public Duration getConnectTimeout() {
+			return connectTimeout;
+		}
+
+		public void setConnectTimeout(Duration connectTimeout) {
+			this.connectTimeout = connectTimeout;
+		}
+
+		public boolean isKeepAlive() {
+			return keepAlive;
+		}
+
+		public void setKeepAlive(boolean keepAlive) {
+			this.keepAlive = keepAlive;
+		}
+
+		public String getProtocol() {
+			return protocol;
+		}
+
+		public void setProtocol(String protocol) {
+			this.protocol = protocol;
+		}
+
+		public int getEventLoopThreads() {
+			return eventLoopThreads;
+		}
+
+		public void setEventLoopThreads(int eventLoopThreads) {
+			this.eventLoopThreads = eventLoopThreads;
+		}
+
+		public int getPrewarmConnections() {
+			return prewarmConnections;
+		}
+
+		public void setPrewarmConnections(int prewarmConnections) {
+			this.prewarmConnections = prewarmConnections;
+		}
+
+		public Duration getPrewarmInterval() {
+			return prewarmInterval;
+		}
+
+		public void setPrewarmInterval(Duration prewarmInterval) {
+			this.prewarmInterval = prewarmInterval;
+		}
+
+		public String getPrewarmPath() {
+			return prewarmPath;
+		}
+
+		public void setPrewarmPath(String prewarmPath) {
+			this.prewarmPath = prewarmPath;
+		}
+	}
+
+	public static class Limiter {
+		private boolean enabled = true;
+		private int initialLimit = 16;
+		private int minLimit = 2;
+		private int maxLimit = 128;
+		private double backoffRatio = 0.9;
+		private Duration latencyThreshold = Duration.ofSeconds(3);
+		private int maxQueue = 64;
+		private Duration maxWait = Duration.ofSeconds(2);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getInitialLimit() {
+			return initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinLimit() {
+			return minLimit;
+		}
+
+		public void setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public int getMaxLimit() {
+			return maxLimit;
+		}
+
+		public void setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public double getBackoffRatio() {
+			return backoffRatio;
+		}
+
+		public void setBackoffRatio(double backoffRatio) {
+			this.backoffRatio = backoffRatio;
+		}
+
+		public Duration getLatencyThreshold() {
+			return latencyThreshold;
+		}
+
+		public void setLatencyThreshold(Duration latencyThreshold) {
+			this.latencyThreshold = latencyThreshold;
+		}
+
+		public int getMaxQueue() {
+			return maxQueue;
+		}
+
+		public void setMaxQueue(int maxQueue) {
+			this.maxQueue = maxQueue;
+		}
+
+		public Duration getMaxWait() {
+			return maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+	}
+
+	public static class CircuitBreaker {
+		private boolean enabled = true;
+		private double failureRateThreshold = 0.5;
+		private int slidingWindowSize = 20;
+		private int minimumCalls = 10;
+		private Duration openDuration = Duration.ofSeconds(30);
+		private int halfOpenCalls = 3;
+		private Duration firstResponseTimeout = Duration.ofSeconds(5);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		public void setFailureRateThreshold(double failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+		}
+
+		public int getSlidingWindowSize() {
+			return slidingWindowSize;
+		}
+
+		public void setSlidingWindowSize(int slidingWindowSize) {
+			this.slidingWindowSize = slidingWindowSize;
+		}
+
+		public int getMinimumCalls() {
+			return minimumCalls;
+		}
+
+		public void setMinimumCalls(int minimumCalls) {
+			this.minimumCalls = minimumCalls;
+		}
+
+		public Duration getOpenDuration() {
+			return openDuration;
+		}
+
+		public void setOpenDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+		}
+
+		public int getHalfOpenCalls() {
+			return halfOpenCalls;
+		}
+
+		public void setHalfOpenCalls(int halfOpenCalls) {
+			this.halfOpenCalls = halfOpenCalls;
+		}
+
+		public Duration getFirstResponseTimeout() {
+			return firstResponseTimeout;
+		}
+
+		public void setFirstResponseTimeout(Duration firstResponseTimeout) {
+			this.firstResponseTimeout = firstResponseTimeout;
+		}
+	}
+
 	public static class OpenAi {
 		private String apiKey;
 		private String baseUrl = "https://api.openai.com/v1";
 		private String model = "gpt-4.1-nano";
+		private Http http = new Http();
+		private Limiter limiter = new Limiter();
+		private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+		public String getApiKey() {
+			return apiKey;
+		}
+
+		public void setApiKey(String apiKey) {
+			this.apiKey = apiKey;
+		}
+
+		public String getBaseUrl() {
+			return baseUrl;
+		}
+
+		public void setBaseUrl(String baseUrl) {
+			this.baseUrl = baseUrl;
+		}
+
+		public String getModel() {
+			return model;
+		}
+
+		public void setModel(String model) {
+			this.model = model;
+		}
+
+		public Http getHttp() {
+			return http;
+		}
+
+		public void setHttp(Http http) {
+			this.http = http;
+		}
+
+		public Limiter getLimiter() {
+			return limiter;
+		}
+
+		public void setLimiter(Limiter limiter) {
+			this.limiter = limiter;
+		}
+
+		public CircuitBreaker getCircuitBreaker() {
+			return circuitBreaker;
+		}
+
+		public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+		}
+	}
+
+	public static class Claude {
+		private String apiKey;
+		private String baseUrl = "https://api.anthropic.com";
+		private String model = "claude-3-5-haiku-latest";
+		private int maxTokens = 1024;
+		private String apiVersion = "2023-06-01";
+		private Map<String, String> modelAliases = new LinkedHashMap<>(Map.of(
+			"gpt-4.1-nano", "claude-3-5-haiku-latest",
+			"gpt-4.1-mini", "claude-3-5-sonnet-latest"));
+		private Http http = new Http();
+		private Limiter limiter = new Limiter();
+		private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+		public String getApiKey() {
+			return apiKey;
+		}
+
+		public void setApiKey(String apiKey) {
+			this.apiKey = apiKey;
+		}
+
+		public String getBaseUrl() {
+			return baseUrl;
+		}
+
+		public void setBaseUrl(String baseUrl) {
+			this.baseUrl = baseUrl;
+		}
+
+		public String getModel() {
+			return model;
+		}
+
+		public void setModel(String model) {
+			this.model = model;
+		}
+
+		public int getMaxTokens() {
+			return maxTokens;
+		}
+
+		public void setMaxTokens(int maxTokens) {
+			this.maxTokens = maxTokens;
+		}
+
+		public String getApiVersion() {
+			return apiVersion;
+		}
+
+		public void setApiVersion(String apiVersion) {
+			this.apiVersion = apiVersion;
+		}
+
+		public Map<String, String> getModelAliases() {
+			return modelAliases;
+		}
+
+		public void setModelAliases(Map<String, String> modelAliases) {
+			this.modelAliases = modelAliases;
+		}
+
+		public Http getHttp() {
+			return http;
+		}
+
+		public void setHttp(Http http) {
+			this.http = http;
+		}
+
+		public Limiter getLimiter() {
+			return limiter;
+		}
+
+		public void setLimiter(Limiter limiter) {
+			this.limiter = limiter;
+		}
+
+		public CircuitBreaker getCircuitBreaker() {
+			return circuitBreaker;
+		}
+
+		public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+		}
+	}
+
+	public static class Gemini {
+		private String apiKey;
+		private String baseUrl = "https://generativelanguage.googleapis.com";
+		private String model = "gemini-2.0-flash";
+		private Map<String, String> modelAliases = new LinkedHashMap<>(Map.of(
+			"gpt-4.1-nano", "gemini-2.0-flash-lite",
+			"gpt-4.1-mini", "gemini-2.0-flash"));
+		private Http http = new Http();
+		private Limiter limiter = new Limiter();
+		private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
 		public String getApiKey() {
 			return apiKey;
@@ -56,6 +524,38 @@ public class RagDialogueProperties {
 		public void setModel(String model) {
 			this.model = model;
 		}
+
+		public Map<String, String> getModelAliases() {
+			return modelAliases;
+		}
+
+		public void setModelAliases(Map<String, String> modelAliases) {
+			this.modelAliases = modelAliases;
+		}
+
+		public Http getHttp() {
+			return http;
+		}
+
+		public void setHttp(Http http) {
+			this.http = http;
+		}
+
+		public Limiter getLimiter() {
+			return limiter;
+		}
+
+		public void setLimiter(Limiter limiter) {
+			this.limiter = limiter;
+		}
+
+		public CircuitBreaker getCircuitBreaker() {
+			return circuitBreaker;
+		}
+
+		public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+		}
 	}
 
 	public static class Supertone {
@@ -66,6 +566,11 @@ public class RagDialogueProperties {
 		private String style = DialogueConstants.Supertone.Style.NEUTRAL;
 		private String outputFormat = DialogueConstants.Supertone.OutputFormat.WAV;
 		private VoiceSettings voiceSettings = new VoiceSettings();
+		private String fallbackVoiceId;
+		private Cache cache = new Cache();
+		private Http http = new Http();
+		private Limiter limiter = new Limiter();
+		private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
 		public String getApiKey() {
 			return apiKey;
@@ -123,13 +628,53 @@ public class RagDialogueProperties {
 			this.voiceSettings = voiceSettings;
 		}
 
-		public static class VoiceSettings {
-			private int pitchShift = 0;
-			private double pitchVariance = 1.0;
-			private double speed = 1.1;
+		public Http getHttp() {
+			return http;
+		}
 
-			public int getPitchShift() {
-				return pitchShift;
+		public void setHttp(Http http) {
+			this.http = http;
+		}
+
+		public Limiter getLimiter() {
+			return limiter;
+		}
+
+		public void setLimiter(Limiter limiter) {
+			this.limiter = limiter;
+		}
+
+		public CircuitBreaker getCircuitBreaker() {
+			return circuitBreaker;
+		}
+
+		public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+		}
+
+		public String getFallbackVoiceId() {
+			return fallbackVoiceId;
+		}
+
+		public void setFallbackVoiceId(String fallbackVoiceId) {
+			this.fallbackVoiceId = fallbackVoiceId;
+		}
+
+		public Cache getCache() {
+			return cache;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		public static class VoiceSettings {
+			private int pitchShift = 0;
+			private double pitchVariance = 1.0;
+			private double speed = 1.1;
+
+			public int getPitchShift() {
+				return pitchShift;
 			}
 
 			public void setPitchShift(int pitchShift) {
@@ -152,5 +697,875 @@ public class RagDialogueProperties {
 				this.speed = speed;
 			}
 		}
+
+		public static class Cache {
+			private boolean enabled = true;
+			private long maximumBytes = 64L * 1024 * 1024;
+			private int maximumEntryBytes = 1024 * 1024;
+			private Duration ttl = Duration.ofHours(6);
+			private int chunkSize = 8192;
+			private boolean redisEnabled = false;
+			private Duration redisTtl = Duration.ofHours(24);
+			private Duration redisTimeout = Duration.ofMillis(50);
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public long getMaximumBytes() {
+				return maximumBytes;
+			}
+
+			public void setMaximumBytes(long maximumBytes) {
+				this.maximumBytes = maximumBytes;
+			}
+
+			public int getMaximumEntryBytes() {
+				return maximumEntryBytes;
+			}
+
+			public void setMaximumEntryBytes(int maximumEntryBytes) {
+				this.maximumEntryBytes = maximumEntryBytes;
+			}
+
+			public Duration getTtl() {
+				return ttl;
+			}
+
+			public void setTtl(Duration ttl) {
+				this.ttl = ttl;
+			}
+
+			public int getChunkSize() {
+				return chunkSize;
+			}
+
+			public void setChunkSize(int chunkSize) {
+				this.chunkSize = chunkSize;
+			}
+
+			public boolean isRedisEnabled() {
+				return redisEnabled;
+			}
+
+			public void setRedisEnabled(boolean redisEnabled) {
+				this.redisEnabled = redisEnabled;
+			}
+
+			public Duration getRedisTtl() {
+				return redisTtl;
+			}
+
+			public void setRedisTtl(Duration redisTtl) {
+				this.redisTtl = redisTtl;
+			}
+
+			public Duration getRedisTimeout() {
+				return redisTimeout;
+			}
+
+			public void setRedisTimeout(Duration redisTimeout) {
+				this.redisTimeout = redisTimeout;
+			}
+		}
+	}
+
+	public static class Retrieval {
+		private Bm25 bm25 = new Bm25();
+		private ChangeStream changeStream = new ChangeStream();
+		private Snapshot snapshot = new Snapshot();
+		private Analyzer analyzer = new Analyzer();
+		private Vector vector = new Vector();
+		private Hybrid hybrid = new Hybrid();
+		private Cache cache = new Cache();
+		private int shards = Runtime.getRuntime().availableProcessors();
+		private Duration budget = Duration.ofMillis(300);
+
+		public int getShards() {
+			return shards;
+		}
+
+		public void setShards(int shards) {
+			this.shards = shards;
+		}
+
+		public Duration getBudget() {
+			return budget;
+		}
+
+		public void setBudget(Duration budget) {
+			this.budget = budget;
+		}
+
+		public Bm25 getBm25() {
+			return bm25;
+		}
+
+		public void setBm25(Bm25 bm25) {
+			this.bm25 = bm25;
+		}
+
+		public ChangeStream getChangeStream() {
+			return changeStream;
+		}
+
+		public void setChangeStream(ChangeStream changeStream) {
+			this.changeStream = changeStream;
+		}
+
+		public Snapshot getSnapshot() {
+			return snapshot;
+		}
+
+		public void setSnapshot(Snapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		public Analyzer getAnalyzer() {
+			return analyzer;
+		}
+
+		public void setAnalyzer(Analyzer analyzer) {
+			this.analyzer = analyzer;
+		}
+
+		public Vector getVector() {
+			return vector;
+		}
+
+		public void setVector(Vector vector) {
+			this.vector = vector;
+		}
+
+		public Hybrid getHybrid() {
+			return hybrid;
+		}
+
+		public void setHybrid(Hybrid hybrid) {
+			this.hybrid = hybrid;
+		}
+
+		public Cache getCache() {
+			return cache;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		public static class Bm25 {
+			private float k1 = 1.2f;
+			private float b = 0.75f;
+
+			public float getK1() {
+				return k1;
+			}
+
+			public void setK1(float k1) {
+				this.k1 = k1;
+			}
+
+			public float getB() {
+				return b;
+			}
+
+			public void setB(float b) {
+				this.b = b;
+			}
+		}
+
+		public static class ChangeStream {
+			private boolean enabled = false;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+		}
+
+		public static class Snapshot {
+			private boolean enabled = false;
+			private String directory = "data/retrieval-index";
+			private Duration interval = Duration.ofMinutes(10);
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getDirectory() {
+				return directory;
+			}
+
+			public void setDirectory(String directory) {
+				this.directory = directory;
+			}
+
+			public Duration getInterval() {
+				return interval;
+			}
+
+			public void setInterval(Duration interval) {
+				this.interval = interval;
+			}
+		}
+
+		public static class Analyzer {
+			private boolean lowerCase = true;
+			private boolean koreanSuffix = true;
+			private int ngramMin = 2;
+			private int ngramMax = 2;
+
+			public boolean isLowerCase() {
+				return lowerCase;
+			}
+
+			public void setLowerCase(boolean lowerCase) {
+				this.lowerCase = lowerCase;
+			}
+
+			public boolean isKoreanSuffix() {
+				return koreanSuffix;
+			}
+
+			public void setKoreanSuffix(boolean koreanSuffix) {
+				this.koreanSuffix = koreanSuffix;
+			}
+
+			public int getNgramMin() {
+				return ngramMin;
+			}
+
+			public void setNgramMin(int ngramMin) {
+				this.ngramMin = ngramMin;
+			}
+
+			public int getNgramMax() {
+				return ngramMax;
+			}
+
+			public void setNgramMax(int ngramMax) {
+				this.ngramMax = ngramMax;
+			}
+		}
+
+		public static class Vector {
+			private boolean enabled = false;
+			private String embeddingProvider = "hashing";
+			private String embeddingModel = "text-embedding-3-small";
+			private int dimensions = 256;
+			private int maxLinks = 16;
+			private int efConstruction = 100;
+			private int efSearch = 64;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getEmbeddingProvider() {
+				return embeddingProvider;
+			}
+
+			public void setEmbeddingProvider(String embeddingProvider) {
+				this.embeddingProvider = embeddingProvider;
+			}
+
+			public String getEmbeddingModel() {
+				return embeddingModel;
+			}
+
+			public void setEmbeddingModel(String embeddingModel) {
+				this.embeddingModel = embeddingModel;
+			}
+
+			public int getDimensions() {
+				return dimensions;
+			}
+
+			public void setDimensions(int dimensions) {
+				this.dimensions = dimensions;
+			}
+
+			public int getMaxLinks() {
+				return maxLinks;
+			}
+
+			public void setMaxLinks(int maxLinks) {
+				this.maxLinks = maxLinks;
+			}
+
+			public int getEfConstruction() {
+				return efConstruction;
+			}
+
+			public void setEfConstruction(int efConstruction) {
+				this.efConstruction = efConstruction;
+			}
+
+			public int getEfSearch() {
+				return efSearch;
+			}
+
+			public void setEfSearch(int efSearch) {
+				this.efSearch = efSearch;
+			}
+		}
+
+		public static class Hybrid {
+			private Duration deadline = Duration.ofMillis(200);
+			private int rankConstant = 60;
+			private int candidates = 10;
+
+			public Duration getDeadline() {
+				return deadline;
+			}
+
+			public void setDeadline(Duration deadline) {
+				this.deadline = deadline;
+			}
+
+			public int getRankConstant() {
+				return rankConstant;
+			}
+
+			public void setRankConstant(int rankConstant) {
+				this.rankConstant = rankConstant;
+			}
+
+			public int getCandidates() {
+				return candidates;
+			}
+
+			public void setCandidates(int candidates) {
+				this.candidates = candidates;
+			}
+		}
+
+		public static class Cache {
+			private int maximumSize = 1000;
+			private Duration ttl = Duration.ofMinutes(5);
+			private boolean redisEnabled = false;
+			private Duration redisTtl = Duration.ofMinutes(10);
+			private Duration redisTimeout = Duration.ofMillis(50);
+			private Duration maxStaleness = Duration.ofSeconds(10);
+			private Duration generationRefresh = Duration.ofSeconds(1);
+
+			public int getMaximumSize() {
+				return maximumSize;
+			}
+
+			public void setMaximumSize(int maximumSize) {
+				this.maximumSize = maximumSize;
+			}
+
+			public Duration getTtl() {
+				return ttl;
+			}
+
+			public void setTtl(Duration ttl) {
+				this.ttl = ttl;
+			}
+
+			public boolean isRedisEnabled() {
+				return redisEnabled;
+			}
+
+			public void setRedisEnabled(boolean redisEnabled) {
+				this.redisEnabled = redisEnabled;
+			}
+
+			public Duration getRedisTtl() {
+				return redisTtl;
+			}
+
+			public void setRedisTtl(Duration redisTtl) {
+				this.redisTtl = redisTtl;
+			}
+
+			public Duration getRedisTimeout() {
+				return redisTimeout;
+			}
+
+			public void setRedisTimeout(Duration redisTimeout) {
+				this.redisTimeout = redisTimeout;
+			}
+
+			public Duration getMaxStaleness() {
+				return maxStaleness;
+			}
+
+			public void setMaxStaleness(Duration maxStaleness) {
+				this.maxStaleness = maxStaleness;
+			}
+
+			public Duration getGenerationRefresh() {
+				return generationRefresh;
+			}
+
+			public void setGenerationRefresh(Duration generationRefresh) {
+				this.generationRefresh = generationRefresh;
+			}
+		}
+	}
+
+	public static class Llm {
+		private Cache cache = new Cache();
+		private Coalescing coalescing = new Coalescing();
+		private Hedging hedging = new Hedging();
+		private Fallback fallback = new Fallback();
+		private Routing routing = new Routing();
+
+		public Cache getCache() {
+			return cache;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		public Coalescing getCoalescing() {
+			return coalescing;
+		}
+
+		public void setCoalescing(Coalescing coalescing) {
+			this.coalescing = coalescing;
+		}
+
+		public Hedging getHedging() {
+			return hedging;
+		}
+
+		public void setHedging(Hedging hedging) {
+			this.hedging = hedging;
+		}
+
+		public Fallback getFallback() {
+			return fallback;
+		}
+
+		public void setFallback(Fallback fallback) {
+			this.fallback = fallback;
+		}
+
+		public Routing getRouting() {
+			return routing;
+		}
+
+		public void setRouting(Routing routing) {
+			this.routing = routing;
+		}
+
+		public static class Routing {
+			private boolean enabled = true;
+			private String fastModel = "gpt-4.1-nano";
+			private String strongModel = "gpt-4.1-mini";
+			private int simpleQueryChars = 20;
+			private int complexQueryChars = 120;
+			private Duration maxTtft = Duration.ofMillis(1500);
+			private double minTokensPerSecond = 10;
+			private int minSamples = 10;
+			private int probeEvery = 20;
+			private double minTopScoreShare = 0.35;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getFastModel() {
+				return fastModel;
+			}
+
+			public void setFastModel(String fastModel) {
+				this.fastModel = fastModel;
+			}
+
+			public String getStrongModel() {
+				return strongModel;
+			}
+
+			public void setStrongModel(String strongModel) {
+				this.strongModel = strongModel;
+			}
+
+			public int getSimpleQueryChars() {
+				return simpleQueryChars;
+			}
+
+			public void setSimpleQueryChars(int simpleQueryChars) {
+				this.simpleQueryChars = simpleQueryChars;
+			}
+
+			public int getComplexQueryChars() {
+				return complexQueryChars;
+			}
+
+			public void setComplexQueryChars(int complexQueryChars) {
+				this.complexQueryChars = complexQueryChars;
+			}
+
+			public Duration getMaxTtft() {
+				return maxTtft;
+			}
+
+			public void setMaxTtft(Duration maxTtft) {
+				this.maxTtft = maxTtft;
+			}
+
+			public double getMinTokensPerSecond() {
+				return minTokensPerSecond;
+			}
+
+			public void setMinTokensPerSecond(double minTokensPerSecond) {
+				this.minTokensPerSecond = minTokensPerSecond;
+			}
+
+			public int getMinSamples() {
+				return minSamples;
+			}
+
+			public void setMinSamples(int minSamples) {
+				this.minSamples = minSamples;
+			}
+
+			public int getProbeEvery() {
+				return probeEvery;
+			}
+
+			public void setProbeEvery(int probeEvery) {
+				this.probeEvery = probeEvery;
+			}
+
+			public double getMinTopScoreShare() {
+				return minTopScoreShare;
+			}
+
+			public void setMinTopScoreShare(double minTopScoreShare) {
+				this.minTopScoreShare = minTopScoreShare;
+			}
+		}
+
+		public static class Fallback {
+			private String provider = "openai";
+			private String model = "gpt-4.1-nano";
+
+			public String getProvider() {
+				return provider;
+			}
+
+			public void setProvider(String provider) {
+				this.provider = provider;
+			}
+
+			public String getModel() {
+				return model;
+			}
+
+			public void setModel(String model) {
+				this.model = model;
+			}
+		}
+
+		public static class Coalescing {
+			private boolean enabled = true;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+		}
+
+		public static class Hedging {
+			private boolean enabled = false;
+			private String primary = "openai";
+			private String secondary = "claude";
+			private double percentile = 0.9;
+			private Duration initialDelay = Duration.ofMillis(800);
+			private Duration minDelay = Duration.ofMillis(100);
+			private Duration maxDelay = Duration.ofSeconds(2);
+			private int sampleWindow = 200;
+			private int minSamples = 20;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getPrimary() {
+				return primary;
+			}
+
+			public void setPrimary(String primary) {
+				this.primary = primary;
+			}
+
+			public String getSecondary() {
+				return secondary;
+			}
+
+			public void setSecondary(String secondary) {
+				this.secondary = secondary;
+			}
+
+			public double getPercentile() {
+				return percentile;
+			}
+
+			public void setPercentile(double percentile) {
+				this.percentile = percentile;
+			}
+
+			public Duration getInitialDelay() {
+				return initialDelay;
+			}
+
+			public void setInitialDelay(Duration initialDelay) {
+				this.initialDelay = initialDelay;
+			}
+
+			public Duration getMinDelay() {
+				return minDelay;
+			}
+
+			public void setMinDelay(Duration minDelay) {
+				this.minDelay = minDelay;
+			}
+
+			public Duration getMaxDelay() {
+				return maxDelay;
+			}
+
+			public void setMaxDelay(Duration maxDelay) {
+				this.maxDelay = maxDelay;
+			}
+
+			public int getSampleWindow() {
+				return sampleWindow;
+			}
+
+			public void setSampleWindow(int sampleWindow) {
+				this.sampleWindow = sampleWindow;
+			}
+
+			public int getMinSamples() {
+				return minSamples;
+			}
+
+			public void setMinSamples(int minSamples) {
+				this.minSamples = minSamples;
+			}
+		}
+
+		public static class Cache {
+			private boolean enabled = true;
+			private int maximumSize = 500;
+			private Duration ttl = Duration.ofMinutes(30);
+			private boolean redisEnabled = false;
+			private Duration redisTtl = Duration.ofHours(6);
+			private Duration redisTimeout = Duration.ofMillis(50);
+			private boolean replayPacing = false;
+			private double replayPacingScale = 1.0;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getMaximumSize() {
+				return maximumSize;
+			}
+
+			public void setMaximumSize(int maximumSize) {
+				this.maximumSize = maximumSize;
+			}
+
+			public Duration getTtl() {
+				return ttl;
+			}
+
+			public void setTtl(Duration ttl) {
+				this.ttl = ttl;
+			}
+
+			public boolean isRedisEnabled() {
+				return redisEnabled;
+			}
+
+			public void setRedisEnabled(boolean redisEnabled) {
+				this.redisEnabled = redisEnabled;
+			}
+
+			public Duration getRedisTtl() {
+				return redisTtl;
+			}
+
+			public void setRedisTtl(Duration redisTtl) {
+				this.redisTtl = redisTtl;
+			}
+
+			public Duration getRedisTimeout() {
+				return redisTimeout;
+			}
+
+			public void setRedisTimeout(Duration redisTimeout) {
+				this.redisTimeout = redisTimeout;
+			}
+
+			public boolean isReplayPacing() {
+				return replayPacing;
+			}
+
+			public void setReplayPacing(boolean replayPacing) {
+				this.replayPacing = replayPacing;
+			}
+
+			public double getReplayPacingScale() {
+				return replayPacingScale;
+			}
+
+			public void setReplayPacingScale(double replayPacingScale) {
+				this.replayPacingScale = replayPacingScale;
+			}
+		}
+	}
+
+	public static class Prompt {
+		private String encoding = "o200k_base";
+		private int tokenBudget = 3000;
+		private int messageOverhead = 4;
+		private int minDocumentTokens = 32;
+
+		public String getEncoding() {
+			return encoding;
+		}
+
+		public void setEncoding(String encoding) {
+			this.encoding = encoding;
+		}
+
+		public int getTokenBudget() {
+			return tokenBudget;
+		}
+
+		public void setTokenBudget(int tokenBudget) {
+			this.tokenBudget = tokenBudget;
+		}
+
+		public int getMessageOverhead() {
+			return messageOverhead;
+		}
+
+		public void setMessageOverhead(int messageOverhead) {
+			this.messageOverhead = messageOverhead;
+		}
+
+		public int getMinDocumentTokens() {
+			return minDocumentTokens;
+		}
+
+		public void setMinDocumentTokens(int minDocumentTokens) {
+			this.minDocumentTokens = minDocumentTokens;
+		}
+	}
+
+	public static class Tts {
+		private int minLookahead = 1;
+		private int maxLookahead = 4;
+		private Duration lookaheadTarget = Duration.ofMillis(400);
+		private int frameBytes = 8192;
+		private Duration frameMaxLatency = Duration.ofMillis(40);
+		private boolean plannerEnabled = true;
+		private int minRequestChars = 30;
+		private int maxRequestChars = 120;
+
+		public int getMinLookahead() {
+			return minLookahead;
+		}
+
+		public void setMinLookahead(int minLookahead) {
+			this.minLookahead = minLookahead;
+		}
+
+		public int getMaxLookahead() {
+			return maxLookahead;
+		}
+
+		public void setMaxLookahead(int maxLookahead) {
+			this.maxLookahead = maxLookahead;
+		}
+
+		public Duration getLookaheadTarget() {
+			return lookaheadTarget;
+		}
+
+		public void setLookaheadTarget(Duration lookaheadTarget) {
+			this.lookaheadTarget = lookaheadTarget;
+		}
+
+		public int getFrameBytes() {
+			return frameBytes;
+		}
+
+		public void setFrameBytes(int frameBytes) {
+			this.frameBytes = frameBytes;
+		}
+
+		public Duration getFrameMaxLatency() {
+			return frameMaxLatency;
+		}
+
+		public void setFrameMaxLatency(Duration frameMaxLatency) {
+			this.frameMaxLatency = frameMaxLatency;
+		}
+
+		public boolean isPlannerEnabled() {
+			return plannerEnabled;
+		}
+
+		public void setPlannerEnabled(boolean plannerEnabled) {
+			this.plannerEnabled = plannerEnabled;
+		}
+
+		public int getMinRequestChars() {
+			return minRequestChars;
+		}
+
+		public void setMinRequestChars(int minRequestChars) {
+			this.minRequestChars = minRequestChars;
+		}
+
+		public int getMaxRequestChars() {
+			return maxRequestChars;
+		}
+
+		public void setMaxRequestChars(int maxRequestChars) {
+			this.maxRequestChars = maxRequestChars;
+		}
 	}
 }
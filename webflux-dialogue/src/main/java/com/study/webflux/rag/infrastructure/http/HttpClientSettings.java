@@ -0,0 +1,20 @@
+package com.study.webflux.rag.infrastructure.http;
+
+import java.time.Duration;
+
+public record HttpClientSettings(
+	int maxConnections,
+	int pendingAcquireMaxCount,
+	Duration pendingAcquireTimeout,
+	Duration maxIdleTime,
+	Duration maxLifeTime,
+	Duration evictionInterval,
+	Duration connectTimeout,
+	boolean keepAlive,
+	boolean http2,
+	int eventLoopThreads,
+	int prewarmConnections,
+	Duration prewarmInterval,
+	String prewarmPath
+) {
+}
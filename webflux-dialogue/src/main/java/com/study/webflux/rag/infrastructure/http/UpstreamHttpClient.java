@@ -0,0 +1,162 @@
+package com.study.webflux.rag.infrastructure.http;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+public class UpstreamHttpClient implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(UpstreamHttpClient.class);
+
+	private final String name;
+	private final String baseUrl;
+	private final HttpClientSettings settings;
+	private final ConnectionProvider connectionProvider;
+	private final LoopResources loopResources;
+	private final HttpClient httpClient;
+	private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+	private final AtomicReference<Disposable> prewarming = new AtomicReference<>();
+
+	public UpstreamHttpClient(String name, String baseUrl, HttpClientSettings settings) {
+		this.name = name;
+		this.baseUrl = baseUrl;
+		this.settings = settings;
+		this.connectionProvider = ConnectionProvider.builder(name)
+			.maxConnections(settings.maxConnections())
+			.pendingAcquireMaxCount(settings.pendingAcquireMaxCount())
+			.pendingAcquireTimeout(settings.pendingAcquireTimeout())
+			.maxIdleTime(settings.maxIdleTime())
+			.maxLifeTime(settings.maxLifeTime())
+			.evictInBackground(settings.evictionInterval())
+			.metrics(true, PoolRegistrar::new)
+			.build();
+		this.loopResources = LoopResources.create(name, settings.eventLoopThreads(), true);
+		this.httpClient = configure(HttpClient.create(connectionProvider).runOn(loopResources));
+	}
+
+	public WebClient.Builder apply(WebClient.Builder builder) {
+		return builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+	}
+
+	public void startPrewarming() {
+		Disposable.Swap slot = Disposables.swap();
+		if (settings.prewarmConnections() <= 0 || !prewarming.compareAndSet(null, slot)) {
+			return;
+		}
+		WebClient webClient = apply(WebClient.builder()).baseUrl(baseUrl).build();
+		int connections = settings.http2() ? 1 : settings.prewarmConnections();
+		slot.update(Flux.interval(Duration.ZERO, settings.prewarmInterval())
+			.onBackpressureDrop()
+			.concatMap(tick -> Flux.range(0, connections)
+				.flatMap(i -> warm(webClient), connections)
+				.then()
+				.doOnSuccess(ignored -> {
+					if (log.isDebugEnabled()) {
+						log.debug("Upstream {} pool after prewarm: {}", name, poolSnapshots());
+					}
+				}))
+			.subscribe());
+	}
+
+	public List<PoolSnapshot> poolSnapshots() {
+		return pools.entrySet().stream()
+			.map(entry -> PoolSnapshot.of(name, entry.getKey(), entry.getValue()))
+			.toList();
+	}
+
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public void close() {
+		Disposable current = prewarming.get();
+		if (current != null) {
+			current.dispose();
+		}
+		connectionProvider.dispose();
+		loopResources.dispose();
+	}
+
+	private HttpClient configure(HttpClient client) {
+		HttpClient configured = client
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)settings.connectTimeout().toMillis())
+			.option(ChannelOption.SO_KEEPALIVE, settings.keepAlive())
+			.keepAlive(settings.keepAlive());
+		if (!settings.http2()) {
+			return configured.protocol(HttpProtocol.HTTP11);
+		}
+		if (baseUrl.startsWith("https")) {
+			return configured.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+		}
+		return configured.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+	}
+
+	private Mono<Void> warm(WebClient webClient) {
+		return webClient.method(HttpMethod.HEAD)
+			.uri(settings.prewarmPath())
+			.exchangeToMono(response -> response.releaseBody())
+			.timeout(settings.connectTimeout().plusSeconds(1))
+			.onErrorResume(error -> {
+				log.debug("Upstream {} prewarm failed", name, error);
+				return Mono.empty();
+			});
+	}
+
+	private final class PoolRegistrar implements ConnectionProvider.MeterRegistrar {
+
+		@Override
+		public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+			pools.put(String.valueOf(remoteAddress), metrics);
+		}
+
+		@Override
+		public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+			pools.remove(String.valueOf(remoteAddress));
+		}
+	}
+
+	public record PoolSnapshot(
+		String upstream,
+		String remoteAddress,
+		int acquired,
+		int idle,
+		int allocated,
+		int pendingAcquire,
+		int maxAllocated,
+		int maxPendingAcquire
+	) {
+		static PoolSnapshot of(String upstream, String remoteAddress, ConnectionPoolMetrics metrics) {
+			return new PoolSnapshot(
+				upstream,
+				remoteAddress,
+				metrics.acquiredSize(),
+				metrics.idleSize(),
+				metrics.allocatedSize(),
+				metrics.pendingAcquireSize(),
+				metrics.maxAllocatedSize(),
+				metrics.maxPendingAcquireSize()
+			);
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.study.webflux.rag.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+public class AdaptiveConcurrencyLimiter {
+
+	private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+	private final String name;
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+	private final int maxQueue;
+	private final Duration maxWait;
+	private final Deque<Waiter> waiters = new ArrayDeque<>();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private double limit;
+	private int inFlight;
+
+	public AdaptiveConcurrencyLimiter(
+		String name,
+		int initialLimit,
+		int minLimit,
+		int maxLimit,
+		double backoffRatio,
+		Duration latencyThreshold,
+		int maxQueue,
+		Duration maxWait) {
+		if (minLimit < 1 || maxLimit < minLimit) {
+			throw new IllegalArgumentException("Invalid limit range: " + minLimit + ".." + maxLimit);
+		}
+		if (backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+		}
+		this.name = name;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.maxQueue = Math.max(0, maxQueue);
+		this.maxWait = maxWait;
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	public <T> Flux<T> execute(Supplier<? extends Flux<T>> call) {
+		return acquire().flatMapMany(permit -> {
+			long startedAt = System.nanoTime();
+			AtomicBoolean first = new AtomicBoolean();
+			return Flux.defer(call)
+				.doOnNext(value -> {
+					if (first.compareAndSet(false, true)) {
+						permit.latencyNanos = System.nanoTime() - startedAt;
+					}
+				})
+				.doOnComplete(() -> {
+					if (first.compareAndSet(false, true)) {
+						permit.latencyNanos = System.nanoTime() - startedAt;
+					}
+				})
+				.doOnError(error -> {
+					if (isOverload(error)) {
+						permit.dropped = true;
+					}
+					else {
+						permit.ignored = true;
+					}
+				})
+				.doFinally(signal -> permit.release());
+		});
+	}
+
+	public synchronized LimiterSnapshot snapshot() {
+		return new LimiterSnapshot(name, (int)limit, inFlight, waiters.size(), rejected.sum(), timeouts.sum());
+	}
+
+	public String name() {
+		return name;
+	}
+
+	Mono<Permit> acquire() {
+		return Mono.<Permit>create(this::enqueue)
+			.timeout(maxWait, Mono.defer(() -> {
+				timeouts.increment();
+				return Mono.error(new LimitExceededException(name + " limiter wait exceeded " + maxWait));
+			}))
+			.doOnDiscard(Permit.class, Permit::release);
+	}
+
+	private void enqueue(MonoSink<Permit> sink) {
+		Waiter waiter = new Waiter(sink);
+		sink.onCancel(() -> cancel(waiter));
+		boolean granted;
+		synchronized (this) {
+			granted = waiters.isEmpty() && inFlight < (int)limit;
+			if (granted) {
+				inFlight++;
+			}
+			else if (waiters.size() < maxQueue) {
+				waiters.addLast(waiter);
+			}
+			else {
+				rejected.increment();
+				sink.error(new LimitExceededException(name + " limiter queue is full (" + maxQueue + ")"));
+				return;
+			}
+		}
+		if (granted) {
+			sink.success(new Permit());
+		}
+	}
+
+	private synchronized void cancel(Waiter waiter) {
+		waiters.remove(waiter);
+	}
+
+	private void onRelease(Permit permit) {
+		List<Waiter> granted = new ArrayList<>();
+		int previous;
+		int current;
+		synchronized (this) {
+			inFlight--;
+			previous = (int)limit;
+			if (permit.dropped || permit.latencyNanos > latencyThresholdNanos) {
+				limit = Math.max(minLimit, limit * backoffRatio);
+			}
+			else if (!permit.ignored && permit.latencyNanos >= 0 && (inFlight + 1) * 2 >= limit) {
+				limit = Math.min(maxLimit, limit + 1);
+			}
+			current = (int)limit;
+			while (inFlight < current && !waiters.isEmpty()) {
+				granted.add(waiters.pollFirst());
+				inFlight++;
+			}
+		}
+		if (previous != current && log.isDebugEnabled()) {
+			log.debug("Upstream {} concurrency limit {} -> {}: {}", name, previous, current, snapshot());
+		}
+		for (Waiter waiter : granted) {
+			waiter.sink.success(new Permit());
+		}
+	}
+
+	private static boolean isOverload(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException) {
+				return true;
+			}
+			if (cause instanceof WebClientResponseException response) {
+				int status = response.getStatusCode().value();
+				return status >= 500 || status == 408 || status == 429;
+			}
+		}
+		return false;
+	}
+
+	final class Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+		private volatile long latencyNanos = -1;
+		private volatile boolean dropped;
+		private volatile boolean ignored;
+
+		void release() {
+			if (released.compareAndSet(false, true)) {
+				onRelease(this);
+			}
+		}
+	}
+
+	private record Waiter(MonoSink<Permit> sink) {
+	}
+
+	public record LimiterSnapshot(
+		String upstream,
+		int limit,
+		int inFlight,
+		int queueDepth,
+		long rejected,
+		long timeouts
+	) {
+	}
+}
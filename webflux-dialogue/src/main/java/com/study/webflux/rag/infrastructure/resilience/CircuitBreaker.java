@@ -0,0 +1,226 @@
+package com.study.webflux.rag.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	private final String name;
+	private final double failureRateThreshold;
+	private final int minimumCalls;
+	private final long openDurationNanos;
+	private final int halfOpenCalls;
+	private final Duration firstResponseTimeout;
+	private final LongSupplier clock;
+	private final boolean[] outcomes;
+	private final LongAdder shortCircuited = new LongAdder();
+	private final LongAdder fallbacks = new LongAdder();
+	private int position;
+	private int recorded;
+	private int failures;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int probesInFlight;
+	private int probeSuccesses;
+
+	public CircuitBreaker(
+		String name,
+		double failureRateThreshold,
+		int slidingWindowSize,
+		int minimumCalls,
+		Duration openDuration,
+		int halfOpenCalls,
+		Duration firstResponseTimeout) {
+		this(name, failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls,
+			firstResponseTimeout, System::nanoTime);
+	}
+
+	CircuitBreaker(
+		String name,
+		double failureRateThreshold,
+		int slidingWindowSize,
+		int minimumCalls,
+		Duration openDuration,
+		int halfOpenCalls,
+		Duration firstResponseTimeout,
+		LongSupplier clock) {
+		if (slidingWindowSize < 1 || halfOpenCalls < 1) {
+			throw new IllegalArgumentException("slidingWindowSize and halfOpenCalls must be positive");
+		}
+		this.name = name;
+		this.failureRateThreshold = failureRateThreshold;
+		this.minimumCalls = Math.max(1, Math.min(minimumCalls, slidingWindowSize));
+		this.openDurationNanos = openDuration.toNanos();
+		this.halfOpenCalls = halfOpenCalls;
+		this.firstResponseTimeout = firstResponseTimeout;
+		this.clock = clock;
+		this.outcomes = new boolean[slidingWindowSize];
+	}
+
+	public <T> Flux<T> execute(Supplier<? extends Flux<T>> call, Supplier<? extends Flux<T>> fallback) {
+		return Flux.defer(() -> {
+			State acquired = tryAcquire();
+			if (acquired == null) {
+				shortCircuited.increment();
+				return fallback.get();
+			}
+			AtomicBoolean emitted = new AtomicBoolean();
+			return Flux.defer(call)
+				.timeout(Mono.delay(firstResponseTimeout), item -> Mono.never())
+				.doOnNext(item -> emitted.set(true))
+				.doOnComplete(() -> onSuccess(acquired))
+				.doOnError(error -> onError(acquired, error))
+				.doOnCancel(() -> onIgnored(acquired))
+				.onErrorResume(error -> !emitted.get(), error -> {
+					fallbacks.increment();
+					log.debug("Upstream {} failed before first response, using fallback", name, error);
+					return fallback.get();
+				});
+		});
+	}
+
+	public synchronized State state() {
+		if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationNanos) {
+			return State.HALF_OPEN;
+		}
+		return state;
+	}
+
+	public synchronized BreakerSnapshot snapshot() {
+		double failureRate = recorded == 0 ? 0.0 : (double)failures / recorded;
+		return new BreakerSnapshot(name, state(), failureRate, recorded, shortCircuited.sum(), fallbacks.sum());
+	}
+
+	public String name() {
+		return name;
+	}
+
+	synchronized State tryAcquire() {
+		if (state == State.OPEN) {
+			if (clock.getAsLong() - openedAt < openDurationNanos) {
+				return null;
+			}
+			transition(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (probesInFlight >= halfOpenCalls) {
+				return null;
+			}
+			probesInFlight++;
+		}
+		return state;
+	}
+
+	private void onError(State acquired, Throwable error) {
+		if (isCallerError(error)) {
+			onIgnored(acquired);
+			return;
+		}
+		onFailure(acquired);
+	}
+
+	private synchronized void onSuccess(State acquired) {
+		if (acquired == State.HALF_OPEN) {
+			if (state != State.HALF_OPEN) {
+				return;
+			}
+			probesInFlight--;
+			if (++probeSuccesses >= halfOpenCalls) {
+				transition(State.CLOSED);
+			}
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	private synchronized void onFailure(State acquired) {
+		if (acquired == State.HALF_OPEN) {
+			if (state == State.HALF_OPEN) {
+				transition(State.OPEN);
+			}
+			return;
+		}
+		if (state != State.CLOSED) {
+			return;
+		}
+		record(true);
+		if (recorded >= minimumCalls && (double)failures / recorded >= failureRateThreshold) {
+			transition(State.OPEN);
+		}
+	}
+
+	private synchronized void onIgnored(State acquired) {
+		if (acquired == State.HALF_OPEN && state == State.HALF_OPEN) {
+			probesInFlight--;
+		}
+	}
+
+	private void record(boolean failure) {
+		if (recorded == outcomes.length) {
+			if (outcomes[position]) {
+				failures--;
+			}
+		}
+		else {
+			recorded++;
+		}
+		outcomes[position] = failure;
+		if (failure) {
+			failures++;
+		}
+		position = (position + 1) % outcomes.length;
+	}
+
+	private void transition(State next) {
+		log.info("Upstream {} circuit {} -> {}", name, state, next);
+		state = next;
+		probesInFlight = 0;
+		probeSuccesses = 0;
+		if (next == State.OPEN) {
+			openedAt = clock.getAsLong();
+		}
+		if (next == State.CLOSED) {
+			position = 0;
+			recorded = 0;
+			failures = 0;
+		}
+	}
+
+	private boolean isCallerError(Throwable error) {
+		if (error instanceof WebClientResponseException response) {
+			int status = response.getStatusCode().value();
+			return status >= 400 && status < 500 && status != 408 && status != 429;
+		}
+		return false;
+	}
+
+	public enum State {
+		CLOSED,
+		OPEN,
+		HALF_OPEN
+	}
+
+	public record BreakerSnapshot(
+		String upstream,
+		State state,
+		double failureRate,
+		int recordedCalls,
+		long shortCircuited,
+		long fallbacks
+	) {
+	}
+}
@@ -0,0 +1,8 @@
+package com.study.webflux.rag.infrastructure.resilience;
+
+public class LimitExceededException extends RuntimeException {
+
+	public LimitExceededException(String message) {
+		super(message);
+	}
+}
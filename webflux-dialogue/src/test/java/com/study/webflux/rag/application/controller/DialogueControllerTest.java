@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
@@ -54,8 +55,8 @@ class DialogueControllerTest {
 
 		byte[] audioBytes = "wav-audio-data".getBytes();
 
-		when(dialoguePipelineUseCase.executeAudioStreaming(eq(testText)))
-			.thenReturn(Flux.just(audioBytes));
+		when(dialoguePipelineUseCase.executeAudioBufferStreaming(eq(testText)))
+			.thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(audioBytes)));
 
 		webTestClient.post()
 			.uri("/rag/dialogue/audio/wav")
@@ -63,9 +64,10 @@ class DialogueControllerTest {
 			.bodyValue(request)
 			.exchange()
 			.expectStatus().isOk()
-			.expectHeader().contentType("audio/wav");
+			.expectHeader().contentType("audio/wav")
+			.expectBody(byte[].class).isEqualTo(audioBytes);
 
-		verify(dialoguePipelineUseCase).executeAudioStreaming(testText);
+		verify(dialoguePipelineUseCase).executeAudioBufferStreaming(testText);
 	}
 
 	@Test
@@ -75,8 +77,8 @@ class DialogueControllerTest {
 
 		byte[] audioBytes = "mp3-audio-data".getBytes();
 
-		when(dialoguePipelineUseCase.executeAudioStreaming(eq(testText)))
-			.thenReturn(Flux.just(audioBytes));
+		when(dialoguePipelineUseCase.executeAudioBufferStreaming(eq(testText)))
+			.thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(audioBytes)));
 
 		webTestClient.post()
 			.uri("/rag/dialogue/audio/mp3")
@@ -84,9 +86,10 @@ class DialogueControllerTest {
 			.bodyValue(request)
 			.exchange()
 			.expectStatus().isOk()
-			.expectHeader().contentType("audio/mpeg");
+			.expectHeader().contentType("audio/mpeg")
+			.expectBody(byte[].class).isEqualTo(audioBytes);
 
-		verify(dialoguePipelineUseCase).executeAudioStreaming(testText);
+		verify(dialoguePipelineUseCase).executeAudioBufferStreaming(testText);
 	}
 
 	@Test
@@ -96,8 +99,8 @@ class DialogueControllerTest {
 
 		byte[] audioBytes = "default-audio".getBytes();
 
-		when(dialoguePipelineUseCase.executeAudioStreaming(eq(testText)))
-			.thenReturn(Flux.just(audioBytes));
+		when(dialoguePipelineUseCase.executeAudioBufferStreaming(eq(testText)))
+			.thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(audioBytes)));
 
 		webTestClient.post()
 			.uri("/rag/dialogue/audio")
@@ -105,9 +108,10 @@ class DialogueControllerTest {
 			.bodyValue(request)
 			.exchange()
 			.expectStatus().isOk()
-			.expectHeader().contentType("audio/wav");
+			.expectHeader().contentType("audio/wav")
+			.expectBody(byte[].class).isEqualTo(audioBytes);
 
-		verify(dialoguePipelineUseCase).executeAudioStreaming(testText);
+		verify(dialoguePipelineUseCase).executeAudioBufferStreaming(testText);
 	}
 
 	@Test
@@ -0,0 +1,58 @@
+package com.study.webflux.rag.application.monitoring;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class DialoguePipelineTrackerTest {
+
+	@Test
+	void traceFlux_shouldRecordUpstreamMetricsOnMatchingStage() {
+		AtomicReference<DialoguePipelineTracker.PipelineSummary> summary = new AtomicReference<>();
+		DialoguePipelineTracker tracker = new DialoguePipelineTracker("안녕", summary::set, Clock.systemUTC(),
+			List.of(source(DialoguePipelineStage.LLM_COMPLETION, Map.of("limiter.openai.limit", 8))));
+
+		Flux<String> pipeline = Flux.concat(
+			tracker.traceFlux(DialoguePipelineStage.LLM_COMPLETION, () -> Flux.just("네")),
+			tracker.traceFlux(DialoguePipelineStage.TTS_SYNTHESIS, () -> Flux.just("음성")));
+		StepVerifier.create(tracker.attachLifecycle(pipeline))
+			.expectNext("네", "음성")
+			.verifyComplete();
+
+		assertThat(stage(summary.get(), DialoguePipelineStage.LLM_COMPLETION).attributes())
+			.containsEntry("limiter.openai.limit", 8);
+		assertThat(stage(summary.get(), DialoguePipelineStage.TTS_SYNTHESIS).attributes())
+			.doesNotContainKey("limiter.openai.limit");
+	}
+
+	private UpstreamMetricsSource source(DialoguePipelineStage stage, Map<String, Object> metrics) {
+		return new UpstreamMetricsSource() {
+			@Override
+			public DialoguePipelineStage stage() {
+				return stage;
+			}
+
+			@Override
+			public Map<String, Object> metrics() {
+				return metrics;
+			}
+		};
+	}
+
+	private DialoguePipelineTracker.StageSnapshot stage(
+		DialoguePipelineTracker.PipelineSummary summary,
+		DialoguePipelineStage stage) {
+		return summary.stages().stream()
+			.filter(snapshot -> snapshot.stage() == stage)
+			.findFirst()
+			.orElseThrow();
+	}
+}
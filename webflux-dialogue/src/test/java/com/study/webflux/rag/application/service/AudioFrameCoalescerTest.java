@@ -0,0 +1,84 @@
+package com.study.webflux.rag.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class AudioFrameCoalescerTest {
+
+	@Test
+	void coalesce_shouldPassFirstChunkThenPackSmallChunksToTargetSize() {
+		AudioFrameCoalescer<byte[]> coalescer = AudioFrameCoalescer.forBytes(4, Duration.ofSeconds(1));
+		AtomicReference<AudioFrameCoalescer.FrameStats> stats = new AtomicReference<>();
+
+		StepVerifier.create(coalescer.coalesce(Flux.just(new byte[2], new byte[3], new byte[3], new byte[1]), stats::set))
+			.assertNext(frame -> assertThat(frame).hasSize(2))
+			.assertNext(frame -> assertThat(frame).hasSize(6))
+			.assertNext(frame -> assertThat(frame).hasSize(1))
+			.verifyComplete();
+
+		assertThat(stats.get()).isEqualTo(new AudioFrameCoalescer.FrameStats(4, 3, 9, 1, 6, 0));
+	}
+
+	@Test
+	void coalesce_shouldRequestUpstreamOnlyAsDownstreamDemands() {
+		AudioFrameCoalescer<byte[]> coalescer = AudioFrameCoalescer.forBytes(4, Duration.ofSeconds(1));
+		AtomicLong requested = new AtomicLong();
+		Flux<byte[]> source = Flux.range(0, 100)
+			.map(i -> new byte[1])
+			.doOnRequest(requested::addAndGet);
+
+		StepVerifier.create(coalescer.coalesce(source, stats -> {}), 1)
+			.assertNext(frame -> assertThat(frame).hasSize(1))
+			.then(() -> assertThat(requested).hasValue(1))
+			.thenRequest(1)
+			.assertNext(frame -> assertThat(frame).hasSize(4))
+			.then(() -> assertThat(requested).hasValue(5))
+			.thenCancel()
+			.verify();
+	}
+
+	@Test
+	void coalesce_shouldFlushPendingAudioAfterMaxLatency() {
+		AudioFrameCoalescer<byte[]> coalescer = AudioFrameCoalescer.forBytes(1024, Duration.ofMillis(40));
+
+		StepVerifier.withVirtualTime(() -> coalescer.coalesce(
+				Flux.concat(Flux.just(new byte[1], new byte[2]), Flux.never()), stats -> {}))
+			.expectSubscription()
+			.assertNext(frame -> assertThat(frame).hasSize(1))
+			.expectNoEvent(Duration.ofMillis(39))
+			.thenAwait(Duration.ofMillis(1))
+			.assertNext(frame -> assertThat(frame).hasSize(2))
+			.thenCancel()
+			.verify();
+	}
+
+	@Test
+	void coalesce_whenCancelled_shouldReleasePendingBuffers() {
+		NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(new UnpooledByteBufAllocator(false, true));
+		NettyDataBuffer first = bufferFactory.allocateBuffer(8).write(new byte[] {1});
+		NettyDataBuffer pending = bufferFactory.allocateBuffer(8).write(new byte[] {2});
+		AudioFrameCoalescer<DataBuffer> coalescer = AudioFrameCoalescer.forBuffers(1024, Duration.ofSeconds(1));
+
+		StepVerifier.create(coalescer.coalesce(Flux.concat(Flux.<DataBuffer>just(first, pending), Flux.never()), stats -> {})
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release))
+			.assertNext(DataBufferUtils::release)
+			.thenCancel()
+			.verify();
+
+		assertThat(first.getNativeBuffer().refCnt()).isZero();
+		assertThat(pending.getNativeBuffer().refCnt()).isZero();
+	}
+}
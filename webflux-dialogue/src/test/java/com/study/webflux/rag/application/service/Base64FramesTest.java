@@ -0,0 +1,42 @@
+package com.study.webflux.rag.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+class Base64FramesTest {
+
+	@Test
+	void encode_shouldMatchJdkEncodingForSingleSegmentFrame() {
+		byte[] audio = {1, 2, 3, 4, 5};
+
+		String encoded = Base64Frames.encode(DefaultDataBufferFactory.sharedInstance.wrap(audio));
+
+		assertThat(encoded).isEqualTo(Base64.getEncoder().encodeToString(audio));
+	}
+
+	@Test
+	void encode_shouldCarryPartialTriplesAcrossSegmentsOfJoinedFrame() {
+		NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(new UnpooledByteBufAllocator(false, true));
+		List<DataBuffer> segments = List.of(
+			bufferFactory.wrap(new byte[] {1}),
+			bufferFactory.wrap(new byte[] {2, 3, 4, 5}),
+			bufferFactory.wrap(new byte[] {6, 7}),
+			bufferFactory.wrap(new byte[] {8, 9, 10, 11, 12}));
+		DataBuffer frame = bufferFactory.join(segments);
+
+		String encoded = Base64Frames.encode(frame);
+
+		byte[] expected = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12};
+		assertThat(encoded).isEqualTo(Base64.getEncoder().encodeToString(expected));
+		assertThat(frame.readableByteCount()).isEqualTo(12);
+	}
+}
@@ -1,16 +1,25 @@
 package com.study.webflux.rag.application.service;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 
 import com.study.webflux.rag.application.monitoring.DialoguePipelineMonitor;
 import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
@@ -20,9 +29,17 @@ import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
 import com.study.webflux.rag.domain.port.out.ConversationRepository;
 import com.study.webflux.rag.domain.port.out.LlmPort;
 import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.domain.port.out.TokenCounterPort;
 import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.domain.service.ContextWindowManager;
 import com.study.webflux.rag.domain.service.SentenceAssembler;
+import com.study.webflux.rag.domain.service.TtsRequestPlanner;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ConversationWriteListener;
+import com.study.webflux.rag.infrastructure.adapter.persistence.ListeningConversationRepository;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.CachingRetrievalAdapter;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
 
+import io.netty.buffer.UnpooledByteBufAllocator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -30,6 +47,9 @@ import reactor.test.StepVerifier;
 @ExtendWith(MockitoExtension.class)
 class DialoguePipelineServiceTest {
 
+	private static final NettyDataBufferFactory BUFFER_FACTORY =
+		new NettyDataBufferFactory(new UnpooledByteBufAllocator(false, true));
+
 	@Mock
 	private LlmPort llmPort;
 
@@ -42,6 +62,12 @@ class DialoguePipelineServiceTest {
 	@Mock
 	private ConversationRepository conversationRepository;
 
+	@Mock
+	private TokenCounterPort tokenCounter;
+
+	@Mock
+	private ObjectProvider<ConversationWriteListener> conversationWriteListeners;
+
 	private SentenceAssembler sentenceAssembler;
 
 	private DialoguePipelineService service;
@@ -53,14 +79,7 @@ class DialoguePipelineServiceTest {
 		pipelineMonitor = new DialoguePipelineMonitor(summary -> {});
 		when(ttsPort.prepare()).thenReturn(Mono.empty());
 		when(conversationRepository.findRecent(anyInt())).thenReturn(Flux.empty());
-		service = new DialoguePipelineService(
-			llmPort,
-			ttsPort,
-			retrievalPort,
-			conversationRepository,
-			sentenceAssembler,
-			pipelineMonitor
-		);
+		service = createService(retrievalPort, conversationRepository);
 	}
 
 	@Test
@@ -78,17 +97,20 @@ class DialoguePipelineServiceTest {
 			.thenReturn(Mono.just(emptyContext));
 		when(llmPort.streamCompletion(any(CompletionRequest.class)))
 			.thenReturn(Flux.just("Hello", " world", "."));
-		when(ttsPort.streamSynthesize(anyString()))
-			.thenReturn(Flux.just(audioBytes));
+		NettyDataBuffer audio = BUFFER_FACTORY.allocateBuffer(audioBytes.length).write(audioBytes);
+		when(ttsPort.streamSynthesizeBuffers(anyString()))
+			.thenReturn(Flux.just(audio));
 
 		StepVerifier.create(service.executeStreaming(testText))
 			.expectNext(expectedBase64)
 			.verifyComplete();
 
+		assertThat(audio.getNativeBuffer().refCnt()).isZero();
+
 		verify(conversationRepository, atLeastOnce()).save(any(ConversationTurn.class));
 		verify(retrievalPort).retrieve(testText, 3);
 		verify(llmPort).streamCompletion(any(CompletionRequest.class));
-		verify(ttsPort).streamSynthesize("Hello world.");
+		verify(ttsPort).streamSynthesizeBuffers("Hello world.");
 	}
 
 	@Test
@@ -173,4 +195,134 @@ class DialoguePipelineServiceTest {
 			.expectNext(audio3)
 			.verifyComplete();
 	}
+
+	@Test
+	void executeAudioStreaming_whenRetrievalExceedsBudget_shouldContinueWithoutContext() {
+		String testText = "Slow retrieval";
+		byte[] audioBytes = "audio".getBytes();
+
+		ConversationTurn turn = ConversationTurn.create(testText);
+
+		when(conversationRepository.save(any(ConversationTurn.class)))
+			.thenReturn(Mono.just(turn));
+		when(retrievalPort.retrieve(eq(testText), eq(3)))
+			.thenReturn(Mono.never());
+		when(llmPort.streamCompletion(any(CompletionRequest.class)))
+			.thenReturn(Flux.just("Response", "."));
+		when(ttsPort.streamSynthesize(anyString()))
+			.thenReturn(Flux.just(audioBytes));
+
+		StepVerifier.create(service.executeAudioStreaming(testText))
+			.expectNext(audioBytes)
+			.expectComplete()
+			.verify(Duration.ofSeconds(5));
+
+		verify(retrievalPort, times(1)).retrieve(testText, 3);
+		verify(llmPort).streamCompletion(any(CompletionRequest.class));
+	}
+
+	@Test
+	void executeAudioBufferStreaming_shouldForwardPooledBuffersUntouched() {
+		String testText = "Buffer query";
+		List<NettyDataBuffer> allocated = new CopyOnWriteArrayList<>();
+
+		stubDialogue(testText, "First", " sentence", ".", " Second", " sentence", ".");
+		when(ttsPort.streamSynthesizeBuffers(anyString()))
+			.thenAnswer(invocation -> Flux.defer(() -> Flux.just(allocate(allocated, invocation.getArgument(0)))));
+
+		StepVerifier.create(service.executeAudioBufferStreaming(testText))
+			.assertNext(buffer -> {
+				assertThat(allocated).anyMatch(allocatedBuffer -> allocatedBuffer == buffer);
+				assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("First sentence.");
+				DataBufferUtils.release(buffer);
+			})
+			.assertNext(buffer -> {
+				assertThat(allocated).anyMatch(allocatedBuffer -> allocatedBuffer == buffer);
+				assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("Second sentence.");
+				DataBufferUtils.release(buffer);
+			})
+			.verifyComplete();
+
+		assertThat(allocated).hasSize(2).allSatisfy(buffer -> assertThat(buffer.getNativeBuffer().refCnt()).isZero());
+		verify(ttsPort, never()).streamSynthesize(anyString());
+	}
+
+	@Test
+	void executeAudioBufferStreaming_whenCancelled_shouldReleaseUndeliveredBuffers() throws InterruptedException {
+		String testText = "Cancelled query";
+		List<NettyDataBuffer> allocated = new CopyOnWriteArrayList<>();
+
+		stubDialogue(testText, "First", ".", " Second", ".", " Third", ".");
+		when(ttsPort.streamSynthesizeBuffers(anyString()))
+			.thenAnswer(invocation -> Flux.defer(() -> Flux.just(allocate(allocated, invocation.getArgument(0)))));
+
+		StepVerifier.create(service.executeAudioBufferStreaming(testText), 1)
+			.assertNext(DataBufferUtils::release)
+			.thenCancel()
+			.verify(Duration.ofSeconds(5));
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+		while (allocated.stream().anyMatch(buffer -> buffer.getNativeBuffer().refCnt() > 0)
+			&& System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(allocated).isNotEmpty().allSatisfy(buffer -> assertThat(buffer.getNativeBuffer().refCnt()).isZero());
+	}
+
+	@Test
+	void executeAudioStreaming_shouldHitRetrievalCacheAcrossSavedTurns() {
+		String testText = "Repeated question";
+		CachingRetrievalAdapter retrievalCache = new CachingRetrievalAdapter(
+			retrievalPort, new LocalCache<>(100, Duration.ofMinutes(1)), null, Duration.ofMinutes(1),
+			Duration.ofSeconds(1));
+		when(conversationWriteListeners.orderedStream()).thenAnswer(invocation -> Stream.of(retrievalCache));
+		DialoguePipelineService cachedService = createService(
+			retrievalCache, new ListeningConversationRepository(conversationRepository, conversationWriteListeners));
+
+		when(conversationRepository.save(any(ConversationTurn.class)))
+			.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+		when(retrievalPort.retrieve(eq(testText), eq(3)))
+			.thenReturn(Mono.just(RetrievalContext.empty(testText)));
+		when(llmPort.streamCompletion(any(CompletionRequest.class)))
+			.thenReturn(Flux.just("Answer", "."));
+		when(ttsPort.streamSynthesize(anyString()))
+			.thenReturn(Flux.just("audio".getBytes()));
+
+		cachedService.executeAudioStreaming(testText).blockLast(Duration.ofSeconds(5));
+		cachedService.executeAudioStreaming(testText).blockLast(Duration.ofSeconds(5));
+
+		verify(conversationRepository, atLeast(2)).save(any(ConversationTurn.class));
+		verify(retrievalPort, times(1)).retrieve(testText, 3);
+	}
+
+	private DialoguePipelineService createService(RetrievalPort retrieval, ConversationRepository repository) {
+		return new DialoguePipelineService(
+			llmPort,
+			ttsPort,
+			retrieval,
+			repository,
+			sentenceAssembler,
+			TtsRequestPlanner.disabled(),
+			new ContextWindowManager(tokenCounter, 3000, 4, 32),
+			ModelRouter.fixed("gpt-4.1-nano"),
+			pipelineMonitor,
+			new DialoguePipelineSettings(Duration.ofMillis(200), 1, 4, Duration.ofMillis(400), 1, Duration.ofMillis(40))
+		);
+	}
+
+	private void stubDialogue(String text, String... tokens) {
+		when(conversationRepository.save(any(ConversationTurn.class)))
+			.thenReturn(Mono.just(ConversationTurn.create(text)));
+		when(retrievalPort.retrieve(eq(text), eq(3)))
+			.thenReturn(Mono.just(RetrievalContext.empty(text)));
+		when(llmPort.streamCompletion(any(CompletionRequest.class)))
+			.thenReturn(Flux.just(tokens));
+	}
+
+	private NettyDataBuffer allocate(List<NettyDataBuffer> allocated, String sentence) {
+		NettyDataBuffer buffer = BUFFER_FACTORY.allocateBuffer(64);
+		buffer.write(sentence, StandardCharsets.UTF_8);
+		allocated.add(buffer);
+		return buffer;
+	}
 }
@@ -0,0 +1,123 @@
+package com.study.webflux.rag.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.study.webflux.rag.application.monitoring.DialoguePipelineStage;
+import com.study.webflux.rag.application.monitoring.DialoguePipelineTracker;
+import com.study.webflux.rag.application.monitoring.ModelStatsReporter;
+import com.study.webflux.rag.application.monitoring.PipelineStatus;
+import com.study.webflux.rag.application.monitoring.StageStatus;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+class ModelRouterTest {
+
+	private ModelStatsReporter modelStats;
+	private ModelRouter router;
+
+	@BeforeEach
+	void setUp() {
+		modelStats = new ModelStatsReporter();
+		router = new ModelRouter(modelStats, "fast", "default", "strong", 20, 120, Duration.ofMillis(1000), 5, 3, 4, 0.35);
+	}
+
+	@Test
+	void route_shouldSendShortChitChatToFastModel() {
+		ModelRoute route = router.route("안녕!", RetrievalContext.empty("안녕!"));
+
+		assertThat(route.model()).isEqualTo("fast");
+		assertThat(route.tier()).isEqualTo(ModelRouter.Tier.FAST);
+	}
+
+	@Test
+	void route_shouldKeepGroundedShortQueryOnDefaultModel() {
+		RetrievalContext context = RetrievalContext.of("회의 언제야?", List.of(RetrievalDocument.of("회의는 월요일", 1.0)));
+
+		assertThat(router.route("회의 언제야?", context).model()).isEqualTo("default");
+	}
+
+	@Test
+	void route_shouldSendMultiPartQuestionToStrongModel() {
+		String query = "왜 그런 거야? 그리고 어떻게 고쳐?";
+
+		assertThat(router.route(query, RetrievalContext.empty(query)).model()).isEqualTo("strong");
+	}
+
+	@Test
+	void route_shouldDowngradeWhenObservedTtftIsTooSlow() {
+		for (int i = 0; i < 3; i++) {
+			modelStats.report(summary("strong", 2500, 20L));
+		}
+		String query = "왜 그런 거야? 그리고 어떻게 고쳐?";
+
+		ModelRoute route = router.route(query, RetrievalContext.empty(query));
+
+		assertThat(route.model()).isEqualTo("default");
+		assertThat(route.reason()).contains("ttft-downgrade");
+	}
+
+	@Test
+	void route_shouldProbeDowngradedModelPeriodicallySoItsStatsCanRecover() {
+		for (int i = 0; i < 3; i++) {
+			modelStats.report(summary("strong", 2500, 20L));
+		}
+		String query = "왜 그런 거야? 그리고 어떻게 고쳐?";
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(router.route(query, RetrievalContext.empty(query)).model()).isEqualTo("default");
+		}
+		ModelRoute probe = router.route(query, RetrievalContext.empty(query));
+
+		assertThat(probe.model()).isEqualTo("strong");
+		assertThat(probe.reason()).contains("ttft-probe");
+	}
+
+	@Test
+	void route_shouldDowngradeWhenObservedThroughputIsTooLow() {
+		for (int i = 0; i < 3; i++) {
+			modelStats.report(summary("default", 200, 2L));
+		}
+		RetrievalContext context = RetrievalContext.of("회의 언제야?", List.of(RetrievalDocument.of("회의는 월요일", 1.0)));
+
+		ModelRoute route = router.route("회의 언제야?", context);
+
+		assertThat(route.model()).isEqualTo("fast");
+		assertThat(route.reason()).contains("throughput-downgrade");
+	}
+
+	@Test
+	void route_shouldSendQueryWithDiffuseRetrievalScoresToStrongModel() {
+		RetrievalContext context = RetrievalContext.of("회의 언제야?", List.of(
+			RetrievalDocument.of("회의는 월요일", 1.0),
+			RetrievalDocument.of("회의는 화요일로 변경", 0.9),
+			RetrievalDocument.of("회의실 예약", 0.9),
+			RetrievalDocument.of("회의 안건", 0.8)));
+
+		ModelRoute route = router.route("회의 언제야?", context);
+
+		assertThat(route.model()).isEqualTo("strong");
+		assertThat(route.reason()).isEqualTo("diffuse-grounding");
+	}
+
+	private DialoguePipelineTracker.PipelineSummary summary(String model, long ttftMillis, long tokenCount) {
+		Instant now = Instant.now();
+		DialoguePipelineTracker.StageSnapshot llm = new DialoguePipelineTracker.StageSnapshot(
+			DialoguePipelineStage.LLM_COMPLETION,
+			StageStatus.COMPLETED,
+			now,
+			now.plusMillis(ttftMillis + 500),
+			ttftMillis + 500,
+			Map.of("model", model, "ttftMillis", ttftMillis, "tokenCount", tokenCount)
+		);
+		return new DialoguePipelineTracker.PipelineSummary(
+			"pipeline", PipelineStatus.COMPLETED, now, now, Map.of(), List.of(llm), List.of(), null, null);
+	}
+}
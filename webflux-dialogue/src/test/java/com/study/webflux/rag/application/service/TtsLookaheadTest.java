@@ -0,0 +1,42 @@
+package com.study.webflux.rag.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TtsLookaheadTest {
+
+	@Test
+	void current_shouldStartAtMinimumUntilLatencyIsObserved() {
+		TtsLookahead lookahead = new TtsLookahead(1, 4, Duration.ofMillis(400));
+
+		assertThat(lookahead.current()).isEqualTo(1);
+	}
+
+	@Test
+	void current_shouldGrowWithObservedLatencyUpToMaximum() {
+		TtsLookahead lookahead = new TtsLookahead(1, 4, Duration.ofMillis(400));
+
+		lookahead.record(1000);
+		assertThat(lookahead.current()).isEqualTo(3);
+
+		for (int i = 0; i < 50; i++) {
+			lookahead.record(5000);
+		}
+		assertThat(lookahead.current()).isEqualTo(4);
+	}
+
+	@Test
+	void current_shouldShrinkWhenSynthesisGetsFast() {
+		TtsLookahead lookahead = new TtsLookahead(1, 4, Duration.ofMillis(400));
+		lookahead.record(1600);
+
+		for (int i = 0; i < 50; i++) {
+			lookahead.record(100);
+		}
+
+		assertThat(lookahead.current()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,91 @@
+package com.study.webflux.rag.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.model.llm.MessageRole;
+import com.study.webflux.rag.domain.model.llm.PromptWindow;
+import com.study.webflux.rag.domain.port.out.TokenCounterPort;
+
+class ContextWindowManagerTest {
+
+	private static final Function<List<String>, String> SYSTEM_PROMPT = documents -> "sys" + String.join("|", documents);
+
+	private final TokenCounterPort characterCounter = new TokenCounterPort() {
+		@Override
+		public int count(String text) {
+			return text.length();
+		}
+
+		@Override
+		public String truncate(String text, int maxTokens) {
+			return text.substring(0, Math.min(text.length(), maxTokens));
+		}
+	};
+
+	@Test
+	void fit_shouldKeepEverythingWhenWithinBudget() {
+		ContextWindowManager manager = new ContextWindowManager(characterCounter, 1000, 0, 4);
+
+		PromptWindow window = manager.fit(SYSTEM_PROMPT, List.of("doc1", "doc2"), List.of(turn("q1", "a1")), "query");
+
+		assertThat(window.messages()).extracting(Message::role)
+			.containsExactly(MessageRole.SYSTEM, MessageRole.USER, MessageRole.ASSISTANT, MessageRole.USER);
+		assertThat(window.messages().get(0).content()).isEqualTo("sysdoc1|doc2");
+		assertThat(window.documentsDropped()).isZero();
+		assertThat(window.historyTurnsDropped()).isZero();
+		assertThat(window.truncated()).isFalse();
+		assertThat(window.promptTokens()).isEqualTo("sysdoc1|doc2".length() + 2 + 2 + "query".length());
+	}
+
+	@Test
+	void fit_shouldPreferDocumentsOverHistoryAndKeepNewestTurns() {
+		ContextWindowManager manager = new ContextWindowManager(characterCounter, 3 + 5 + 11 + 8, 0, 4);
+
+		PromptWindow window = manager.fit(
+			SYSTEM_PROMPT,
+			List.of("relevant01", "second-doc-is-dropped"),
+			List.of(turn("old-q", "old-a"), turn("newq", "newa")),
+			"query"
+		);
+
+		assertThat(window.messages().get(0).content()).startsWith("sysrelevant01");
+		assertThat(window.documentsIncluded()).isEqualTo(2);
+		assertThat(window.historyTurnsIncluded()).isZero();
+		assertThat(window.historyTurnsDropped()).isEqualTo(2);
+		assertThat(window.truncated()).isTrue();
+		assertThat(window.promptTokens()).isLessThanOrEqualTo(window.tokenBudget());
+	}
+
+	@Test
+	void fit_shouldDropOldestHistoryFirst() {
+		ContextWindowManager manager = new ContextWindowManager(characterCounter, 3 + 5 + 8, 0, 4);
+
+		PromptWindow window = manager.fit(SYSTEM_PROMPT, List.of(), List.of(turn("old-q", "old-a"), turn("newq", "newa")), "query");
+
+		assertThat(window.messages()).extracting(Message::content).containsExactly("sys", "newq", "newa", "query");
+		assertThat(window.historyTurnsDropped()).isEqualTo(1);
+	}
+
+	@Test
+	void fit_shouldTruncateOversizedQuery() {
+		ContextWindowManager manager = new ContextWindowManager(characterCounter, 3 + 4, 0, 4);
+
+		PromptWindow window = manager.fit(SYSTEM_PROMPT, List.of("doc"), List.of(), "a very long question");
+
+		assertThat(window.messages().get(window.messages().size() - 1).content()).isEqualTo("a ve");
+		assertThat(window.documentsDropped()).isEqualTo(1);
+		assertThat(window.truncated()).isTrue();
+	}
+
+	private ConversationTurn turn(String query, String response) {
+		return ConversationTurn.withId(null, query, response, Instant.now());
+	}
+}
@@ -0,0 +1,48 @@
+package com.study.webflux.rag.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class TtsRequestPlannerTest {
+
+	@Test
+	void plan_shouldKeepFirstSentenceAloneAndMergeShortFollowers() {
+		TtsRequestPlanner planner = new TtsRequestPlanner(12, 30);
+		AtomicReference<TtsRequestPlanner.PlanStats> stats = new AtomicReference<>();
+
+		StepVerifier.create(planner.plan(Flux.just("네.", "알겠습니다.", "그럼 시작할게요.", "좋아요!"), stats::set))
+			.expectNext("네.")
+			.expectNext("알겠습니다. 그럼 시작할게요.")
+			.expectNext("좋아요!")
+			.verifyComplete();
+
+		assertThat(stats.get()).isEqualTo(new TtsRequestPlanner.PlanStats(4, 3, 1, 0));
+	}
+
+	@Test
+	void plan_shouldSplitLongSentenceAtClauseBoundary() {
+		TtsRequestPlanner planner = new TtsRequestPlanner(5, 24);
+		AtomicReference<TtsRequestPlanner.PlanStats> stats = new AtomicReference<>();
+
+		StepVerifier.create(planner.plan(Flux.just("First part here, then the second part."), stats::set))
+			.expectNext("First part here,")
+			.expectNext("then the second part.")
+			.verifyComplete();
+
+		assertThat(stats.get().splitSentences()).isEqualTo(1);
+		assertThat(stats.get().requests()).isEqualTo(2);
+	}
+
+	@Test
+	void plan_whenDisabled_shouldPassSentencesThrough() {
+		StepVerifier.create(TtsRequestPlanner.disabled().plan(Flux.just("네.", "좋아요.", "응."), stats -> {}))
+			.expectNext("네.", "좋아요.", "응.")
+			.verifyComplete();
+	}
+}
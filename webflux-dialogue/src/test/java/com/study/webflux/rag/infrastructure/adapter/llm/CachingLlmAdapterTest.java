@@ -0,0 +1,126 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.resilience.CircuitBreaker;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CachingLlmAdapterTest {
+
+	@Mock
+	private LlmPort delegate;
+
+	private CachingLlmAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new CachingLlmAdapter(delegate, new LocalCache<>(100, Duration.ofMinutes(1)), null, false, 1.0);
+	}
+
+	@Test
+	void streamCompletion_shouldReplayTokensForIdenticalRequest() {
+		when(delegate.streamCompletion(any())).thenReturn(Flux.just("내일 ", "회의는 ", "10시입니다."));
+
+		StepVerifier.create(adapter.streamCompletion(request("회의 언제야?")))
+			.expectNext("내일 ", "회의는 ", "10시입니다.")
+			.verifyComplete();
+		StepVerifier.create(adapter.streamCompletion(request("회의 언제야?")))
+			.expectNext("내일 ", "회의는 ", "10시입니다.")
+			.verifyComplete();
+
+		verify(delegate, times(1)).streamCompletion(any());
+		assertThat(adapter.localHits()).isEqualTo(1);
+		assertThat(adapter.misses()).isEqualTo(1);
+	}
+
+	@Test
+	void streamCompletion_shouldNotCacheFailedStream() {
+		when(delegate.streamCompletion(any()))
+			.thenReturn(Flux.concat(Flux.just("partial"), Flux.error(new IllegalStateException("upstream"))))
+			.thenReturn(Flux.just("complete"));
+
+		StepVerifier.create(adapter.streamCompletion(request("질문")))
+			.expectNext("partial")
+			.verifyError(IllegalStateException.class);
+		StepVerifier.create(adapter.streamCompletion(request("질문")))
+			.expectNext("complete")
+			.verifyComplete();
+
+		verify(delegate, times(2)).streamCompletion(any());
+	}
+
+	@Test
+	void streamCompletion_shouldNotCacheFallbackAnswerUnderPrimaryKey() {
+		LlmPort fallbackDelegate = mock(LlmPort.class);
+		CachingLlmAdapter fallbackCache = new CachingLlmAdapter(
+			fallbackDelegate, new LocalCache<>(100, Duration.ofMinutes(1)), null, false, 1.0);
+		CircuitBreakingLlmAdapter guarded = new CircuitBreakingLlmAdapter(adapter,
+			new CircuitBreaker("primary", 1.0, 10, 10, Duration.ofSeconds(10), 1, Duration.ofSeconds(5)),
+			fallbackCache, "claude-haiku");
+		when(delegate.streamCompletion(any()))
+			.thenReturn(Flux.error(new IllegalStateException("upstream")))
+			.thenReturn(Flux.just("primary answer"));
+		when(fallbackDelegate.streamCompletion(any())).thenReturn(Flux.just("fallback answer"));
+
+		StepVerifier.create(guarded.streamCompletion(request("질문")))
+			.expectNext("fallback answer")
+			.verifyComplete();
+		StepVerifier.create(guarded.streamCompletion(request("질문")))
+			.expectNext("primary answer")
+			.verifyComplete();
+		StepVerifier.create(guarded.streamCompletion(request("질문")))
+			.expectNext("primary answer")
+			.verifyComplete();
+
+		verify(delegate, times(2)).streamCompletion(any());
+		verify(fallbackDelegate).streamCompletion(argThat(request -> "claude-haiku".equals(request.model())));
+		assertThat(adapter.localHits()).isEqualTo(1);
+	}
+
+	@Test
+	void key_shouldDependOnMessagesAndModel() {
+		String key = CompletionRequestKey.of(request("질문"));
+
+		assertThat(CompletionRequestKey.of(request("질문"))).isEqualTo(key);
+		assertThat(CompletionRequestKey.of(request("다른 질문"))).isNotEqualTo(key);
+		assertThat(CompletionRequestKey.of(CompletionRequest.withMessages(
+			List.of(Message.system("system"), Message.user("질문")), "gpt-4.1-mini", true))).isNotEqualTo(key);
+	}
+
+	@Test
+	void streamCompletion_shouldPaceReplayWhenEnabled() {
+		CachingLlmAdapter paced = new CachingLlmAdapter(
+			delegate, new LocalCache<>(100, Duration.ofMinutes(1)), null, true, 1.0);
+		when(delegate.streamCompletion(any())).thenReturn(Flux.just("a", "b", "c").delayElements(Duration.ofMillis(20)));
+
+		paced.streamCompletion(request("질문")).blockLast();
+
+		StepVerifier.create(paced.streamCompletion(request("질문")))
+			.expectNext("a")
+			.expectNoEvent(Duration.ofMillis(5))
+			.expectNext("b", "c")
+			.verifyComplete();
+	}
+
+	private CompletionRequest request(String query) {
+		return CompletionRequest.withMessages(List.of(Message.system("system"), Message.user(query)), "gpt-4.1-nano", true);
+	}
+}
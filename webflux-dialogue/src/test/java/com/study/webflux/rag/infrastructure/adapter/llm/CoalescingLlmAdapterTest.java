@@ -0,0 +1,130 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingLlmAdapterTest {
+
+	@Mock
+	private LlmPort delegate;
+
+	private CoalescingLlmAdapter adapter;
+	private Sinks.Many<String> upstream;
+	private AtomicInteger subscriptions;
+	private AtomicBoolean cancelled;
+	private AtomicReference<ContextView> upstreamContext;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new CoalescingLlmAdapter(delegate);
+		upstream = Sinks.many().unicast().onBackpressureBuffer();
+		subscriptions = new AtomicInteger();
+		cancelled = new AtomicBoolean();
+		upstreamContext = new AtomicReference<>();
+		when(delegate.streamCompletion(any())).thenReturn(Flux.deferContextual(context -> {
+			upstreamContext.set(context);
+			return upstream.asFlux()
+				.doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+				.doOnCancel(() -> cancelled.set(true));
+		}));
+	}
+
+	@Test
+	void streamCompletion_shouldReplayEmittedTokensToFollowers() {
+		Flux<String> leader = adapter.streamCompletion(request()).cache();
+		leader.subscribe();
+		upstream.tryEmitNext("내일 ");
+
+		StepVerifier.create(adapter.streamCompletion(request()))
+			.expectNext("내일 ")
+			.then(() -> {
+				upstream.tryEmitNext("회의");
+				upstream.tryEmitComplete();
+			})
+			.expectNext("회의")
+			.verifyComplete();
+		StepVerifier.create(leader).expectNext("내일 ", "회의").verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+		assertThat(adapter.upstreamRequests()).isEqualTo(1);
+		assertThat(adapter.coalescedRequests()).isEqualTo(1);
+		assertThat(adapter.inFlightCount()).isZero();
+	}
+
+	@Test
+	void streamCompletion_shouldCancelUpstreamOnlyAfterLastSubscriberCancels() {
+		Disposable leader = adapter.streamCompletion(request()).subscribe();
+		Disposable follower = adapter.streamCompletion(request()).subscribe();
+
+		leader.dispose();
+		assertThat(cancelled).isFalse();
+		assertThat(adapter.inFlightCount()).isEqualTo(1);
+
+		follower.dispose();
+		assertThat(cancelled).isTrue();
+		assertThat(adapter.inFlightCount()).isZero();
+	}
+
+	@Test
+	void streamCompletion_shouldRemoveInFlightEntryBeforeCompletionReachesSubscribers() {
+		AtomicInteger inFlightAtCompletion = new AtomicInteger(-1);
+		Flux<String> leader = adapter.streamCompletion(request())
+			.doOnComplete(() -> inFlightAtCompletion.set(adapter.inFlightCount()));
+
+		StepVerifier.create(leader)
+			.then(() -> {
+				upstream.tryEmitNext("회의");
+				upstream.tryEmitComplete();
+			})
+			.expectNext("회의")
+			.verifyComplete();
+
+		assertThat(inFlightAtCompletion).hasValue(0);
+		assertThat(subscriptions).hasValue(1);
+		assertThat(adapter.upstreamRequests()).isEqualTo(1);
+		assertThat(adapter.coalescedRequests()).isZero();
+	}
+
+	@Test
+	void streamCompletion_shouldRunSharedUpstreamWithFirstSubscriberContext() {
+		Disposable leader = adapter.streamCompletion(request())
+			.contextWrite(Context.of("traceId", "leader"))
+			.subscribe();
+		Disposable follower = adapter.streamCompletion(request())
+			.contextWrite(Context.of("traceId", "follower"))
+			.subscribe();
+
+		assertThat(subscriptions).hasValue(1);
+		assertThat(upstreamContext.get().getOrDefault("traceId", "none")).isEqualTo("leader");
+		leader.dispose();
+		follower.dispose();
+	}
+
+	private CompletionRequest request() {
+		return CompletionRequest.withMessages(List.of(Message.system("system"), Message.user("회의 언제야?")), "gpt-4.1-nano", true);
+	}
+}
@@ -0,0 +1,104 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.llm.CompletionRequest;
+import com.study.webflux.rag.domain.model.llm.Message;
+import com.study.webflux.rag.domain.port.out.LlmPort;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class HedgingLlmAdapterTest {
+
+	@Mock
+	private LlmPort primary;
+
+	@Mock
+	private LlmPort secondary;
+
+	private HedgingLlmAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new HedgingLlmAdapter(
+			primary,
+			secondary,
+			0.9,
+			Duration.ofMillis(300),
+			Duration.ofMillis(50),
+			Duration.ofSeconds(1),
+			10,
+			3
+		);
+	}
+
+	@Test
+	void streamCompletion_shouldNotHedgeWhenPrimaryIsFast() {
+		when(primary.streamCompletion(any())).thenReturn(Flux.just("빠른", " 응답"));
+
+		StepVerifier.create(adapter.streamCompletion(request()))
+			.expectNext("빠른", " 응답")
+			.verifyComplete();
+
+		verify(secondary, never()).streamCompletion(any());
+		assertThat(adapter.hedges()).isZero();
+	}
+
+	@Test
+	void streamCompletion_shouldKeepSecondaryAndCancelSlowPrimary() {
+		AtomicBoolean primaryCancelled = new AtomicBoolean();
+		when(primary.streamCompletion(any())).thenReturn(Flux.just("느린")
+			.delayElements(Duration.ofSeconds(5))
+			.doOnCancel(() -> primaryCancelled.set(true)));
+		when(secondary.streamCompletion(any())).thenReturn(Flux.just("대체", " 응답"));
+
+		StepVerifier.withVirtualTime(() -> adapter.streamCompletion(request()))
+			.thenAwait(Duration.ofMillis(300))
+			.expectNext("대체", " 응답")
+			.verifyComplete();
+
+		assertThat(primaryCancelled).isTrue();
+		assertThat(adapter.hedges()).isEqualTo(1);
+		assertThat(adapter.secondaryWins()).isEqualTo(1);
+	}
+
+	@Test
+	void streamCompletion_shouldHedgeImmediatelyWhenPrimaryFailsBeforeFirstToken() {
+		when(primary.streamCompletion(any())).thenReturn(Flux.error(new IllegalStateException("503")));
+		when(secondary.streamCompletion(any())).thenReturn(Flux.just("대체"));
+
+		StepVerifier.withVirtualTime(() -> adapter.streamCompletion(request()))
+			.expectNext("대체")
+			.verifyComplete();
+	}
+
+	@Test
+	void hedgeDelay_shouldFollowObservedPrimaryLatencyWithinBounds() {
+		when(primary.streamCompletion(any())).thenReturn(Flux.just("a"));
+
+		assertThat(adapter.hedgeDelay()).isEqualTo(Duration.ofMillis(300));
+		for (int i = 0; i < 3; i++) {
+			adapter.streamCompletion(request()).blockLast();
+		}
+
+		assertThat(adapter.hedgeDelay()).isEqualTo(Duration.ofMillis(50));
+	}
+
+	private CompletionRequest request() {
+		return CompletionRequest.withMessages(List.of(Message.system("system"), Message.user("질문")), "gpt-4.1-nano", true);
+	}
+}
@@ -0,0 +1,109 @@
+package com.study.webflux.rag.infrastructure.adapter.llm;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class SseTokenParserTest {
+
+	private static final String BODY = """
+		data: {"id":"1","choices":[{"index":0,"delta":{"role":"assistant","content":""}}]}
+
+		data: {"id":"1","choices":[{"index":0,"delta":{"content":"내일"},"finish_reason":null}]}
+
+		: keep-alive
+
+		data:{"choices":[{"delta":{"content":" 회의는"}}],"delta":{"content":"ignored"}}
+
+		data: {"id":"1","choices":[{"index":0,"delta":{"content":" 10시\\n"}}]}
+
+		data: [DONE]
+
+		""";
+
+	@Test
+	void parse_shouldExtractDeltaContentAcrossBufferBoundaries() {
+		byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+
+		for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize += 7) {
+			StepVerifier.create(SseTokenParser.parse(split(bytes, chunkSize), new JsonFactory(),
+					SseTokenParser.OPENAI_DELTA_CONTENT))
+				.expectNext("내일", " 회의는", " 10시\n")
+				.verifyComplete();
+		}
+	}
+
+	@Test
+	void parse_shouldSkipMalformedFrameAndRecover() {
+		String body = "data: {\"choices\":[{\"delta\":{\"content\":\"a\"\n\n"
+			+ "data: {\"choices\":[{\"delta\":{\"content\" oops}}]}\n\n"
+			+ "data: {\"choices\":[{\"delta\":{\"content\":\"b\"}}]}\n\n";
+
+		StepVerifier.create(SseTokenParser.parse(split(body.getBytes(StandardCharsets.UTF_8), 16), new JsonFactory(),
+				SseTokenParser.OPENAI_DELTA_CONTENT))
+			.expectNext("a", "b")
+			.verifyComplete();
+	}
+
+	@Test
+	void parse_shouldExtractClaudeTextDeltas() {
+		String body = """
+			event: content_block_start
+			data: {"type":"content_block_start","index":0,"content_block":{"type":"text","text":""}}
+
+			event: content_block_delta
+			data: {"type":"content_block_delta","index":0,"delta":{"type":"text_delta","text":"안녕"}}
+
+			event: message_delta
+			data: {"type":"message_delta","delta":{"stop_reason":"end_turn"}}
+
+			""";
+
+		StepVerifier.create(SseTokenParser.parse(split(body.getBytes(StandardCharsets.UTF_8), 9), new JsonFactory(),
+				SseTokenParser.CLAUDE_TEXT_DELTA))
+			.expectNext("안녕")
+			.verifyComplete();
+	}
+
+	@Test
+	void parse_shouldExtractGeminiPartTexts() {
+		String body = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"내일\"},{\"text\":\" 봐요\"}],"
+			+ "\"role\":\"model\"}}]}\r\n\r\n";
+
+		StepVerifier.create(SseTokenParser.parse(split(body.getBytes(StandardCharsets.UTF_8), 11), new JsonFactory(),
+				SseTokenParser.GEMINI_PART_TEXT))
+			.expectNext("내일", " 봐요")
+			.verifyComplete();
+	}
+
+	@Test
+	void parse_shouldReturnEmptyListWhenFrameHasNoContent() {
+		SseTokenParser parser = new SseTokenParser(new JsonFactory(), SseTokenParser.OPENAI_DELTA_CONTENT);
+		DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(
+			"data: {\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}]}\n\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(parser.parse(buffer)).isEmpty();
+	}
+
+	private Flux<DataBuffer> split(byte[] bytes, int chunkSize) {
+		List<DataBuffer> buffers = new ArrayList<>();
+		for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+			int length = Math.min(chunkSize, bytes.length - offset);
+			byte[] chunk = new byte[length];
+			System.arraycopy(bytes, offset, chunk, 0, length);
+			buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+		}
+		return Flux.fromIterable(buffers);
+	}
+}
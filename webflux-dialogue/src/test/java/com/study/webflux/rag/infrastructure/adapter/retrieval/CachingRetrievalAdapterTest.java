@@ -0,0 +1,167 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+import com.study.webflux.rag.infrastructure.cache.LocalCache;
+import com.study.webflux.rag.infrastructure.cache.RedisCacheTier;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CachingRetrievalAdapterTest {
+
+	@Mock
+	private RetrievalPort delegate;
+
+	private final AtomicLong now = new AtomicLong();
+
+	private CachingRetrievalAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new CachingRetrievalAdapter(delegate, new LocalCache<>(100, Duration.ofMinutes(1)), null,
+			Duration.ofSeconds(10), Duration.ofSeconds(1), now::get);
+	}
+
+	@Test
+	void retrieve_shouldServeNormalizedRepeatsFromLocalCache() {
+		when(delegate.retrieve(anyString(), eq(3)))
+			.thenReturn(Mono.just(RetrievalContext.of("Weekly meeting?", List.of(RetrievalDocument.of("notes", 1.0)))));
+
+		StepVerifier.create(adapter.retrieve("Weekly meeting?", 3))
+			.assertNext(context -> assertThat(context.diagnostics()).containsEntry("cache", "miss"))
+			.verifyComplete();
+		StepVerifier.create(adapter.retrieve("  weekly   MEETING ", 3))
+			.assertNext(context -> {
+				assertThat(context.query()).isEqualTo("  weekly   MEETING ");
+				assertThat(context.documents()).extracting(RetrievalDocument::content).containsExactly("notes");
+				assertThat(context.diagnostics())
+					.containsEntry("cache", "local-hit")
+					.containsEntry("cache.hitRatio", 0.5);
+			})
+			.verifyComplete();
+
+		verify(delegate, times(1)).retrieve(anyString(), eq(3));
+	}
+
+	@Test
+	void onSaved_shouldKeepServingCachedResultsWithinStalenessWindow() {
+		when(delegate.retrieve("lunch", 3)).thenReturn(Mono.just(RetrievalContext.empty("lunch")));
+
+		adapter.retrieve("lunch", 3).block();
+		now.addAndGet(Duration.ofSeconds(5).toNanos());
+		adapter.onSaved(ConversationTurn.create("lunch menu"));
+		now.addAndGet(Duration.ofSeconds(4).toNanos());
+
+		StepVerifier.create(adapter.retrieve("lunch", 3))
+			.assertNext(context -> assertThat(context.diagnostics()).containsEntry("cache", "local-hit"))
+			.verifyComplete();
+		verify(delegate, times(1)).retrieve("lunch", 3);
+	}
+
+	@Test
+	void onSaved_shouldInvalidateOnceWriteIsOlderThanStalenessWindow() {
+		when(delegate.retrieve("lunch", 3)).thenReturn(Mono.just(RetrievalContext.empty("lunch")));
+
+		adapter.retrieve("lunch", 3).block();
+		adapter.onSaved(ConversationTurn.create("lunch menu"));
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		adapter.retrieve("lunch", 3).block();
+		adapter.retrieve("lunch", 3).block();
+
+		verify(delegate, times(2)).retrieve("lunch", 3);
+	}
+
+	@Test
+	void onSaved_shouldInvalidateOtherNodesThroughSharedGeneration() {
+		FakeRedisCacheTier redis = new FakeRedisCacheTier();
+		CachingRetrievalAdapter writer = new CachingRetrievalAdapter(delegate,
+			new LocalCache<>(100, Duration.ofMinutes(1)), redis, Duration.ofSeconds(10), Duration.ofSeconds(1),
+			now::get);
+		CachingRetrievalAdapter reader = new CachingRetrievalAdapter(delegate,
+			new LocalCache<>(100, Duration.ofMinutes(1)), redis, Duration.ofSeconds(10), Duration.ofSeconds(1),
+			now::get);
+		when(delegate.retrieve("lunch", 3))
+			.thenReturn(Mono.just(RetrievalContext.of("lunch", List.of(RetrievalDocument.of("old menu", 1.0)))))
+			.thenReturn(Mono.just(RetrievalContext.of("lunch", List.of(RetrievalDocument.of("new menu", 1.0)))));
+
+		writer.retrieve("lunch", 3).block();
+		StepVerifier.create(reader.retrieve("lunch", 3))
+			.assertNext(context -> assertThat(context.diagnostics()).containsEntry("cache", "redis-hit"))
+			.verifyComplete();
+
+		writer.onSaved(ConversationTurn.create("lunch menu changed"));
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		writer.retrieve("lunch", 3).block();
+
+		StepVerifier.create(reader.retrieve("lunch", 3))
+			.assertNext(context -> {
+				assertThat(context.diagnostics()).containsEntry("cache", "redis-hit");
+				assertThat(context.documents()).extracting(RetrievalDocument::content).containsExactly("new menu");
+			})
+			.verifyComplete();
+		verify(delegate, times(2)).retrieve("lunch", 3);
+	}
+
+	@Test
+	void retrieve_shouldNotCacheDegradedResults() {
+		RetrievalContext partial = RetrievalContext.of("lunch", List.of(RetrievalDocument.of("menu", 1.0)))
+			.withDiagnostics(Map.of("vector.status", "timeout"));
+		when(delegate.retrieve("lunch", 3)).thenReturn(Mono.just(partial));
+
+		adapter.retrieve("lunch", 3).block();
+		adapter.retrieve("lunch", 3).block();
+
+		verify(delegate, times(2)).retrieve("lunch", 3);
+	}
+
+	private static final class FakeRedisCacheTier extends RedisCacheTier<CachingRetrievalAdapter.CachedRetrieval> {
+
+		private final Map<String, CachingRetrievalAdapter.CachedRetrieval> entries = new ConcurrentHashMap<>();
+		private final AtomicLong generation = new AtomicLong();
+
+		private FakeRedisCacheTier() {
+			super(null, null, "rag:retrieval", CachingRetrievalAdapter.CachedRetrieval.class, Duration.ofMinutes(1),
+				Duration.ofSeconds(1));
+		}
+
+		@Override
+		public Mono<CachingRetrievalAdapter.CachedRetrieval> get(String key) {
+			return Mono.justOrEmpty(entries.get(key));
+		}
+
+		@Override
+		public Mono<Void> put(String key, CachingRetrievalAdapter.CachedRetrieval value) {
+			return Mono.fromRunnable(() -> entries.put(key, value));
+		}
+
+		@Override
+		public Mono<Long> incrementGeneration() {
+			return Mono.fromCallable(generation::incrementAndGet);
+		}
+
+		@Override
+		public Mono<Long> currentGeneration() {
+			return Mono.fromCallable(generation::get);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalContext;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.domain.port.out.RetrievalPort;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRetrievalAdapterTest {
+
+	@Mock
+	private RetrievalPort lexical;
+
+	@Mock
+	private RetrievalPort vector;
+
+	@Test
+	void retrieve_shouldFuseRankingsWithReciprocalRank() {
+		when(lexical.retrieve(eq("query"), anyInt())).thenReturn(Mono.just(context("alpha", "beta", "gamma")));
+		when(vector.retrieve(eq("query"), anyInt())).thenReturn(Mono.just(context("beta", "delta")));
+
+		StepVerifier.create(adapter(Duration.ofSeconds(1)).retrieve("query", 3))
+			.assertNext(context -> {
+				assertThat(context.documents()).extracting(RetrievalDocument::content)
+					.containsExactly("beta", "alpha", "delta");
+				assertThat(context.diagnostics())
+					.containsEntry("lexical.status", "ok")
+					.containsEntry("lexical.contribution", 2)
+					.containsEntry("vector.contribution", 2);
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	void retrieve_shouldReturnArrivedResultsWhenDeadlineExpires() {
+		when(lexical.retrieve(eq("query"), anyInt())).thenReturn(Mono.just(context("alpha")));
+		when(vector.retrieve(eq("query"), anyInt())).thenReturn(Mono.never());
+
+		StepVerifier.create(adapter(Duration.ofMillis(50)).retrieve("query", 3))
+			.assertNext(context -> {
+				assertThat(context.documents()).extracting(RetrievalDocument::content).containsExactly("alpha");
+				assertThat(context.diagnostics()).containsEntry("vector.status", "timeout");
+			})
+			.expectComplete()
+			.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void retrieve_shouldIgnoreFailingRetriever() {
+		when(lexical.retrieve(eq("query"), anyInt())).thenReturn(Mono.error(new IllegalStateException("boom")));
+		when(vector.retrieve(eq("query"), anyInt())).thenReturn(Mono.just(context("delta")));
+
+		StepVerifier.create(adapter(Duration.ofSeconds(1)).retrieve("query", 3))
+			.assertNext(context -> {
+				assertThat(context.documents()).extracting(RetrievalDocument::content).containsExactly("delta");
+				assertThat(context.diagnostics()).containsEntry("lexical.status", "error");
+			})
+			.verifyComplete();
+	}
+
+	private HybridRetrievalAdapter adapter(Duration deadline) {
+		Map<String, RetrievalPort> retrievers = new LinkedHashMap<>();
+		retrievers.put("lexical", lexical);
+		retrievers.put("vector", vector);
+		return new HybridRetrievalAdapter(retrievers, deadline, 60, 10);
+	}
+
+	private static RetrievalContext context(String... contents) {
+		List<RetrievalDocument> documents = Arrays.stream(contents)
+			.map(content -> RetrievalDocument.of(content, 1.0))
+			.toList();
+		return RetrievalContext.of("query", documents);
+	}
+}
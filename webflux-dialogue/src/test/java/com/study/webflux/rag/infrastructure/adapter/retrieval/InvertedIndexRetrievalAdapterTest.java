@@ -0,0 +1,119 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.study.webflux.rag.domain.model.conversation.ConversationTurn;
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.domain.port.out.ConversationRepository;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.Bm25Scorer;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.InvertedIndex;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.index.ShardedInvertedIndex;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexRetrievalAdapterTest {
+
+	@Mock
+	private ConversationRepository conversationRepository;
+
+	private InvertedIndexRetrievalAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		when(conversationRepository.findAll()).thenReturn(Flux.just(
+			turn("1", "weekly meeting schedule"),
+			turn("2", "meeting room booking"),
+			turn("3", "lunch menu today")
+		));
+		Bm25Scorer scorer = Bm25Scorer.defaults();
+		adapter = new InvertedIndexRetrievalAdapter(
+			conversationRepository,
+			ShardedInvertedIndex.single(scorer, new InvertedIndex(scorer))
+		);
+	}
+
+	@Test
+	void retrieve_shouldRankByMatchedTerms() {
+		StepVerifier.create(adapter.retrieve("weekly meeting", 3))
+			.assertNext(context -> {
+				assertThat(context.documents())
+					.extracting(RetrievalDocument::content)
+					.containsExactly("weekly meeting schedule", "meeting room booking");
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	void retrieve_withUnknownTerms_shouldReturnEmptyContext() {
+		StepVerifier.create(adapter.retrieve("weather forecast", 3))
+			.assertNext(context -> assertThat(context.isEmpty()).isTrue())
+			.verifyComplete();
+	}
+
+	@Test
+	void retrieve_shouldBuildIndexOnlyOnce() {
+		StepVerifier.create(adapter.retrieve("meeting", 1))
+			.expectNextCount(1)
+			.verifyComplete();
+		StepVerifier.create(adapter.retrieve("lunch", 1))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		verify(conversationRepository, times(1)).findAll();
+	}
+
+	@Test
+	void start_shouldBuildIndexBeforeFirstRetrieval() {
+		adapter.start();
+
+		verify(conversationRepository, times(1)).findAll();
+		assertThat(adapter.isRunning()).isTrue();
+		StepVerifier.create(adapter.retrieve("lunch", 1))
+			.expectNextCount(1)
+			.verifyComplete();
+		verify(conversationRepository, times(1)).findAll();
+		adapter.stop();
+	}
+
+	@Test
+	void onSaved_shouldMakeNewTurnsSearchableWithoutReload() {
+		StepVerifier.create(adapter.retrieve("meeting", 3))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		adapter.onSaved(turn("4", "quarterly roadmap review"));
+
+		StepVerifier.create(adapter.retrieve("roadmap", 3))
+			.assertNext(context -> assertThat(context.documents())
+				.extracting(RetrievalDocument::content)
+				.containsExactly("quarterly roadmap review"))
+			.verifyComplete();
+		verify(conversationRepository, times(1)).findAll();
+	}
+
+	@Test
+	void onSaved_withResponse_shouldReplacePreviousPostings() {
+		adapter.onSaved(ConversationTurn.withId("3", "lunch menu today", "kimchi stew", Instant.now()));
+
+		StepVerifier.create(adapter.retrieve("kimchi lunch", 3))
+			.assertNext(context -> assertThat(context.documents())
+				.extracting(RetrievalDocument::content)
+				.containsExactly("lunch menu today\nkimchi stew"))
+			.verifyComplete();
+	}
+
+	private ConversationTurn turn(String id, String query) {
+		return ConversationTurn.withId(id, query, null, Instant.now());
+	}
+}
@@ -0,0 +1,38 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.analysis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class AnalyzerChainTest {
+
+	private final AnalyzerChain analyzer = AnalyzerChain.standard();
+
+	@Test
+	void analyze_shouldStripKoreanParticles() {
+		assertThat(analyzer.analyze("회의는")).contains("회의");
+		assertThat(analyzer.analyze("회의를")).contains("회의");
+		assertThat(analyzer.analyze("회의에서")).contains("회의");
+	}
+
+	@Test
+	void analyze_shouldKeepSingleSyllableStemsIntact() {
+		assertThat(analyzer.analyze("나는")).contains("나는");
+		assertThat(analyzer.analyze("바다")).contains("바다");
+	}
+
+	@Test
+	void analyze_shouldEmitBigramsForCompoundHangulWords() {
+		assertThat(analyzer.analyze("주간보고")).contains("주간보고", "주간", "보고");
+	}
+
+	@Test
+	void analyze_shouldLowerCaseLatinTokensWithoutNgrams() {
+		assertThat(analyzer.analyze("Weekly MEETING")).containsExactly("weekly", "meeting");
+	}
+
+	@Test
+	void signature_shouldReflectFilterChain() {
+		assertThat(analyzer.signature()).isEqualTo("letter-digit|lowercase|korean-suffix|char-ngram(2,2)");
+	}
+}
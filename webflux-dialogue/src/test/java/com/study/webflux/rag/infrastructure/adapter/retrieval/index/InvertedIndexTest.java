@@ -0,0 +1,86 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+class InvertedIndexTest {
+
+	private InvertedIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InvertedIndex(Bm25Scorer.defaults());
+	}
+
+	@Test
+	void search_shouldPreferRareTerms() {
+		index.add("meeting agenda");
+		index.add("meeting notes");
+		index.add("meeting budget");
+
+		List<RetrievalDocument> results = index.search("meeting budget", 3);
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).content()).isEqualTo("meeting budget");
+		assertThat(results.get(0).score().value()).isGreaterThan(results.get(1).score().value());
+	}
+
+	@Test
+	void search_shouldPreferShorterDocumentsForSameTerm() {
+		index.add("release plan for the mobile app and the web client");
+		index.add("release plan");
+
+		List<RetrievalDocument> results = index.search("release", 2);
+
+		assertThat(results).extracting(RetrievalDocument::content)
+			.containsExactly("release plan", "release plan for the mobile app and the web client");
+	}
+
+	@Test
+	void search_shouldLimitResultsToTopK() {
+		for (int i = 0; i < 50; i++) {
+			index.add("shared term " + i);
+		}
+
+		List<RetrievalDocument> results = index.search("shared", 5);
+
+		assertThat(results).hasSize(5);
+		assertThat(results).allMatch(doc -> doc.score().isRelevant());
+	}
+
+	@Test
+	void search_withoutMatches_shouldReturnEmpty() {
+		index.add("hello world");
+
+		assertThat(index.search("unknown", 3)).isEmpty();
+		assertThat(index.search("hello", 0)).isEmpty();
+	}
+
+	@Test
+	void search_shouldMatchKoreanWordsAcrossParticles() {
+		index.add("주간회의는 월요일에 진행합니다");
+		index.add("점심 메뉴를 정했습니다");
+
+		List<RetrievalDocument> results = index.search("회의 일정", 2);
+
+		assertThat(results).extracting(RetrievalDocument::content)
+			.containsExactly("주간회의는 월요일에 진행합니다");
+	}
+
+	@Test
+	void upsert_shouldStopCountingReplacedDocumentTerms() {
+		index.upsert("1", "budget review");
+		index.upsert("1", "roadmap review");
+
+		assertThat(index.documentCount()).isEqualTo(1);
+		assertThat(index.search("budget", 3)).isEmpty();
+		assertThat(index.search("roadmap", 3)).extracting(RetrievalDocument::content)
+			.containsExactly("roadmap review");
+	}
+}
@@ -0,0 +1,137 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.AnalyzerChain;
+import com.study.webflux.rag.infrastructure.adapter.retrieval.analysis.LowerCaseFilter;
+
+class RetrievalIndexStoreTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void open_withoutSnapshot_shouldRequireFullLoad() {
+		RetrievalIndexStore store = new RetrievalIndexStore(directory);
+
+		InvertedIndex index = store.open(Bm25Scorer.defaults(), AnalyzerChain.standard());
+
+		assertThat(store.restored()).isFalse();
+		assertThat(index.documentCount()).isZero();
+		store.close();
+	}
+
+	@Test
+	void open_shouldRestoreSnapshotAndReplayWriteAheadTail() {
+		RetrievalIndexStore store = new RetrievalIndexStore(directory);
+		ShardedInvertedIndex index = open(store);
+		index.upsert("1", "weekly meeting schedule");
+		index.upsert("2", "lunch menu today");
+		store.checkpoint(index, 0);
+
+		index.upsert("2", "lunch menu today\nkimchi stew");
+		store.append("2", "lunch menu today\nkimchi stew");
+		index.upsert("3", "quarterly roadmap review");
+		store.append("3", "quarterly roadmap review");
+		store.close();
+
+		RetrievalIndexStore reopened = new RetrievalIndexStore(directory);
+		InvertedIndex restored = reopened.open(Bm25Scorer.defaults(), AnalyzerChain.standard());
+
+		assertThat(reopened.restored()).isTrue();
+		assertThat(restored.documentCount()).isEqualTo(3);
+		assertThat(restored.search("kimchi", 3)).extracting(RetrievalDocument::content)
+			.containsExactly("lunch menu today\nkimchi stew");
+		assertThat(restored.search("roadmap meeting", 3)).extracting(RetrievalDocument::content)
+			.containsExactlyInAnyOrder("quarterly roadmap review", "weekly meeting schedule");
+		reopened.close();
+	}
+
+	@Test
+	void checkpoint_shouldCompactReplacedDocuments() {
+		RetrievalIndexStore store = new RetrievalIndexStore(directory);
+		ShardedInvertedIndex index = open(store);
+		index.upsert("1", "first draft");
+		store.checkpoint(index, 0);
+		store.close();
+
+		RetrievalIndexStore second = new RetrievalIndexStore(directory);
+		ShardedInvertedIndex restored = open(second);
+		restored.upsert("1", "final version");
+		second.checkpoint(restored, 0);
+		second.close();
+
+		RetrievalIndexStore third = new RetrievalIndexStore(directory);
+		InvertedIndex compacted = third.open(Bm25Scorer.defaults(), AnalyzerChain.standard());
+
+		assertThat(compacted.documentCount()).isEqualTo(1);
+		assertThat(compacted.search("draft", 3)).isEmpty();
+		assertThat(compacted.search("final", 3)).extracting(RetrievalDocument::content)
+			.containsExactly("final version");
+		third.close();
+	}
+
+	@Test
+	void checkpoint_shouldRebaseLiveIndexOntoSnapshot() throws IOException {
+		RetrievalIndexStore store = new RetrievalIndexStore(directory);
+		ShardedInvertedIndex index = open(store);
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 20; i++) {
+				index.upsert(String.valueOf(i), "turn " + i + " round " + round);
+			}
+			store.checkpoint(index, 0);
+
+			InvertedIndex live = index.shard(0);
+			assertThat(live.base()).isNotNull();
+			assertThat(live.allocatedDocuments()).isEqualTo(20);
+		}
+		index.upsert("7", "turn 7 kimchi stew");
+
+		assertThat(index.documentCount()).isEqualTo(20);
+		assertThat(index.search("kimchi", 3).block()).extracting(RetrievalDocument::content)
+			.containsExactly("turn 7 kimchi stew");
+		assertThat(snapshots())
+			.containsExactly("snapshot-00000000000000000003.idx", "snapshot-00000000000000000004.idx");
+		store.close();
+	}
+
+	@Test
+	void open_withDifferentAnalyzer_shouldIgnoreSnapshot() {
+		RetrievalIndexStore store = new RetrievalIndexStore(directory);
+		ShardedInvertedIndex index = open(store);
+		index.upsert("1", "weekly meeting schedule");
+		store.checkpoint(index, 0);
+		store.close();
+
+		RetrievalIndexStore reopened = new RetrievalIndexStore(directory);
+		InvertedIndex rebuilt = reopened.open(Bm25Scorer.defaults(), new AnalyzerChain(List.of(new LowerCaseFilter())));
+
+		assertThat(reopened.restored()).isFalse();
+		assertThat(rebuilt.documentCount()).isZero();
+		reopened.close();
+	}
+
+	private ShardedInvertedIndex open(RetrievalIndexStore store) {
+		Bm25Scorer scorer = Bm25Scorer.defaults();
+		return ShardedInvertedIndex.single(scorer, store.open(scorer, AnalyzerChain.standard()));
+	}
+
+	private List<String> snapshots() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(path -> path.getFileName().toString())
+				.filter(name -> name.startsWith("snapshot-"))
+				.sorted()
+				.toList();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class ShardedInvertedIndexTest {
+
+	private final Bm25Scorer scorer = Bm25Scorer.defaults();
+	private Scheduler scheduler;
+	private ShardedInvertedIndex sharded;
+	private InvertedIndex single;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = Schedulers.newParallel("retrieval-test", 4);
+		List<InvertedIndex> shards = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			shards.add(new InvertedIndex(scorer));
+		}
+		sharded = new ShardedInvertedIndex(scorer, shards, scheduler);
+		single = new InvertedIndex(scorer);
+		for (int i = 0; i < 400; i++) {
+			String content = "turn " + i + (i % 7 == 0 ? " roadmap" : "") + (i % 11 == 0 ? " budget review" : "");
+			sharded.upsert(String.valueOf(i), content);
+			single.upsert(String.valueOf(i), content);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.dispose();
+	}
+
+	@Test
+	void search_shouldScoreWithGlobalStatistics() {
+		List<RetrievalDocument> expected = single.search("roadmap budget", 100);
+
+		StepVerifier.create(sharded.search("roadmap budget", 100))
+			.assertNext(documents -> {
+				assertThat(documents).extracting(document -> document.score().value())
+					.containsExactlyElementsOf(expected.stream().map(document -> document.score().value()).toList());
+				assertThat(documents).extracting(RetrievalDocument::content)
+					.containsExactlyInAnyOrderElementsOf(expected.stream().map(RetrievalDocument::content).toList());
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	void search_shouldKeepOnlyGlobalTopK() {
+		StepVerifier.create(sharded.search("budget", 5))
+			.assertNext(documents -> assertThat(documents).hasSize(5))
+			.verifyComplete();
+	}
+
+	@Test
+	void upsert_shouldRouteSameKeyToSameShard() {
+		sharded.upsert("7", "turn 7 replaced");
+
+		assertThat(sharded.documentCount()).isEqualTo(400);
+		StepVerifier.create(sharded.search("replaced", 3))
+			.assertNext(documents -> assertThat(documents).extracting(RetrievalDocument::content)
+				.containsExactly("turn 7 replaced"))
+			.verifyComplete();
+	}
+}
@@ -0,0 +1,84 @@
+package com.study.webflux.rag.infrastructure.adapter.retrieval.vector;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.study.webflux.rag.domain.model.rag.RetrievalDocument;
+
+class VectorIndexTest {
+
+	private static final int DIMENSIONS = 32;
+
+	@Test
+	void search_shouldFindNearestNeighbours() {
+		Random random = new Random(7);
+		VectorIndex index = new VectorIndex(DIMENSIONS, 16, 100, 64);
+		float[][] vectors = new float[2000][];
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = randomVector(random);
+			index.upsert(String.valueOf(i), "doc-" + i, vectors[i]);
+		}
+
+		int hits = 0;
+		for (int q = 0; q < 50; q++) {
+			float[] query = randomVector(random);
+			int expected = bruteForceNearest(vectors, query);
+			if (index.search(query, 1).get(0).content().equals("doc-" + expected)) {
+				hits++;
+			}
+		}
+
+		assertThat(hits).isGreaterThanOrEqualTo(45);
+	}
+
+	@Test
+	void upsert_shouldReplacePreviousVectorForSameKey() {
+		VectorIndex index = new VectorIndex(3, 4, 16, 16);
+		index.upsert("1", "north", new float[] {0f, 1f, 0f});
+		index.upsert("2", "east", new float[] {1f, 0f, 0f});
+		index.upsert("1", "up", new float[] {0f, 0f, 1f});
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search(new float[] {0f, 1f, 0f}, 3)).isEmpty();
+		assertThat(index.search(new float[] {0f, 0.1f, 1f}, 3)).extracting(RetrievalDocument::content)
+			.containsExactly("up");
+	}
+
+	@Test
+	void upsert_withWrongDimensions_shouldFail() {
+		VectorIndex index = new VectorIndex(3, 4, 16, 16);
+
+		assertThatThrownBy(() -> index.upsert("1", "content", new float[] {1f, 0f}))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static float[] randomVector(Random random) {
+		float[] vector = new float[DIMENSIONS];
+		for (int i = 0; i < DIMENSIONS; i++) {
+			vector[i] = (float)random.nextGaussian();
+		}
+		return vector;
+	}
+
+	private static int bruteForceNearest(float[][] vectors, float[] query) {
+		int best = -1;
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < vectors.length; i++) {
+			double dot = 0;
+			double norm = 0;
+			for (int d = 0; d < DIMENSIONS; d++) {
+				dot += vectors[i][d] * query[d];
+				norm += vectors[i][d] * vectors[i][d];
+			}
+			double score = dot / Math.sqrt(norm);
+			if (score > bestScore) {
+				bestScore = score;
+				best = i;
+			}
+		}
+		return best;
+	}
+}
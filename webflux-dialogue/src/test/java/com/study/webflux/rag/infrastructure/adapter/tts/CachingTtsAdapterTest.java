@@ -0,0 +1,143 @@
+package com.study.webflux.rag.infrastructure.adapter.tts;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import com.study.webflux.rag.domain.model.voice.Voice;
+import com.study.webflux.rag.domain.model.voice.VoiceSettings;
+import com.study.webflux.rag.domain.port.out.TtsPort;
+import com.study.webflux.rag.infrastructure.cache.OffHeapByteCache;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTtsAdapterTest {
+
+	@Mock
+	private TtsPort delegate;
+
+	private OffHeapByteCache audioCache;
+
+	@BeforeEach
+	void setUp() {
+		audioCache = new OffHeapByteCache(1024, 64, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void streamSynthesize_shouldReplayCachedAudioInChunks() {
+		CachingTtsAdapter adapter = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 4, 64);
+		when(delegate.streamSynthesize("네, 알겠습니다.")).thenReturn(Flux.just(new byte[] {1, 2, 3}, new byte[] {4, 5, 6}));
+
+		StepVerifier.create(adapter.streamSynthesize("네, 알겠습니다."))
+			.expectNextCount(2)
+			.verifyComplete();
+		StepVerifier.create(adapter.streamSynthesize("네, 알겠습니다."))
+			.assertNext(chunk -> assertThat(chunk).containsExactly(1, 2, 3, 4))
+			.assertNext(chunk -> assertThat(chunk).containsExactly(5, 6))
+			.verifyComplete();
+
+		verify(delegate, times(1)).streamSynthesize("네, 알겠습니다.");
+		assertThat(adapter.localHits()).isEqualTo(1);
+		assertThat(adapter.misses()).isEqualTo(1);
+	}
+
+	@Test
+	void streamSynthesize_shouldNotifyCacheHitListenerOnlyOnReplay() {
+		CachingTtsAdapter adapter = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 4, 64);
+		when(delegate.streamSynthesize("네.")).thenReturn(Flux.just(new byte[] {1, 2}));
+		AtomicInteger hits = new AtomicInteger();
+		Context context = Context.of(TtsPort.CACHE_HIT_LISTENER, (Runnable)hits::incrementAndGet);
+
+		adapter.streamSynthesize("네.").contextWrite(context).blockLast();
+		assertThat(hits).hasValue(0);
+
+		adapter.streamSynthesize("네.").contextWrite(context).blockLast();
+		assertThat(hits).hasValue(1);
+	}
+
+	@Test
+	void streamSynthesize_shouldLookUpCacheOnSubscription() {
+		CachingTtsAdapter adapter = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 4, 64);
+		when(delegate.streamSynthesize("네.")).thenReturn(Flux.just(new byte[] {1, 2}));
+
+		Flux<byte[]> assembled = adapter.streamSynthesize("네.");
+		adapter.streamSynthesize("네.").blockLast();
+
+		StepVerifier.create(assembled)
+			.assertNext(chunk -> assertThat(chunk).containsExactly(1, 2))
+			.verifyComplete();
+		verify(delegate, times(1)).streamSynthesize("네.");
+		assertThat(adapter.localHits()).isEqualTo(1);
+	}
+
+	@Test
+	void streamSynthesizeBuffers_shouldCacheAudioWithoutConsumingForwardedBuffers() {
+		CachingTtsAdapter adapter = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 8, 64);
+		NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(new UnpooledByteBufAllocator(false, true));
+		when(delegate.streamSynthesizeBuffers("네.")).thenReturn(Flux.just(
+			bufferFactory.wrap(new byte[] {1, 2, 3}),
+			bufferFactory.join(List.of(bufferFactory.wrap(new byte[] {4}), bufferFactory.wrap(new byte[] {5, 6})))));
+
+		StepVerifier.create(adapter.streamSynthesizeBuffers("네."))
+			.assertNext(buffer -> assertThat(buffer.readableByteCount()).isEqualTo(3))
+			.assertNext(buffer -> assertThat(buffer.readableByteCount()).isEqualTo(3))
+			.verifyComplete();
+
+		ByteBuffer cached = audioCache.get(SynthesisKey.of(voice(1.1), "네."));
+		byte[] audio = new byte[cached.remaining()];
+		cached.get(audio);
+		assertThat(audio).containsExactly(1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	void streamSynthesize_shouldKeyByFullVoiceIdentity() {
+		CachingTtsAdapter normal = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 4, 64);
+		CachingTtsAdapter faster = new CachingTtsAdapter(delegate, voice(1.3), audioCache, null, 4, 64);
+		when(delegate.streamSynthesize("안녕하세요.")).thenReturn(Flux.just(new byte[] {1}));
+
+		normal.streamSynthesize("안녕하세요.").blockLast();
+		faster.streamSynthesize("안녕하세요.").blockLast();
+
+		verify(delegate, times(2)).streamSynthesize("안녕하세요.");
+	}
+
+	@Test
+	void streamSynthesize_shouldNotCacheOversizedOrFailedAudio() {
+		CachingTtsAdapter adapter = new CachingTtsAdapter(delegate, voice(1.1), audioCache, null, 4, 4);
+		when(delegate.streamSynthesize("긴 문장")).thenReturn(Flux.just(new byte[] {1, 2, 3}, new byte[] {4, 5}));
+		when(delegate.streamSynthesize("실패")).thenReturn(
+			Flux.concat(Flux.just(new byte[] {1}), Flux.error(new IllegalStateException("reset"))));
+
+		adapter.streamSynthesize("긴 문장").blockLast();
+		StepVerifier.create(adapter.streamSynthesize("실패"))
+			.expectNextCount(1)
+			.expectError(IllegalStateException.class)
+			.verify();
+
+		assertThat(audioCache.size()).isZero();
+	}
+
+	private Voice voice(double speed) {
+		return Voice.builder()
+			.id("voice-1")
+			.name("adam")
+			.provider("supertone")
+			.settings(new VoiceSettings(0, 1.0, speed))
+			.build();
+	}
+}
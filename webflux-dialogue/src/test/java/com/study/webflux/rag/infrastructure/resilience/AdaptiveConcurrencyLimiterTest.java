@@ -0,0 +1,134 @@
+package com.study.webflux.rag.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	@Test
+	void execute_shouldQueueThenRejectWhenQueueIsFull() {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+		Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+		List<String> queued = new ArrayList<>();
+
+		Disposable running = limiter.execute(upstream::asFlux).subscribe();
+		Disposable waiting = limiter.execute(() -> Flux.just("queued")).subscribe(queued::add);
+
+		assertThat(limiter.snapshot().inFlight()).isEqualTo(1);
+		assertThat(limiter.snapshot().queueDepth()).isEqualTo(1);
+		StepVerifier.create(limiter.execute(() -> Flux.just("rejected")))
+			.expectError(LimitExceededException.class)
+			.verify(Duration.ofSeconds(1));
+		assertThat(limiter.snapshot().rejected()).isEqualTo(1);
+
+		upstream.tryEmitNext("done");
+		upstream.tryEmitComplete();
+
+		assertThat(queued).containsExactly("queued");
+		assertThat(limiter.snapshot().inFlight()).isZero();
+		assertThat(limiter.snapshot().queueDepth()).isZero();
+		running.dispose();
+		waiting.dispose();
+	}
+
+	@Test
+	void execute_shouldReleasePermitWhenQueuedCallerCancels() {
+		AdaptiveConcurrencyLimiter limiter = limiter(1, 4);
+		Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+
+		Disposable running = limiter.execute(upstream::asFlux).subscribe();
+		Disposable waiting = limiter.execute(() -> Flux.just("queued")).subscribe();
+		waiting.dispose();
+
+		assertThat(limiter.snapshot().queueDepth()).isZero();
+		running.dispose();
+		assertThat(limiter.snapshot().inFlight()).isZero();
+	}
+
+	@Test
+	void execute_shouldIncreaseLimitAdditivelyOnSuccess() {
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 4);
+
+		StepVerifier.create(limiter.execute(() -> Flux.just("a", "b")))
+			.expectNext("a", "b")
+			.verifyComplete();
+
+		assertThat(limiter.snapshot().limit()).isEqualTo(3);
+	}
+
+	@Test
+	void execute_shouldBackOffMultiplicativelyOnServerError() {
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 4);
+
+		StepVerifier.create(limiter.execute(() -> Flux.<String>error(status(503))))
+			.expectError(WebClientResponseException.class)
+			.verify();
+
+		assertThat(limiter.snapshot().limit()).isEqualTo(4);
+		assertThat(limiter.snapshot().inFlight()).isZero();
+	}
+
+	@Test
+	void execute_shouldBackOffOnThrottlingAndTimeouts() {
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 4);
+
+		StepVerifier.create(limiter.execute(() -> Flux.<String>error(status(429))))
+			.expectError(WebClientResponseException.class)
+			.verify();
+		IllegalStateException timeout = new IllegalStateException(new TimeoutException("first response"));
+		StepVerifier.create(limiter.execute(() -> Flux.<String>error(timeout)))
+			.expectError(IllegalStateException.class)
+			.verify();
+
+		assertThat(limiter.snapshot().limit()).isEqualTo(2);
+	}
+
+	@Test
+	void execute_shouldKeepLimitOnCallerErrorsAndCancellation() {
+		AdaptiveConcurrencyLimiter limiter = limiter(8, 4);
+
+		StepVerifier.create(limiter.execute(() -> Flux.<String>error(status(400))))
+			.expectError(WebClientResponseException.class)
+			.verify();
+		StepVerifier.create(limiter.execute(() -> Flux.<String>error(new IllegalArgumentException("bad request"))))
+			.expectError(IllegalArgumentException.class)
+			.verify();
+		limiter.execute(() -> Flux.<String>never()).subscribe().dispose();
+
+		assertThat(limiter.snapshot().limit()).isEqualTo(8);
+		assertThat(limiter.snapshot().inFlight()).isZero();
+	}
+
+	@Test
+	void execute_shouldBackOffWhenFirstElementIsSlow() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+			"test", 8, 1, 16, 0.5, Duration.ofMillis(10), 4, Duration.ofSeconds(1));
+
+		StepVerifier.create(limiter.execute(() -> Flux.just("slow").delayElements(Duration.ofMillis(50))))
+			.expectNext("slow")
+			.verifyComplete();
+
+		assertThat(limiter.snapshot().limit()).isEqualTo(4);
+	}
+
+	private WebClientResponseException status(int status) {
+		return new WebClientResponseException(status, "status " + status, null, null, null);
+	}
+
+	private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue) {
+		return new AdaptiveConcurrencyLimiter(
+			"test", initialLimit, 1, 16, 0.5, Duration.ofSeconds(5), maxQueue, Duration.ofSeconds(5));
+	}
+}
@@ -0,0 +1,93 @@
+package com.study.webflux.rag.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger primaryCalls = new AtomicInteger();
+
+	private CircuitBreaker breaker;
+
+	@BeforeEach
+	void setUp() {
+		breaker = new CircuitBreaker("test", 0.5, 4, 4, Duration.ofSeconds(10), 2, Duration.ofSeconds(5), now::get);
+	}
+
+	@Test
+	void execute_shouldOpenAfterFailureRateAndShortCircuitToFallback() {
+		for (int i = 0; i < 4; i++) {
+			StepVerifier.create(breaker.execute(this::failing, () -> Flux.just("fallback")))
+				.expectNext("fallback")
+				.verifyComplete();
+		}
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		StepVerifier.create(breaker.execute(this::failing, () -> Flux.just("fallback")))
+			.expectNext("fallback")
+			.verifyComplete();
+
+		assertThat(primaryCalls).hasValue(4);
+		assertThat(breaker.snapshot().shortCircuited()).isEqualTo(1);
+	}
+
+	@Test
+	void execute_shouldCloseAfterSuccessfulHalfOpenProbes() {
+		openBreaker();
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		StepVerifier.create(breaker.execute(() -> Flux.just("a"), () -> Flux.just("fallback")))
+			.expectNext("a")
+			.verifyComplete();
+		StepVerifier.create(breaker.execute(() -> Flux.just("b"), () -> Flux.just("fallback")))
+			.expectNext("b")
+			.verifyComplete();
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void execute_shouldReopenWhenHalfOpenProbeFails() {
+		openBreaker();
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		StepVerifier.create(breaker.execute(this::failing, () -> Flux.just("fallback")))
+			.expectNext("fallback")
+			.verifyComplete();
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void execute_shouldNotFallBackOnceTokensWereEmitted() {
+		StepVerifier.create(breaker.execute(
+				() -> Flux.concat(Flux.just("partial"), Flux.error(new IllegalStateException("reset"))),
+				() -> Flux.just("fallback")))
+			.expectNext("partial")
+			.expectError(IllegalStateException.class)
+			.verify();
+	}
+
+	private void openBreaker() {
+		for (int i = 0; i < 4; i++) {
+			breaker.execute(this::failing, Flux::empty).blockLast();
+		}
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	private Flux<String> failing() {
+		primaryCalls.incrementAndGet();
+		return Flux.error(new IllegalStateException("503"));
+	}
+}